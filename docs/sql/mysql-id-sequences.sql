@@ -0,0 +1,30 @@
+-- 운영(MySQL) ID 시퀀스 테이블 생성 및 초기값 설정
+--
+-- 엔티티 ID를 IDENTITY에서 풀링 시퀀스(@SequenceGenerator, allocationSize 50)로 바꾼 뒤
+-- prod 프로필(ddl-auto: validate)로 기동하기 전에 한 번 실행한다.
+-- MySQL에는 시퀀스가 없으므로 Hibernate는 같은 이름의 단일 행 테이블(next_val)로 시퀀스를 대신한다.
+--
+-- 주의: 기존 데이터가 있는 테이블의 시퀀스를 1부터 시작하면 첫 INSERT부터 기본 키가 중복된다.
+-- next_val은 반드시 MAX(id)보다 커야 하며, 풀링 옵티마이저가 (next_val - 49)부터 ID를 배정할 수 있으므로
+-- MAX(id) + 51 이상으로 설정한다. 실행 중에는 애플리케이션 쓰기를 멈춘다.
+
+CREATE TABLE IF NOT EXISTS book_seq (next_val BIGINT);
+CREATE TABLE IF NOT EXISTS member_seq (next_val BIGINT);
+CREATE TABLE IF NOT EXISTS loan_seq (next_val BIGINT);
+CREATE TABLE IF NOT EXISTS orders_seq (next_val BIGINT);
+CREATE TABLE IF NOT EXISTS order_item_seq (next_val BIGINT);
+CREATE TABLE IF NOT EXISTS outbox_message_seq (next_val BIGINT);
+
+DELETE FROM book_seq;
+DELETE FROM member_seq;
+DELETE FROM loan_seq;
+DELETE FROM orders_seq;
+DELETE FROM order_item_seq;
+DELETE FROM outbox_message_seq;
+
+INSERT INTO book_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM book;
+INSERT INTO member_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM member;
+INSERT INTO loan_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM loan;
+INSERT INTO orders_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM orders;
+INSERT INTO order_item_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM order_item;
+INSERT INTO outbox_message_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM outbox_message;
@@ -0,0 +1,18 @@
+package com.example.spring.aop;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 잠금 충돌 시 메서드 전체를 새 트랜잭션으로 다시 실행
+ * - @Transactional 메서드에 함께 선언 (OptimisticRetryAspect가 트랜잭션 바깥에서 감쌈)
+ * - 재시도 횟수/대기 시간은 bookstore.optimistic-retry에서 설정
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OptimisticRetry {
+}
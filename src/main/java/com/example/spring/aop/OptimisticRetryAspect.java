@@ -0,0 +1,86 @@
+package com.example.spring.aop;
+
+import com.example.spring.config.BookstoreProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @OptimisticRetry 메서드의 낙관적 잠금 충돌 재시도
+ * - 트랜잭션 인터셉터보다 바깥에서 실행되어 재시도마다 새 트랜잭션에서 최신 버전을 다시 읽고 수정
+ * - 충돌이 이어지면 지수 백오프 + 지터로 대기하여 같은 행에 몰린 쓰기가 다시 한꺼번에 부딪히지 않도록 분산
+ * - 최대 시도 횟수를 넘으면 마지막 예외를 그대로 던짐 (GlobalExceptionHandler에서 409)
+ * - 이미 바깥 트랜잭션 안에서 호출되면 재시도해도 같은 트랜잭션이 롤백 전용이므로 재시도하지 않음
+ * - 메트릭: optimistic.lock.conflicts{method}, optimistic.lock.retries.exhausted{method}
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OptimisticRetryAspect {
+
+    private final BookstoreProperties.OptimisticRetry settings;
+    private final MeterRegistry meterRegistry;
+
+    public OptimisticRetryAspect(BookstoreProperties properties, MeterRegistry meterRegistry) {
+        this.settings = properties.getOptimisticRetry();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(com.example.spring.aop.OptimisticRetry)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                counter("optimistic.lock.conflicts", method).increment();
+                if (attempt >= settings.getMaxAttempts()) {
+                    counter("optimistic.lock.retries.exhausted", method).increment();
+                    log.warn("낙관적 잠금 충돌 재시도 초과 - 메서드: {}, 시도: {}", method, attempt);
+                    throw e;
+                }
+                Duration backoff = backoff(attempt);
+                log.debug("낙관적 잠금 충돌, 재시도 - 메서드: {}, 시도: {}, 대기: {}ms", method, attempt, backoff.toMillis());
+                LockSupport.parkNanos(backoff.toNanos());
+                if (Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * initialBackoff × 2^(attempt - 1)을 상한으로 한 무작위 대기 (full jitter)
+     */
+    Duration backoff(int attempt) {
+        long ceiling = settings.getInitialBackoff().toNanos() << Math.min(attempt - 1, 20);
+        long capped = Math.min(ceiling, settings.getMaxBackoff().toNanos());
+        return Duration.ofNanos(ThreadLocalRandom.current().nextLong(capped / 2, capped + 1));
+    }
+
+    private Counter counter(String name, String method) {
+        return Counter.builder(name)
+                .description("낙관적 잠금 충돌")
+                .tag("method", method)
+                .register(meterRegistry);
+    }
+}
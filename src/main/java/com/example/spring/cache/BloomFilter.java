@@ -0,0 +1,110 @@
+package com.example.spring.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 블룸 필터 (스레드 안전)
+ * - mightContain이 false면 넣은 적 없는 값이 확실하고, true면 넣었을 가능성이 있음 (오탐 가능, 미탐 없음)
+ * - 비트 수/해시 수는 예상 원소 수와 목표 오탐률로 계산하며, 해시는 64비트 해시 하나로 이중 해싱
+ * - 삭제는 지원하지 않으므로 삭제된 값은 재구축 전까지 양성으로 남음
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final AtomicLong approximateSize = new AtomicLong();
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("예상 원소 수는 1 이상이어야 합니다: " + expectedInsertions);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = Math.toIntExact((bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    /**
+     * @return 새로 설정된 비트가 있으면 true (처음 넣는 값일 가능성이 높음)
+     */
+    public boolean put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0xC2B2AE3D27D4EB4FL) | 1;
+        boolean changed = false;
+        long combined = hash1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = (combined & Long.MAX_VALUE) % bitCount;
+            long mask = 1L << index;
+            long previous = words.getAndAccumulate((int) (index >>> 6), mask, (word, bit) -> word | bit);
+            changed |= (previous & mask) == 0;
+            combined += hash2;
+        }
+        if (changed) {
+            approximateSize.incrementAndGet();
+        }
+        return changed;
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0xC2B2AE3D27D4EB4FL) | 1;
+        long combined = hash1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = (combined & Long.MAX_VALUE) % bitCount;
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+            combined += hash2;
+        }
+        return true;
+    }
+
+    /**
+     * 넣은 값 수의 근사치 (중복 값은 대부분 제외)
+     */
+    public long approximateSize() {
+        return approximateSize.get();
+    }
+
+    /**
+     * 예상 원소 수를 넘어 오탐률이 목표보다 높아진 상태
+     */
+    public boolean isSaturated() {
+        return approximateSize.get() > expectedInsertions;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    // FNV-1a로 문자를 섞은 뒤 MurmurHash3 finalizer로 비트를 고르게 분산
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.spring.cache;
+
+import com.example.spring.dto.response.BookResponse;
+import com.example.spring.entity.Book;
+import com.example.spring.event.BookChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 도서 상세 조회 캐시 (Read-Through)
+ * - books 캐시에 ID → BookResponse, "isbn:" + ISBN → ID 를 함께 저장
+ * - 관리 엔티티가 아닌 불변 BookResponse 스냅샷만 캐시
+ * - 도서 변경이 커밋되면 BookChangedEvent로 해당 ID/ISBN 항목만 무효화
+ * - ISBN 변경 등으로 남은 오래된 ISBN 항목은 조회 시 ISBN 불일치로 감지하여 제거
+ * - 무효화 세대(EvictionGenerations)로 커밋 전에 읽은 값이 무효화 뒤에 저장되는 경쟁을 막음
+ * - 같은 ID의 동시 캐시 미스는 SingleFlight로 한 번만 조회 (조회를 시작한 요청만 세대를 확인해 저장)
+ */
+@Slf4j
+@Component
+public class BookDetailCache {
+
+    public static final String CACHE_NAME = "books";
+    private static final String ISBN_KEY_PREFIX = "isbn:";
+
+    private final Cache cache;
+    private final SingleFlight singleFlight;
+    private final EvictionGenerations generations = new EvictionGenerations();
+    // ISBN 조회는 조회 전에는 ID를 모르고 ISBN 변경 시 이전 ISBN 항목은 무효화되지 않으므로, 모든 무효화를 세는 세대를 사용
+    private final AtomicLong evictions = new AtomicLong();
+
+    public BookDetailCache(CacheManager cacheManager, SingleFlight singleFlight) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.singleFlight = singleFlight;
+    }
+
+    /**
+     * ID로 조회 (미스 시 loader로 조회 후 저장, 결과가 없으면 저장하지 않음)
+     */
+    public Optional<BookResponse> getById(Long id, Function<Long, Optional<BookResponse>> loader) {
+        BookResponse cached = cache.get(id, BookResponse.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return singleFlight.execute("book", id, () -> {
+            long generation = generations.current(id);
+            Optional<BookResponse> loaded = loader.apply(id);
+            loaded.ifPresent(response -> {
+                put(response);
+                if (!generations.unchanged(id, generation)) {
+                    remove(response);
+                }
+            });
+            return loaded;
+        });
+    }
+
+    /**
+     * ISBN으로 조회 (ISBN → ID 보조 키를 거쳐 ID 항목 사용)
+     */
+    public Optional<BookResponse> getByIsbn(String isbn, Function<String, Optional<BookResponse>> loader) {
+        String isbnKey = ISBN_KEY_PREFIX + isbn;
+        Long id = cache.get(isbnKey, Long.class);
+        if (id != null) {
+            BookResponse cached = cache.get(id, BookResponse.class);
+            if (cached != null && isbn.equals(cached.getIsbn())) {
+                return Optional.of(cached);
+            }
+            cache.evict(isbnKey);
+        }
+        long generation = evictions.get();
+        Optional<BookResponse> loaded = loader.apply(isbn);
+        loaded.ifPresent(response -> {
+            put(response);
+            if (evictions.get() != generation) {
+                remove(response);
+            }
+        });
+        return loaded;
+    }
+
+    public void put(BookResponse response) {
+        cache.put(response.getId(), response);
+        cache.put(ISBN_KEY_PREFIX + response.getIsbn(), response.getId());
+    }
+
+    public void evict(Long id, String isbn) {
+        evictions.incrementAndGet();
+        if (id != null) {
+            generations.advance(id);
+            cache.evict(id);
+        }
+        if (isbn != null) {
+            cache.evict(ISBN_KEY_PREFIX + isbn);
+        }
+    }
+
+    /**
+     * 조회 중 무효화가 있었으면 방금 저장한 항목을 다시 제거 (커밋 전에 읽은 값일 수 있음)
+     */
+    private void remove(BookResponse response) {
+        cache.evict(response.getId());
+        cache.evict(ISBN_KEY_PREFIX + response.getIsbn());
+    }
+
+    /**
+     * 커밋된 도서 변경 사항에 해당하는 항목 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        Book book = event.getBook();
+        log.debug("도서 캐시 무효화 - ID: {}, 변경 유형: {}", book.getId(), event.getChangeType());
+        evict(book.getId(), book.getIsbn());
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.spring.cache;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.event.MemberRegisteredEvent;
+import com.example.spring.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Consumer;
+
+/**
+ * 회원 이메일 존재 여부 사전 확인 필터
+ * - 가입 시 MemberRegisteredEvent로, 이메일 변경 시 MemberServiceImpl의 putAfterCommit으로 갱신
+ * - 탈퇴/변경 전 이메일은 정기 재구축 전까지 양성으로 남아 DB로 확인됨
+ */
+@Component
+public class EmailFilter extends UniqueKeyFilter {
+
+    private final MemberRepository memberRepository;
+
+    public EmailFilter(MemberRepository memberRepository, BookstoreProperties properties, MeterRegistry meterRegistry) {
+        super("email", properties, meterRegistry);
+        this.memberRepository = memberRepository;
+    }
+
+    @Override
+    protected long countKeys() {
+        return memberRepository.countAll();
+    }
+
+    @Override
+    protected void loadKeys(int fetchSize, Consumer<String> sink) {
+        memberRepository.forEachEmail(fetchSize, sink);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberRegistered(MemberRegisteredEvent event) {
+        put(event.getMember().getEmail());
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.spring.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 키별 무효화 세대 (Read-Through 캐시의 오래된 값 저장 방지)
+ * - 무효화할 때마다 키의 세대를 올리고, 조회 전에 읽은 세대가 저장 직후에도 같을 때만 저장한 값을 유지
+ * - 커밋 전에 읽은 값을 커밋 후 무효화가 끝난 뒤에 저장하면 TTL 동안 오래된 값이 남는 경쟁을 막음
+ * - 키를 고정 개수의 슬롯에 나눠 담으므로 메모리가 일정하며, 슬롯 충돌은 저장을 한 번 건너뛸 뿐 정확성에 영향 없음
+ */
+final class EvictionGenerations {
+
+    private static final int SLOTS = 4096;
+
+    private final AtomicLongArray generations = new AtomicLongArray(SLOTS);
+
+    /**
+     * 조회 시작 전 세대
+     */
+    long current(Object key) {
+        return generations.get(slot(key));
+    }
+
+    /**
+     * 무효화 - 캐시에서 제거하기 전에 호출 (진행 중인 조회가 저장하지 않도록)
+     */
+    void advance(Object key) {
+        generations.incrementAndGet(slot(key));
+    }
+
+    /**
+     * 조회 후 저장한 값이 유효한지 (저장 직후 호출, false면 호출한 쪽에서 저장한 값을 제거)
+     * - 무효화가 저장보다 먼저 끝났다면 세대가 바뀌어 false
+     * - 저장 이후의 무효화는 저장한 값을 직접 제거하므로 확인하지 않아도 됨
+     */
+    boolean unchanged(Object key, long generation) {
+        return generations.get(slot(key)) == generation;
+    }
+
+    private static int slot(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (SLOTS - 1);
+    }
+}
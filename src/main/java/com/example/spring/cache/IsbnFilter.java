@@ -0,0 +1,41 @@
+package com.example.spring.cache;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.event.BookChangedEvent;
+import com.example.spring.repository.BookRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Consumer;
+
+/**
+ * 도서 ISBN 존재 여부 사전 확인 필터
+ * - existsByIsbn은 삭제된 도서도 포함하므로 필터도 삭제 여부와 관계없이 모든 ISBN을 담음
+ * - 단건 등록/수정/대량 가져오기 모두 BookChangedEvent를 발행하므로 커밋된 이벤트로 갱신
+ */
+@Component
+public class IsbnFilter extends UniqueKeyFilter {
+
+    private final BookRepository bookRepository;
+
+    public IsbnFilter(BookRepository bookRepository, BookstoreProperties properties, MeterRegistry meterRegistry) {
+        super("isbn", properties, meterRegistry);
+        this.bookRepository = bookRepository;
+    }
+
+    @Override
+    protected long countKeys() {
+        return bookRepository.countBooks().total();
+    }
+
+    @Override
+    protected void loadKeys(int fetchSize, Consumer<String> sink) {
+        bookRepository.forEachIsbn(fetchSize, sink);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        put(event.getBook().getIsbn());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.spring.cache;
+
+import com.example.spring.dto.response.MemberLoanLimitInfo;
+import com.example.spring.event.LoanChangedEvent;
+import com.example.spring.event.MembershipUpgradedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Function;
+
+/**
+ * 회원 대여 제한 정보 캐시 (Read-Through)
+ * - memberLoanLimits 캐시에 회원 ID → MemberLoanLimitInfo 저장
+ * - 대여/반납(LoanChangedEvent), 멤버십 변경(MembershipUpgradedEvent)이 커밋되면 해당 회원 항목만 무효화
+ * - 회원 정보 수정/삭제 시에는 MemberServiceImpl에서 @CacheEvict로 무효화
+ * - 무효화 세대(EvictionGenerations)로 커밋 전에 센 대여 권수가 무효화 뒤에 저장되는 경쟁을 막음
+ *   (오래된 권수가 남으면 대여 한도를 넘겨 대여할 수 있음)
+ */
+@Slf4j
+@Component
+public class MemberLoanLimitCache {
+
+    public static final String CACHE_NAME = "memberLoanLimits";
+
+    private final Cache cache;
+    private final EvictionGenerations generations = new EvictionGenerations();
+
+    public MemberLoanLimitCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    /**
+     * 회원 ID로 조회 (미스 시 loader로 계산 후 저장)
+     */
+    public MemberLoanLimitInfo get(Long memberId, Function<Long, MemberLoanLimitInfo> loader) {
+        MemberLoanLimitInfo cached = cache.get(memberId, MemberLoanLimitInfo.class);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = generations.current(memberId);
+        MemberLoanLimitInfo loaded = loader.apply(memberId);
+        cache.put(memberId, loaded);
+        if (!generations.unchanged(memberId, generation)) {
+            // 조회 중 커밋된 대여/반납이 있음 - 방금 저장한 값은 커밋 전 권수일 수 있음
+            cache.evict(memberId);
+        }
+        return loaded;
+    }
+
+    public void evict(Long memberId) {
+        generations.advance(memberId);
+        cache.evict(memberId);
+    }
+
+    /**
+     * 커밋된 대여 변경 - 해당 회원의 대여 중 권수가 바뀜
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoanChanged(LoanChangedEvent event) {
+        log.debug("대여 제한 캐시 무효화 - 회원ID: {}, 대여ID: {}", event.getMemberId(), event.getLoanId());
+        evict(event.getMemberId());
+    }
+
+    /**
+     * 커밋된 멤버십 변경 - 최대 대여 권수가 바뀜
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipUpgraded(MembershipUpgradedEvent event) {
+        log.debug("대여 제한 캐시 무효화 - 회원ID: {}, 멤버십: {} → {}",
+                event.getMember().getId(), event.getPreviousType(), event.getNewType());
+        evict(event.getMember().getId());
+    }
+}
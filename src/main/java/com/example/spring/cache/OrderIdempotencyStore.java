@@ -0,0 +1,140 @@
+package com.example.spring.cache;
+
+import com.example.spring.entity.Order;
+import com.example.spring.exception.IdempotencyKeyReusedException;
+import com.example.spring.exception.InvalidIdempotencyKeyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 주문 생성 멱등성 키 저장소 (POST /api/orders의 Idempotency-Key 헤더)
+ * - orderIdempotency 캐시에 키 → (요청 도서 ID 목록, 주문 ID)만 저장하고, 재요청에는 주문을 다시 조회해 같은 응답을 반환
+ *   (최대 크기/보관 기간은 bookstore.cache.specs에서 설정)
+ * - 같은 키의 요청이 처리 중이면 새로 주문을 만들지 않고 먼저 온 요청이 끝날 때까지 대기
+ * - 주문 생성에 실패하면 저장하지 않으므로 같은 키로 다시 시도할 수 있음
+ * - 인스턴스 로컬 저장소이므로 같은 키의 재시도가 다른 인스턴스로 가면 중복을 막지 못함
+ * - 메트릭: idempotency.requests{result=executed|joined|replayed}
+ */
+@Component
+public class OrderIdempotencyStore {
+
+    public static final String CACHE_NAME = "orderIdempotency";
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache cache;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+
+    public OrderIdempotencyStore(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 키당 한 번만 주문 생성
+     *
+     * @param key Idempotency-Key 헤더 값
+     * @param bookIds 요청 본문 (같은 키로 다른 본문을 보내면 IdempotencyKeyReusedException)
+     * @param createOrder 처음 온 요청에서만 실행
+     * @param loader 이미 처리된 키의 주문 조회
+     */
+    public Result execute(String key, List<Long> bookIds,
+                          Supplier<Order> createOrder, Function<Long, Order> loader) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(key);
+        }
+        List<Long> fingerprint = fingerprint(bookIds);
+
+        Entry completed = cache.get(key, Entry.class);
+        if (completed != null) {
+            return replay(key, fingerprint, completed, loader, "replayed");
+        }
+
+        CompletableFuture<Entry> flight = new CompletableFuture<>();
+        CompletableFuture<Entry> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return replay(key, fingerprint, await(existing), loader, "joined");
+        }
+
+        try {
+            // 캐시 확인과 등록 사이에 먼저 온 요청이 끝났을 수 있음
+            completed = cache.get(key, Entry.class);
+            if (completed != null) {
+                flight.complete(completed);
+                return replay(key, fingerprint, completed, loader, "replayed");
+            }
+
+            Order order = createOrder.get();
+            Entry entry = new Entry(fingerprint, order.getId());
+            cache.put(key, entry);        // inFlight에서 제거하기 전에 저장해야 뒤이은 요청이 다시 실행하지 않음
+            flight.complete(entry);
+            counter("executed").increment();
+            return new Result(order, false);
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Result replay(String key, List<Long> fingerprint, Entry entry, Function<Long, Order> loader, String result) {
+        if (!entry.bookIds().equals(fingerprint)) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+        counter(result).increment();
+        return new Result(loader.apply(entry.orderId()), true);
+    }
+
+    private static Entry await(CompletableFuture<Entry> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // 먼저 온 요청의 예외를 그대로 전달 (저장되지 않았으므로 클라이언트가 다시 시도 가능)
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    // 요청 순서까지 같은 도서 ID 목록이면 같은 요청으로 간주
+    // (해시만 비교하면 [0, 32]와 [1, 1]처럼 충돌하는 다른 본문에 엉뚱한 주문을 재생하므로 목록 자체를 비교)
+    private static List<Long> fingerprint(List<Long> bookIds) {
+        return bookIds == null ? List.of() : Collections.unmodifiableList(new ArrayList<>(bookIds));
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("idempotency.requests")
+                .description("멱등성 키 요청 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param replayed true면 이전 요청의 결과를 다시 반환한 것
+     */
+    public record Result(Order order, boolean replayed) {
+    }
+
+    // 캐시 항목 - 키당 요청 도서 ID 목록과 주문 ID만 보관
+    record Entry(List<Long> bookIds, Long orderId) {
+    }
+}
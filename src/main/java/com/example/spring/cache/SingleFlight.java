@@ -0,0 +1,82 @@
+package com.example.spring.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키 동시 조회 병합 (Single-Flight)
+ * - 같은 키에 대한 조회가 진행 중이면 새로 DB를 조회하지 않고 진행 중인 결과를 함께 사용
+ * - 캐시 미스가 한꺼번에 몰리는 경우(인기 도서 링크 등) DB 부하를 키당 1회로 제한
+ * - 메트릭: singleflight.loads{name, result=executed|collapsed}
+ */
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param name 조회 종류 (메트릭 태그 및 키 구분용)
+     * @param key 조회 키
+     * @param loader 실제 조회 (진행 중인 조회가 없을 때만 실행)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Supplier<T> loader) {
+        FlightKey flightKey = new FlightKey(name, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            counter(name, "collapsed").increment();
+            return (T) await(existing);
+        }
+
+        counter(name, "executed").increment();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // 먼저 시작한 조회의 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(String name, String result) {
+        return Counter.builder("singleflight.loads")
+                .description("동시 조회 병합 결과")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record FlightKey(String name, Object key) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.spring.cache;
+
+import com.example.spring.config.BookstoreProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * 유니크 키 존재 여부 사전 확인 (블룸 필터)
+ * - mightContain이 false면 DB에 없는 키가 확실하므로 COUNT 쿼리를 생략하고, true일 때만 기존 쿼리로 확인
+ * - 기동 시 DB의 전체 키로 구축하고, 이후에는 커밋된 쓰기를 put으로 반영
+ * - 구축 전이거나 비활성화된 경우 항상 true를 반환하여 기존처럼 DB로 확인
+ * - 키는 소문자로 정규화 (DB 콜레이션이 대소문자를 구분하지 않아도 미탐이 생기지 않도록)
+ * - 메트릭: uniqueness.filter.checks{name, result=negative|positive}
+ */
+@Slf4j
+public abstract class UniqueKeyFilter {
+
+    private final String name;
+    private final BookstoreProperties.UniquenessFilter settings;
+    private final MeterRegistry meterRegistry;
+
+    private volatile BloomFilter current;     // null이면 구축 전
+    private volatile BloomFilter building;    // 재구축 중 커밋된 키를 새 필터에도 반영
+    private volatile long builtAt;
+
+    protected UniqueKeyFilter(String name, BookstoreProperties properties, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.settings = properties.getUniquenessFilter();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 재구축 크기 산정용 전체 키 수
+     */
+    protected abstract long countKeys();
+
+    /**
+     * DB의 모든 키를 순서대로 전달
+     */
+    protected abstract void loadKeys(int fetchSize, Consumer<String> sink);
+
+    /**
+     * @return false면 DB에 없는 키가 확실함, true면 DB 확인 필요
+     */
+    public boolean mightContain(String key) {
+        BloomFilter filter = current;
+        if (filter == null || key == null) {
+            return true;
+        }
+        boolean result = filter.mightContain(normalize(key));
+        meterRegistry.counter("uniqueness.filter.checks",
+                "name", name, "result", result ? "positive" : "negative").increment();
+        return result;
+    }
+
+    /**
+     * 커밋된 키 반영
+     * - 재구축 중이면 새 필터에 먼저 기록한 뒤 현재 필터에 기록
+     *   (building이 비어 있으면 재구축이 시작 전이라 커밋된 키가 새로 읽히거나, 이미 교체가 끝난 상태)
+     */
+    public void put(String key) {
+        if (key == null) {
+            return;
+        }
+        String normalized = normalize(key);
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(normalized);
+        }
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(normalized);
+        }
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋 후 반영, 없으면 즉시 반영
+     * - 커밋 전에 반영하면 재구축과 겹칠 때 롤백된 키가 남거나 커밋된 키가 누락될 수 있음
+     */
+    public void putAfterCommit(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(key);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // 필터 없이도 DB로 확인하므로 기동은 계속 진행 (다음 주기에 재시도하지 않고 구축 전 상태 유지)
+            log.warn("유니크 키 필터 구축 실패 - 이름: {}, 사유: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 포화(예상 원소 수 초과) 또는 정기 재구축 주기가 지난 경우 재구축
+     */
+    @Scheduled(fixedDelayString = "${bookstore.uniqueness-filter.check-interval:PT1M}",
+               initialDelayString = "${bookstore.uniqueness-filter.check-interval:PT1M}")
+    public void rebuildIfNeeded() {
+        BloomFilter filter = current;
+        if (filter == null) {
+            return;
+        }
+        if (filter.isSaturated()) {
+            log.info("유니크 키 필터 포화 - 이름: {}, 원소 수: {}", name, filter.approximateSize());
+            rebuild();
+        } else if (System.currentTimeMillis() - builtAt >= settings.getRebuildInterval().toMillis()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB의 전체 키로 새 필터를 만든 뒤 교체 (재구축 중에도 기존 필터로 계속 응답)
+     */
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        long capacity = Math.max(settings.getMinCapacity(), countKeys() * 2);
+        BloomFilter next = new BloomFilter(capacity, settings.getFalsePositiveRate());
+        building = next;
+        try {
+            loadKeys(settings.getFetchSize(), key -> next.put(normalize(key)));
+            current = next;
+            builtAt = System.currentTimeMillis();
+        } finally {
+            building = null;
+        }
+        log.info("유니크 키 필터 구축 완료 - 이름: {}, 원소 수: {}, 용량: {}, 비트: {}, 해시: {}, 소요: {}ms",
+                name, next.approximateSize(), capacity, next.getBitCount(), next.getHashCount(),
+                System.currentTimeMillis() - start);
+    }
+
+    public boolean isBuilt() {
+        return current != null;
+    }
+
+    private static String normalize(String key) {
+        return key.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.spring.config;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -9,7 +11,11 @@ import java.util.concurrent.Executor;
 
 /**
  * 비동기 처리 설정
+ * - bookstore.async.mode로 실행 방식 선택
+ *   PLATFORM: 고정 크기 스레드 풀 (스레드 수 × 큐 크기를 넘는 동시 작업은 거부)
+ *   VIRTUAL: 작업마다 가상 스레드 생성 (이메일 발송처럼 대기 시간이 긴 작업을 풀 크기 제한 없이 처리)
  */
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig {
@@ -18,27 +24,37 @@ public class AsyncConfig {
      * 이메일 발송용 비동기 Executor
      */
     @Bean(name = "emailTaskExecutor")
-    public Executor emailTaskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("Email-");
-        executor.initialize();
-        return executor;
+    public Executor emailTaskExecutor(BookstoreProperties properties) {
+        return executor(properties.getAsync(), "Email-", 2, 5, 100);
     }
 
     /**
      * 기본 비동기 Executor
      */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(BookstoreProperties properties) {
+        return executor(properties.getAsync(), "Async-", 5, 10, 200);
+    }
+
+    private static Executor executor(BookstoreProperties.Async async, String threadNamePrefix,
+                                     int corePoolSize, int maxPoolSize, int queueCapacity) {
+        if (async.getMode() == BookstoreProperties.Async.ExecutorMode.VIRTUAL) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(async.getVirtualConcurrencyLimit());
+            log.info("비동기 Executor 등록 - 이름: {}, 방식: VIRTUAL, 동시 실행 상한: {}",
+                    threadNamePrefix, async.getVirtualConcurrencyLimit());
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(200);
-        executor.setThreadNamePrefix("Async-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
         executor.initialize();
+        log.info("비동기 Executor 등록 - 이름: {}, 방식: PLATFORM, 스레드: {}~{}, 큐: {}",
+                threadNamePrefix, corePoolSize, maxPoolSize, queueCapacity);
         return executor;
     }
-}
\ No newline at end of file
+}
@@ -1,18 +1,33 @@
 package com.example.spring.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.context.annotation.Configuration;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * 타입 안전한 설정 관리
+ * - SpringBookstoreApplication의 @EnableConfigurationProperties로 등록
  */
-@Configuration
 @ConfigurationProperties(prefix = "bookstore")
 @Data
 public class BookstoreProperties {
     private Email email = new Email();
     private Order order = new Order();
+    private Search search = new Search();
+    private Statistics statistics = new Statistics();
+    private Cache cache = new Cache();
+    private CatalogImport catalogImport = new CatalogImport();
+    private CatalogExport catalogExport = new CatalogExport();
+    private UniquenessFilter uniquenessFilter = new UniquenessFilter();
+    private MemberList memberList = new MemberList();
+    private Async async = new Async();
+    private Outbox outbox = new Outbox();
+    private OptimisticRetry optimisticRetry = new OptimisticRetry();
 
     @Data
     public static class Email {
@@ -33,5 +48,109 @@ public class BookstoreProperties {
     public static class Order {
         private int maxBooksPerOrder = 10;
         private double defaultDiscountRate = 0.0;
+        private GroupCommit groupCommit = new GroupCommit();
+
+        @Data
+        public static class GroupCommit {
+            private boolean enabled = false;                          // true면 주문 생성 요청을 모아 한 트랜잭션으로 커밋
+            private int maxBatchSize = 100;                           // 한 번에 커밋하는 최대 주문 수
+            private Duration maxDelay = Duration.ofMillis(5);        // 첫 주문 도착 후 배치를 채우려고 기다리는 최대 시간
+            private int queueCapacity = 10_000;                       // 대기 주문 수 상한 (초과 시 즉시 거부)
+        }
+    }
+
+    @Data
+    public static class Search {
+        private boolean enabled = true;          // 검색 색인 사용 여부 (false면 DB LIKE 검색)
+        private int rebuildBatchSize = 1000;     // 색인 재구축 시 배치 조회 크기
+        private Mode mode = Mode.WORD;           // 색인 방식
+        private int ngramSize = 2;               // NGRAM 모드의 n-gram 크기 (2 또는 3)
+
+        public enum Mode {
+            WORD,   // 단어 접두어 매칭
+            NGRAM   // 한글 인식 n-gram (부분 문자열, 초성, 입력 중인 음절)
+        }
+    }
+
+    @Data
+    public static class Statistics {
+        private Duration reconcileInterval = Duration.ofMinutes(5);  // 통계 카운터를 COUNT 쿼리로 보정하는 주기
+    }
+
+    @Data
+    public static class CatalogImport {
+        private int chunkSize = 1000;            // 한 트랜잭션에서 중복 검사/INSERT하는 행 수
+        private int maxReportedErrors = 1000;    // 리포트에 남기는 실패 행 최대 개수
+    }
+
+    @Data
+    public static class CatalogExport {
+        private int fetchSize = 1000;            // 커서 fetch 크기이자 영속성 컨텍스트/출력 버퍼를 비우는 주기
+    }
+
+    @Data
+    public static class UniquenessFilter {
+        private boolean enabled = true;                               // false면 필터를 만들지 않고 항상 DB로 중복 확인
+        private double falsePositiveRate = 0.01;                      // 목표 오탐률 (오탐 시에만 DB 조회)
+        private long minCapacity = 10_000;                            // 필터 최소 용량 (예상 원소 수)
+        private int fetchSize = 1000;                                 // 재구축 시 키를 읽는 커서 fetch 크기
+        private Duration checkInterval = Duration.ofMinutes(1);      // 포화 여부 확인 주기 (포화 시 2배 용량으로 재구축)
+        private Duration rebuildInterval = Duration.ofHours(6);      // 삭제된 키를 털어내기 위한 정기 재구축 주기
+    }
+
+    @Data
+    public static class MemberList {
+        private long countLimit = 10_000;        // 회원 목록 전체 건수를 이 값까지만 셈 (초과 시 totalElements = 이 값)
+    }
+
+    @Data
+    public static class Async {
+        private ExecutorMode mode = ExecutorMode.PLATFORM;   // emailTaskExecutor/taskExecutor 실행 방식
+        private int virtualConcurrencyLimit = -1;            // VIRTUAL 모드 동시 실행 상한 (-1: 제한 없음, 초과 시 제출 스레드 대기)
+
+        public enum ExecutorMode {
+            PLATFORM,   // 고정 크기 스레드 풀 + 큐 (큐가 가득 차면 거부)
+            VIRTUAL     // 작업마다 가상 스레드 생성 (블로킹 I/O 대기 중에는 캐리어 스레드를 점유하지 않음)
+        }
+    }
+
+    @Data
+    public static class OptimisticRetry {
+        private int maxAttempts = 5;                                  // 낙관적 잠금 충돌 시 최대 시도 횟수 (첫 시도 포함)
+        private Duration initialBackoff = Duration.ofMillis(5);      // 첫 재시도 대기 상한 (시도마다 2배, 실제 대기는 무작위)
+        private Duration maxBackoff = Duration.ofMillis(200);        // 재시도 대기 상한
+    }
+
+    @Data
+    public static class Outbox {
+        private boolean enabled = true;                               // false면 이 인스턴스에서 릴레이를 실행하지 않음 (메시지는 계속 저장)
+        private Duration pollInterval = Duration.ofSeconds(1);       // 릴레이 폴링 주기 (이전 폴링 종료 후 대기 시간)
+        private int batchSize = 50;                                   // 한 번에 선점해 동시에 발송하는 메시지 수
+        private int maxBatchesPerPoll = 10;                           // 밀린 메시지가 있어도 폴링 한 번에 선점하는 배치 수 상한
+        private int maxInFlight = 200;                                // 선점 후 발송이 끝나지 않은 메시지 상한 (넘으면 선점 보류)
+        private int maxAttempts = 5;                                  // 이 횟수까지 실패하면 FAILED로 전환
+        private Duration initialBackoff = Duration.ofSeconds(10);    // 첫 재시도 대기 시간 (실패할 때마다 2배)
+        private Duration maxBackoff = Duration.ofMinutes(30);        // 재시도 대기 시간 상한
+        private Duration lease = Duration.ofMinutes(5);              // 선점 후 완료 표시가 없으면 다시 발송 대상이 되는 시간
+    }
+
+    @Data
+    public static class Cache {
+        private Spec defaultSpec = new Spec(1000L, Duration.ofMinutes(10));   // specs에 없는 캐시 및 누락 항목 기본값
+        private Map<String, Spec> specs = new LinkedHashMap<>();
+
+        @Data
+        @NoArgsConstructor
+        @AllArgsConstructor
+        public static class Spec {
+            private Long maximumSize;            // 최대 항목 수 (초과 시 W-TinyLFU 정책으로 제거)
+            private Duration expireAfterWrite;   // 저장 후 만료 시간
+
+            Spec withDefaults(Spec defaults) {
+                return new Spec(
+                        maximumSize != null ? maximumSize : defaults.getMaximumSize(),
+                        expireAfterWrite != null ? expireAfterWrite : defaults.getExpireAfterWrite());
+            }
+        }
     }
 }
@@ -1,29 +1,48 @@
 package com.example.spring.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
  * 캐시 설정
+ * - Caffeine(W-TinyLFU) 기반으로 캐시별 최대 크기와 만료 시간을 제한
+ * - recordStats()로 적중/미스/제거 통계를 수집하고, Actuator가 cache.* 메트릭으로 노출
+ * - 캐시별 설정은 bookstore.cache.specs 에서 관리
  */
+@Slf4j
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
-    /**
-     * 간단한 메모리 기반 캐시 매니저
-     * 실제 운영환경에서는 Redis 등을 사용
-     */
     @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(
-            "members",           // 회원 정보 캐시
-            "memberLoanLimits",  // 회원 대여 제한 정보 캐시
-            "books",             // 도서 정보 캐시
-            "statistics"         // 통계 정보 캐시
-        );
+    public CacheManager cacheManager(BookstoreProperties properties) {
+        BookstoreProperties.Cache cacheProperties = properties.getCache();
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 설정에 없는 캐시 이름도 기본 크기/만료 시간으로 제한
+        cacheManager.setCaffeine(caffeine(cacheProperties.getDefaultSpec()));
+
+        cacheProperties.getSpecs().forEach((name, spec) -> {
+            BookstoreProperties.Cache.Spec resolved = spec.withDefaults(cacheProperties.getDefaultSpec());
+            cacheManager.registerCustomCache(name, caffeine(resolved).build());
+            log.info("캐시 등록 - 이름: {}, 최대 크기: {}, 만료: {}",
+                    name, resolved.getMaximumSize(), resolved.getExpireAfterWrite());
+        });
+        return cacheManager;
+    }
+
+    private static Caffeine<Object, Object> caffeine(BookstoreProperties.Cache.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .recordStats();
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        return builder;
     }
-}
\ No newline at end of file
+}
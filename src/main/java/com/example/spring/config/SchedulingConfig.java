@@ -0,0 +1,13 @@
+package com.example.spring.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * - 통계 카운터 보정 등 주기 작업 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
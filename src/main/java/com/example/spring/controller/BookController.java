@@ -4,8 +4,10 @@ import com.example.spring.dto.request.BookSearchRequest;
 import com.example.spring.dto.request.CreateBookRequest;
 import com.example.spring.dto.request.UpdateBookRequest;
 import com.example.spring.dto.response.BookResponse;
+import com.example.spring.dto.response.CursorPage;
 import com.example.spring.entity.Book;
 import com.example.spring.service.BookService;
+import com.example.spring.statistics.BookCounts;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -69,12 +71,26 @@ public class BookController {
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        Page<Book> books = bookService.getAllActiveBooks(pageable);
-        Page<BookResponse> response = books.map(BookResponse::from);
+        Page<BookResponse> response = bookService.getAllActiveBooks(pageable);
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 모든 활성 도서 조회 (커서 기반)
+     * - after 파라미터가 있으면 커서 방식으로 처리 (첫 페이지는 after= 빈 값)
+     * - 응답의 nextCursor를 다음 요청의 after로 전달
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPage<BookResponse>> getActiveBooksByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size) {
+
+        log.debug("활성 도서 커서 조회 - after: {}, size: {}", after, size);
+
+        return ResponseEntity.ok(bookService.getActiveBooksAfter(after, size));
+    }
+
     /**
      * 도서 정보 수정
      */
@@ -120,60 +136,55 @@ public class BookController {
     public ResponseEntity<BookResponse> getBookByIsbn(@PathVariable String isbn) {
         log.debug("ISBN으로 도서 조회 - ISBN: {}", isbn);
 
-        Book book = bookService.getBookByIsbn(isbn)
+        BookResponse response = bookService.getBookByIsbn(isbn)
                 .orElseThrow(() -> new RuntimeException("도서를 찾을 수 없습니다: " + isbn));
-
-        BookResponse response = BookResponse.from(book);
         return ResponseEntity.ok(response);
     }
 
     /**
      * 제목으로 도서 검색
+     * - limit으로 최대 결과 수 지정 (기본 50, 최대 BookService.MAX_SEARCH_RESULTS)
      */
     @GetMapping("/search/title")
     public ResponseEntity<List<BookResponse>> searchBooksByTitle(
-            @RequestParam String title) {
+            @RequestParam String title,
+            @RequestParam(defaultValue = "50") int limit) {
 
-        log.debug("제목으로 도서 검색 - 키워드: {}", title);
+        log.debug("제목으로 도서 검색 - 키워드: {}, 최대: {}", title, limit);
 
-        List<Book> books = bookService.searchByTitle(title);
-        List<BookResponse> response = books.stream()
-                .map(BookResponse::from)
-                .toList();
+        List<BookResponse> response = bookService.searchByTitle(title, limit);
 
         return ResponseEntity.ok(response);
     }
 
     /**
      * 저자로 도서 검색
+     * - limit으로 최대 결과 수 지정 (기본 50, 최대 BookService.MAX_SEARCH_RESULTS)
      */
     @GetMapping("/search/author")
     public ResponseEntity<List<BookResponse>> searchBooksByAuthor(
-            @RequestParam String author) {
+            @RequestParam String author,
+            @RequestParam(defaultValue = "50") int limit) {
 
-        log.debug("저자로 도서 검색 - 키워드: {}", author);
+        log.debug("저자로 도서 검색 - 키워드: {}, 최대: {}", author, limit);
 
-        List<Book> books = bookService.searchByAuthor(author);
-        List<BookResponse> response = books.stream()
-                .map(BookResponse::from)
-                .toList();
+        List<BookResponse> response = bookService.searchByAuthor(author, limit);
 
         return ResponseEntity.ok(response);
     }
 
     /**
      * 키워드로 도서 검색
+     * - limit으로 최대 결과 수 지정 (기본 50, 최대 BookService.MAX_SEARCH_RESULTS)
      */
     @GetMapping("/search/keyword")
     public ResponseEntity<List<BookResponse>> searchBooksByKeyword(
-            @RequestParam String keyword) {
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "50") int limit) {
 
-        log.debug("키워드로 도서 검색 - 키워드: {}", keyword);
+        log.debug("키워드로 도서 검색 - 키워드: {}, 최대: {}", keyword, limit);
 
-        List<Book> books = bookService.searchByKeyword(keyword);
-        List<BookResponse> response = books.stream()
-                .map(BookResponse::from)
-                .toList();
+        List<BookResponse> response = bookService.searchByKeyword(keyword, limit);
 
         return ResponseEntity.ok(response);
     }
@@ -188,10 +199,7 @@ public class BookController {
 
         log.debug("가격 범위로 도서 검색 - 최소: {}, 최대: {}", minPrice, maxPrice);
 
-        List<Book> books = bookService.searchByPriceRange(minPrice, maxPrice);
-        List<BookResponse> response = books.stream()
-                .map(BookResponse::from)
-                .toList();
+        List<BookResponse> response = bookService.searchByPriceRange(minPrice, maxPrice);
 
         return ResponseEntity.ok(response);
     }
@@ -217,7 +225,7 @@ public class BookController {
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        Page<Book> books = bookService.searchBooksWithFilters(
+        Page<BookResponse> response = bookService.searchBooksWithFilters(
                 title,
                 author,
                 minPrice,
@@ -226,7 +234,6 @@ public class BookController {
                 pageable
         );
 
-        Page<BookResponse> response = books.map(BookResponse::from);
         return ResponseEntity.ok(response);
     }
 
@@ -250,7 +257,7 @@ public class BookController {
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        Page<Book> books = bookService.searchBooksWithQueryFilters(
+        Page<BookResponse> response = bookService.searchBooksWithQueryFilters(
                 title,
                 author,
                 minPrice,
@@ -259,7 +266,6 @@ public class BookController {
                 pageable
         );
 
-        Page<BookResponse> response = books.map(BookResponse::from);
         return ResponseEntity.ok(response);
     }
 
@@ -272,10 +278,7 @@ public class BookController {
 
         log.debug("재고 상태별 도서 조회 - 재고: {}", available);
 
-        List<Book> books = bookService.getBooksByAvailability(available);
-        List<BookResponse> response = books.stream()
-                .map(BookResponse::from)
-                .toList();
+        List<BookResponse> response = bookService.getBooksByAvailability(available);
 
         return ResponseEntity.ok(response);
     }
@@ -314,13 +317,13 @@ public class BookController {
     public ResponseEntity<BookStatistics> getBookStatistics() {
         log.debug("도서 통계 조회");
 
-        long totalBooks = bookService.getTotalBooksCount();
-        long activeBooks = bookService.getActiveBooksCount();
+        BookCounts counts = bookService.getBookCounts();
 
         BookStatistics statistics = BookStatistics.builder()
-                .totalBooks(totalBooks)
-                .activeBooks(activeBooks)
-                .deletedBooks(totalBooks - activeBooks)
+                .totalBooks(counts.total())
+                .activeBooks(counts.active())
+                .deletedBooks(counts.deleted())
+                .availableBooks(counts.available())
                 .build();
 
         return ResponseEntity.ok(statistics);
@@ -337,5 +340,6 @@ public class BookController {
         private long totalBooks;
         private long activeBooks;
         private long deletedBooks;
+        private long availableBooks;
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.example.spring.controller;
+
+import com.example.spring.exporter.BookExportFormat;
+import com.example.spring.exporter.BookExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 도서 카탈로그 내보내기 API
+ * - 응답 본문에 직접 스트리밍하므로 전체 목록을 메모리에 만들지 않음
+ *
+ * curl -o books.csv "/api/books/export?format=csv"
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/books/export")
+@RequiredArgsConstructor
+public class BookExportController {
+
+    private final BookExportService bookExportService;
+
+    @GetMapping
+    public void exportBooks(@RequestParam(defaultValue = "csv") String format,
+                            HttpServletResponse response) throws IOException {
+        BookExportFormat exportFormat = BookExportFormat.from(format);
+        log.info("도서 내보내기 요청 - 형식: {}", exportFormat);
+
+        response.setContentType(exportFormat.getMediaType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"books." + exportFormat.getExtension() + "\"");
+        try {
+            bookExportService.export(exportFormat, response.getOutputStream());
+        } catch (RuntimeException e) {
+            if (!response.isCommitted()) {
+                throw e;
+            }
+            // 헤더와 본문 일부가 이미 전송되어 JSON 오류 응답으로 바꿀 수 없으므로 기록만 하고 전송 중단
+            log.error("도서 내보내기 중단 - 형식: {}", exportFormat, e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.spring.controller;
+
+import com.example.spring.importer.BookImportFormat;
+import com.example.spring.importer.BookImportReport;
+import com.example.spring.importer.BookImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * 도서 카탈로그 대량 가져오기 API
+ * - 요청 본문을 스트림으로 읽으므로 파일 크기와 무관하게 청크 크기만큼만 메모리 사용
+ *
+ * curl -X POST -H "Content-Type: text/csv" --data-binary @catalog.csv /api/books/import
+ * curl -X POST -H "Content-Type: application/x-ndjson" --data-binary @catalog.ndjson /api/books/import
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/books/import")
+@RequiredArgsConstructor
+public class BookImportController {
+
+    private final BookImportService bookImportService;
+
+    @PostMapping(consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<BookImportReport> importBooks(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                        InputStream body) {
+        BookImportFormat format = BookImportFormat.fromContentType(contentType);
+        log.info("도서 대량 가져오기 요청 - 형식: {}", format);
+
+        return ResponseEntity.ok(bookImportService.importBooks(body, format));
+    }
+}
@@ -1,10 +1,17 @@
 package com.example.spring.controller;
 
+import com.example.spring.cache.OrderIdempotencyStore;
 import com.example.spring.dto.CreateOrderRequest;
+import com.example.spring.dto.response.CursorPage;
+import com.example.spring.dto.response.OrderResponse;
 import com.example.spring.entity.Order;
+import com.example.spring.exception.BusinessException;
+import com.example.spring.ingest.OrderGroupCommitter;
 import com.example.spring.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,24 +27,72 @@ import java.util.List;
 @Slf4j
 public class BookstoreController {
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final OrderService orderService;
+    private final OrderIdempotencyStore idempotencyStore;
+    private final OrderGroupCommitter groupCommitter;
 
+    /**
+     * 주문 생성
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재시도는 주문을 다시 만들지 않고 처음 생성된 주문을 반환
+     *   (이전 결과를 반환한 경우 Idempotent-Replayed: true 헤더 포함)
+     * - 그룹 커밋 모드에서는 다른 주문 요청과 모아 한 트랜잭션으로 저장된 뒤 응답
+     */
     @PostMapping("/orders")
-    public ResponseEntity<Order> createOrder(@RequestBody CreateOrderRequest request) {
-        log.info("주문 생성 요청: {}", request);
+    public ResponseEntity<Order> createOrder(@RequestBody CreateOrderRequest request,
+                                             @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+                                             String idempotencyKey) {
+        log.info("주문 생성 요청: {}, 멱등성 키: {}", request, idempotencyKey);
 
         try {
-            Order order = orderService.createOrder(request.getBookIds());
-            return ResponseEntity.ok(order);
+            if (idempotencyKey == null) {
+                return ResponseEntity.ok(placeOrder(request.getBookIds()));
+            }
+            OrderIdempotencyStore.Result result = idempotencyStore.execute(idempotencyKey, request.getBookIds(),
+                    () -> placeOrder(request.getBookIds()), orderService::findOrderById);
+            if (result.replayed()) {
+                log.info("멱등성 키 재요청 - 키: {}, 주문 ID: {}", idempotencyKey, result.order().getId());
+                return ResponseEntity.ok().header(IDEMPOTENT_REPLAYED_HEADER, "true").body(result.order());
+            }
+            return ResponseEntity.ok(result.order());
+        } catch (BusinessException e) {
+            throw e;    // 잘못된/재사용된 멱등성 키는 GlobalExceptionHandler에서 처리
         } catch (Exception e) {
             log.error("주문 생성 실패", e);
             return ResponseEntity.badRequest().build();
         }
     }
 
+    private Order placeOrder(List<Long> bookIds) {
+        return groupCommitter.isEnabled()
+                ? groupCommitter.createOrder(bookIds)
+                : orderService.createOrder(bookIds);
+    }
+
+    /**
+     * 주문 목록 조회
+     * - 최신 주문순, 페이지 크기는 최대 CursorPage.MAX_SIZE
+     * - 주문 아이템과 도서 정보를 포함한 DTO로 반환 (페이지당 쿼리 2회 + COUNT)
+     */
     @GetMapping("/orders")
-    public ResponseEntity<List<Order>> getAllOrders() {
-        List<Order> orders = orderService.findAllOrders();
+    public ResponseEntity<Page<OrderResponse>> getOrders(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<OrderResponse> orders = orderService.findOrders(PageRequest.of(page, CursorPage.normalizeSize(size)));
+        return ResponseEntity.ok(orders);
+    }
+
+    /**
+     * 주문 목록 조회 (커서 기반)
+     * - after 파라미터가 있으면 커서 방식으로 처리 (첫 페이지는 after= 빈 값)
+     */
+    @GetMapping(value = "/orders", params = "after")
+    public ResponseEntity<CursorPage<OrderResponse>> getOrdersByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<OrderResponse> orders = orderService.findOrdersAfter(after, size);
         return ResponseEntity.ok(orders);
     }
 
@@ -2,6 +2,8 @@ package com.example.spring.controller;
 
 import com.example.spring.dto.request.CreateMemberRequest;
 import com.example.spring.dto.request.UpdateMemberRequest;
+import com.example.spring.dto.response.CursorPage;
+import com.example.spring.dto.response.LoanResponse;
 import com.example.spring.dto.response.MemberLoanLimitInfo;
 import com.example.spring.dto.response.MemberResponse;
 import com.example.spring.entity.MembershipType;
@@ -12,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -53,6 +56,8 @@ public class MemberController {
 
     /**
      * 회원 목록 조회
+     * - 최신 가입순, 페이지 크기는 최대 CursorPage.MAX_SIZE
+     * - totalElements는 설정된 상한까지만 집계 (깊은 페이지는 커서 방식 권장)
      */
     @GetMapping
     public ResponseEntity<Page<MemberResponse>> getMembers(
@@ -61,11 +66,26 @@ public class MemberController {
         
         log.debug("회원 목록 조회 요청 - 페이지: {}, 크기: {}", page, size);
         
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, CursorPage.normalizeSize(size), Sort.by(Sort.Direction.DESC, "id"));
         Page<MemberResponse> responses = memberService.findAllMembers(pageable);
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 회원 목록 조회 (커서 기반)
+     * - after 파라미터가 있으면 커서 방식으로 처리 (첫 페이지는 after= 빈 값)
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPage<MemberResponse>> getMembersByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.debug("회원 커서 조회 요청 - after: {}, 크기: {}", after, size);
+
+        CursorPage<MemberResponse> responses = memberService.findMembersAfter(after, size);
+        return ResponseEntity.ok(responses);
+    }
+
     /**
      * 회원 정보 수정
      */
@@ -148,4 +168,19 @@ public class MemberController {
         MemberLoanLimitInfo info = memberService.getMemberLoanLimitInfo(id);
         return ResponseEntity.ok(info);
     }
+
+    /**
+     * 회원 대여 이력 조회 (커서 기반, 최신 대여순)
+     * - 첫 페이지는 after 생략 또는 빈 값, 이후 응답의 nextCursor 전달
+     */
+    @GetMapping("/{id}/loans")
+    public ResponseEntity<CursorPage<LoanResponse>> getMemberLoans(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("회원 대여 이력 조회 - 회원ID: {}, after: {}, 크기: {}", id, after, size);
+
+        CursorPage<LoanResponse> loans = memberService.findMemberLoansAfter(id, after, size);
+        return ResponseEntity.ok(loans);
+    }
 }
\ No newline at end of file
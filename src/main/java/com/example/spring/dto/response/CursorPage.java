@@ -0,0 +1,49 @@
+package com.example.spring.dto.response;
+
+import com.example.spring.repository.KeysetCursor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답 DTO
+ * - nextCursor를 다음 요청의 after 파라미터로 전달하면 이어서 조회 (마지막 페이지면 null)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final int MAX_SIZE = 100;
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * 요청 페이지 크기를 1 ~ MAX_SIZE 범위로 보정
+     */
+    public static int normalizeSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * size + 1 건으로 조회한 결과로 페이지 구성 (초과분 존재 여부로 다음 페이지 판단)
+     * @param rows size + 1 건까지 조회한 정렬된 결과
+     * @param size 페이지 크기
+     * @param cursorOf 행의 커서 추출 함수
+     * @param mapper 응답 변환 함수
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size,
+                                          Function<E, KeysetCursor> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode() : null;
+        List<T> content = pageRows.stream().map(mapper).toList();
+        return new CursorPage<>(content, size, hasNext, nextCursor);
+    }
+}
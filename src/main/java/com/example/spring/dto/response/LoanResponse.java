@@ -0,0 +1,40 @@
+package com.example.spring.dto.response;
+
+import com.example.spring.entity.Loan;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanResponse {
+
+    private Long id;
+    private Long bookId;
+    private String title;
+    private LocalDateTime loanDate;
+    private LocalDateTime dueDate;
+    private LocalDateTime returnDate;
+
+    /**
+     * Entity를 Response DTO로 변환 (도서는 함께 조회되어 있어야 함)
+     */
+    public static LoanResponse from(Loan loan) {
+        return LoanResponse.builder()
+                .id(loan.getId())
+                .bookId(loan.getBook().getId())
+                .title(loan.getBook().getTitle())
+                .loanDate(loan.getLoanDate())
+                .dueDate(loan.getDueDate())
+                .returnDate(loan.getReturnDate())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.spring.dto.response;
+
+import com.example.spring.entity.OrderItem;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 아이템 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderItemResponse {
+
+    private Long bookId;
+    private String title;
+    private String author;
+    private Integer quantity;
+    private BigDecimal price;
+
+    /**
+     * OrderItem 엔티티를 OrderItemResponse로 변환
+     */
+    public static OrderItemResponse from(OrderItem item) {
+        return OrderItemResponse.builder()
+                .bookId(item.getBook().getId())
+                .title(item.getBook().getTitle())
+                .author(item.getBook().getAuthor())
+                .quantity(item.getQuantity())
+                .price(item.getPrice())
+                .build();
+    }
+}
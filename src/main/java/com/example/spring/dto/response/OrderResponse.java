@@ -0,0 +1,51 @@
+package com.example.spring.dto.response;
+
+import com.example.spring.entity.Order;
+import com.example.spring.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 응답 DTO
+ * - 엔티티 연관관계 없이 주문 아이템과 도서 정보를 평탄화해서 포함
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderResponse {
+
+    private Long id;
+    private LocalDateTime orderDate;
+    private OrderStatus status;
+    private BigDecimal totalAmount;
+    @Builder.Default
+    private List<OrderItemResponse> items = new ArrayList<>();
+
+    /**
+     * JPQL 생성자 프로젝션용 (주문 아이템은 별도 쿼리로 채움)
+     */
+    public OrderResponse(Long id, LocalDateTime orderDate, OrderStatus status, BigDecimal totalAmount) {
+        this(id, orderDate, status, totalAmount, new ArrayList<>());
+    }
+
+    /**
+     * Order 엔티티를 OrderResponse로 변환 (주문 아이템과 도서가 로딩된 상태여야 함)
+     */
+    public static OrderResponse from(Order order) {
+        return OrderResponse.builder()
+                .id(order.getId())
+                .orderDate(order.getOrderDate())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .items(order.getOrderItems().stream().map(OrderItemResponse::from).toList())
+                .build();
+    }
+}
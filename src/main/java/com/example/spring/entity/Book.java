@@ -9,6 +9,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -20,16 +22,29 @@ import java.time.LocalDateTime;
 @Table(name = "book", indexes = {
     @Index(name = "idx_book_isbn", columnList = "isbn"),
     @Index(name = "idx_book_title", columnList = "title"),
-    @Index(name = "idx_book_author", columnList = "author")
+    @Index(name = "idx_book_author", columnList = "author"),
+    // 활성 도서 조회는 모두 deleted_date IS NULL 조건을 가지므로 deleted_date를 선두 컬럼으로 둔다
+    // (MySQL/H2는 부분 인덱스를 지원하지 않아 복합 인덱스로 활성 행 범위만 스캔)
+    @Index(name = "idx_book_deleted_created_id", columnList = "deleted_date, created_date, id"),
+    @Index(name = "idx_book_deleted_price_id", columnList = "deleted_date, price, id"),
+    @Index(name = "idx_book_deleted_available", columnList = "deleted_date, available")
 })
+// 활성 도서 필터 - 세션에서 켜면 이 엔티티를 조회하는 모든 JPQL에 deleted_date IS NULL 조건이 추가됨
+@FilterDef(name = Book.ACTIVE_FILTER)
+@Filter(name = Book.ACTIVE_FILTER, condition = "deleted_date IS NULL")
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Book {
+    public static final String ACTIVE_FILTER = "activeBook";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 풀링 시퀀스: ID를 50개 단위로 미리 할당받아 INSERT를 JDBC 배치로 묶을 수 있게 한다
+    // (시퀀스를 지원하지 않는 DB에서는 Hibernate가 같은 이름의 테이블로 대체)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq")
+    @SequenceGenerator(name = "book_seq", sequenceName = "book_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "도서 제목은 필수입니다")
@@ -68,6 +83,10 @@ public class Book {
     @Column(name = "deleted_date")
     private LocalDateTime deletedDate;
 
+    // 낙관적 잠금 - 동시에 수정하면 나중에 커밋하는 쪽이 OptimisticLockException (@OptimisticRetry로 재시도)
+    @Version
+    private Long version;
+
     public boolean isDeleted() {
         return deletedDate != null;
     }
@@ -1,5 +1,6 @@
 package com.example.spring.entity;
 
+import com.example.spring.event.LoanChangePublisher;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,14 +9,20 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "loan")
+@Table(name = "loan", indexes = {
+    @Index(name = "idx_loan_member_id_id", columnList = "member_id, id"),
+    // 회원별 미반납 대여 수 COUNT를 인덱스만으로 처리
+    @Index(name = "idx_loan_member_id_return_date", columnList = "member_id, return_date")
+})
+@EntityListeners(LoanChangePublisher.class)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Loan {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_seq")
+    @SequenceGenerator(name = "loan_seq", sequenceName = "loan_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -34,4 +41,8 @@ public class Loan {
 
     @Column(name = "return_date")
     private LocalDateTime returnDate;
+
+    // 낙관적 잠금 - 같은 대여를 동시에 반납/연장하면 나중에 커밋하는 쪽이 OptimisticLockException
+    @Version
+    private Long version;
 }
\ No newline at end of file
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Member {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -30,4 +31,8 @@ public class Member {
 
     @Column(name = "join_date")
     private LocalDateTime joinDate;
+
+    // 낙관적 잠금 - 동시에 수정하면 나중에 커밋하는 쪽이 OptimisticLockException (@OptimisticRetry로 재시도)
+    @Version
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.example.spring.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 트랜잭션 아웃박스 메시지 - 업무 데이터와 같은 트랜잭션에 저장하고, 커밋 후 릴레이가 발송
+@Entity
+@Table(name = "outbox_message", indexes = {
+    // 릴레이 폴링 (status = PENDING AND next_attempt_at <= now ORDER BY id)
+    @Index(name = "idx_outbox_status_next_attempt_id", columnList = "status, next_attempt_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxMessage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_message_seq")
+    @SequenceGenerator(name = "outbox_message_seq", sequenceName = "outbox_message_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private Type type;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public enum Type {
+        ORDER_CONFIRMATION      // aggregateId = 주문 ID
+    }
+
+    public enum Status {
+        PENDING,                // 발송 대기 (재시도 대기 포함)
+        DONE,                   // 발송 완료
+        FAILED                  // 최대 시도 횟수 초과
+    }
+
+    public static OutboxMessage orderConfirmation(Long orderId) {
+        LocalDateTime now = LocalDateTime.now();
+        return OutboxMessage.builder()
+                .type(Type.ORDER_CONFIRMATION)
+                .aggregateId(orderId)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.spring.event;
+
+import com.example.spring.entity.Book;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도서 변경 이벤트
+ * - 검색 인덱스, 통계 카운터 등 도서 데이터를 복제해 두는 컴포넌트의 동기화용
+ */
+@Getter
+@AllArgsConstructor
+public class BookChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED, RESTORED, AVAILABILITY_CHANGED
+    }
+
+    private final Book book;
+    private final ChangeType changeType;
+    private final Boolean previousAvailable;   // 변경 전 재고 상태 (UPDATED, AVAILABILITY_CHANGED, DELETED)
+    private final LocalDateTime occurredAt;
+
+    public BookChangedEvent(Book book, ChangeType changeType) {
+        this(book, changeType, null);
+    }
+
+    public BookChangedEvent(Book book, ChangeType changeType, Boolean previousAvailable) {
+        this(book, changeType, previousAvailable, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.spring.event;
+
+import com.example.spring.entity.Loan;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loan 엔티티 리스너 - 대여 변경을 LoanChangedEvent로 발행
+ * - 대여 전용 서비스 없이 저장소/더티 체킹으로 변경되므로 flush 시점의 JPA 콜백에서 발행
+ * - Hibernate가 스프링 빈으로 생성(SpringBeanContainer)하여 이벤트 발행기를 주입받음
+ * - 트랜잭션 안에서 발행되므로 구독자는 @TransactionalEventListener로 커밋 후 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class LoanChangePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onLoanChanged(Loan loan) {
+        // 지연 로딩 프록시의 ID 조회는 초기화를 일으키지 않음
+        Long memberId = loan.getMember() != null ? loan.getMember().getId() : null;
+        if (memberId != null) {
+            eventPublisher.publishEvent(new LoanChangedEvent(loan.getId(), memberId));
+        }
+    }
+}
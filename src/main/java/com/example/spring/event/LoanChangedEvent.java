@@ -0,0 +1,25 @@
+package com.example.spring.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 변경 이벤트 (대여 생성/반납 등 수정/삭제)
+ * - Loan 엔티티 리스너가 INSERT/UPDATE/DELETE 직후 발행
+ */
+@Getter
+@AllArgsConstructor
+public class LoanChangedEvent {
+
+    private final Long loanId;
+    private final Long memberId;
+    private final LocalDateTime occurredAt;
+
+    public LoanChangedEvent(Long loanId, Long memberId) {
+        this.loanId = loanId;
+        this.memberId = memberId;
+        this.occurredAt = LocalDateTime.now();
+    }
+}
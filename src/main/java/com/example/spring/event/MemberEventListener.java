@@ -2,12 +2,14 @@ package com.example.spring.event;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * 회원 관련 이벤트 리스너
+ * - 이메일 발송은 대기 시간이 길어 emailTaskExecutor에서 실행 (bookstore.async.mode=virtual이면 가상 스레드)
+ * - 커밋 후에만 발송 (낙관적 잠금 충돌로 롤백된 시도가 재시도될 때 이메일이 중복 발송되지 않도록)
  */
 @Slf4j
 @Component
@@ -20,8 +22,8 @@ public class MemberEventListener {
     /**
      * 회원 가입 이벤트 처리 - 환영 이메일 발송
      */
-    @EventListener
-    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    @Async("emailTaskExecutor")
     public void handleMemberRegistered(MemberRegisteredEvent event) {
         log.info("회원 가입 이벤트 처리 - 회원ID: {}, 이메일: {}", 
                 event.getMember().getId(), event.getMember().getEmail());
@@ -42,8 +44,8 @@ public class MemberEventListener {
     /**
      * 멤버십 업그레이드 이벤트 처리 - 업그레이드 축하 이메일 발송
      */
-    @EventListener
-    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    @Async("emailTaskExecutor")
     public void handleMembershipUpgraded(MembershipUpgradedEvent event) {
         log.info("멤버십 업그레이드 이벤트 처리 - 회원ID: {}, {}에서 {}로 업그레이드", 
                 event.getMember().getId(), event.getPreviousType(), event.getNewType());
@@ -3,6 +3,7 @@ package com.example.spring.exception;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -31,6 +32,8 @@ public class GlobalExceptionHandler {
             status = HttpStatus.NOT_FOUND;
         } else if (ex instanceof DuplicateEmailException) {
             status = HttpStatus.BAD_REQUEST;
+        } else if (ex instanceof IdempotencyKeyReusedException) {
+            status = HttpStatus.UNPROCESSABLE_ENTITY;
         }
         log.warn("Business exception: code={}, message={}", ex.getErrorCode(), ex.getMessage());
         return buildErrorResponse(status, ex.getErrorCode(), ex.getMessage(), request.getRequestURI());
@@ -89,6 +92,15 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, "BAD_REQUEST", ex.getMessage(), request.getRequestURI());
     }
 
+    // 낙관적 잠금 재시도(OptimisticRetryAspect)를 모두 소진한 동시 수정 충돌
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex,
+                                                                        HttpServletRequest request) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT, "CONCURRENT_MODIFICATION",
+                "다른 요청이 같은 데이터를 수정하고 있습니다. 잠시 후 다시 시도해주세요.", request.getRequestURI());
+    }
+
     // 알 수 없는 예외
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleUnhandled(Exception ex, HttpServletRequest request) {
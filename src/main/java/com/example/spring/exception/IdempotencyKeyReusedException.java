@@ -0,0 +1,11 @@
+package com.example.spring.exception;
+
+/**
+ * 멱등성 키 재사용 예외 (같은 키로 다른 요청 본문을 보낸 경우)
+ */
+public class IdempotencyKeyReusedException extends BusinessException {
+
+    public IdempotencyKeyReusedException(String key) {
+        super("IDEMPOTENCY_KEY_REUSED", "다른 요청에 이미 사용된 멱등성 키입니다: " + key);
+    }
+}
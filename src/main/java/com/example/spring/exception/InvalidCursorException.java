@@ -0,0 +1,11 @@
+package com.example.spring.exception;
+
+/**
+ * 잘못된 페이지 커서 예외
+ */
+public class InvalidCursorException extends BusinessException {
+
+    public InvalidCursorException(String cursor) {
+        super("INVALID_CURSOR", "잘못된 페이지 커서입니다: " + cursor);
+    }
+}
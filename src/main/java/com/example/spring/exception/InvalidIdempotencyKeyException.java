@@ -0,0 +1,11 @@
+package com.example.spring.exception;
+
+/**
+ * 잘못된 멱등성 키 예외
+ */
+public class InvalidIdempotencyKeyException extends BusinessException {
+
+    public InvalidIdempotencyKeyException(String key) {
+        super("INVALID_IDEMPOTENCY_KEY", "멱등성 키는 1~255자의 공백이 아닌 문자열이어야 합니다: " + key);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.spring.exporter;
+
+import com.example.spring.exception.BookException;
+
+import java.util.Locale;
+
+/**
+ * 내보내기 출력 형식
+ */
+public enum BookExportFormat {
+
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String mediaType;
+    private final String extension;
+
+    BookExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * format 요청 파라미터(csv, ndjson)로 출력 형식 결정
+     */
+    public static BookExportFormat from(String format) {
+        for (BookExportFormat value : values()) {
+            if (value.extension.equals(format == null ? null : format.toLowerCase(Locale.ROOT))) {
+                return value;
+            }
+        }
+        throw new BookException.InvalidBookDataException("지원하지 않는 내보내기 형식입니다: " + format);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.spring.exporter;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.dto.response.BookResponse;
+import com.example.spring.entity.Book;
+import com.example.spring.repository.BookRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 도서 카탈로그 내보내기
+ * - 전진 전용 커서로 읽은 행을 곧바로 출력 스트림에 기록하므로 도서 수와 무관하게 메모리 사용량이 일정
+ * - fetchSize 건마다 출력을 flush하여 첫 바이트가 전체 조회를 기다리지 않고 바로 전송됨
+ * - CSV 컬럼은 가져오기(BookImportService) 헤더와 호환 (id 등 추가 컬럼은 가져오기 시 무시)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookExportService {
+
+    private static final String CSV_HEADER = "id,title,author,isbn,price,available,createdDate,updatedDate";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final BookRepository bookRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final BookstoreProperties properties;
+
+    /**
+     * 활성 도서 전체를 지정 형식으로 출력 (출력 스트림은 닫지 않음)
+     *
+     * @return 내보낸 도서 수
+     */
+    public long export(BookExportFormat format, OutputStream output) {
+        int fetchSize = properties.getCatalogExport().getFetchSize();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        long start = System.currentTimeMillis();
+        log.info("도서 내보내기 시작 - 형식: {}, fetch 크기: {}", format, fetchSize);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        long[] count = {0};
+        try {
+            if (format == BookExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            writer.flush();
+
+            transactionTemplate.executeWithoutResult(status ->
+                    bookRepository.forEachActiveBook(fetchSize, book -> {
+                        try {
+                            writer.write(format == BookExportFormat.CSV ? toCsv(book) : toJson(book));
+                            writer.write('\n');
+                            if (++count[0] % fetchSize == 0) {
+                                writer.flush();
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("내보내기 출력에 실패했습니다", e);
+        }
+
+        log.info("도서 내보내기 완료 - 형식: {}, 건수: {}, 소요: {}ms", format, count[0], System.currentTimeMillis() - start);
+        return count[0];
+    }
+
+    private String toJson(Book book) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(BookResponse.from(book));
+    }
+
+    private String toCsv(Book book) {
+        return String.join(",",
+                String.valueOf(book.getId()),
+                escapeCsv(book.getTitle()),
+                escapeCsv(book.getAuthor()),
+                escapeCsv(book.getIsbn()),
+                book.getPrice() == null ? "" : book.getPrice().toPlainString(),
+                String.valueOf(book.getAvailable()),
+                book.getCreatedDate() == null ? "" : book.getCreatedDate().toString(),
+                book.getUpdatedDate() == null ? "" : book.getUpdatedDate().toString());
+    }
+
+    /**
+     * 쉼표/따옴표/줄바꿈이 있는 값만 따옴표로 감싸고 내부 따옴표는 두 번 씀 (RFC 4180)
+     */
+    static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.spring.importer;
+
+import com.example.spring.exception.BookException;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.util.function.Function;
+
+/**
+ * 대량 가져오기 입력 형식
+ */
+public enum BookImportFormat {
+
+    CSV("text/csv", CsvBookImportReader::new),
+    NDJSON("application/x-ndjson", NdjsonBookImportReader::new);
+
+    private final String mediaType;
+    private final Function<BufferedReader, BookImportReader> readerFactory;
+
+    BookImportFormat(String mediaType, Function<BufferedReader, BookImportReader> readerFactory) {
+        this.mediaType = mediaType;
+        this.readerFactory = readerFactory;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    BookImportReader openReader(BufferedReader reader) {
+        return readerFactory.apply(reader);
+    }
+
+    /**
+     * Content-Type 헤더로 입력 형식 결정 (charset 등 파라미터는 무시)
+     */
+    public static BookImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            for (BookImportFormat format : values()) {
+                if (MediaType.parseMediaType(format.mediaType).equalsTypeAndSubtype(requested)) {
+                    return format;
+                }
+            }
+        }
+        throw new BookException.InvalidBookDataException("지원하지 않는 가져오기 형식입니다: " + contentType);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.spring.importer;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 줄 단위 스트리밍 가져오기 리더
+ * - 요청 크기만큼의 행만 읽어 청크로 반환하므로 파일 전체를 메모리에 올리지 않음
+ * - 형식별 구현은 한 줄을 BookImportRow로 변환하는 parseLine만 구현
+ */
+abstract class BookImportReader implements Closeable {
+
+    private static final char BOM = '\uFEFF';
+    // 한 레코드로 이어 붙일 최대 줄 수 (닫히지 않은 따옴표 하나가 파일 나머지를 삼키지 않도록 제한)
+    private static final int MAX_RECORD_LINES = 100;
+
+    private final BufferedReader reader;
+    private long lineNumber;
+
+    protected BookImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 청크 읽기 (빈 줄은 건너뜀, 입력이 끝나면 빈 목록)
+     */
+    public List<BookImportRow> nextChunk(int chunkSize) {
+        List<BookImportRow> rows = new ArrayList<>(chunkSize);
+        try {
+            String line;
+            while (rows.size() < chunkSize && (line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BOM) {
+                    line = line.substring(1);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                long recordLineNumber = lineNumber;
+                String record = readContinuation(line);
+                BookImportRow row = parseLine(record, recordLineNumber);
+                if (row != null) {
+                    rows.add(row);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("가져오기 입력을 읽을 수 없습니다", e);
+        }
+        return rows;
+    }
+
+    /**
+     * 레코드가 다음 줄로 이어지면 줄바꿈(\n)으로 이어 붙임
+     */
+    private String readContinuation(String line) throws IOException {
+        if (!isRecordOpen(line)) {
+            return line;
+        }
+        StringBuilder record = new StringBuilder(line);
+        for (int lines = 1; lines < MAX_RECORD_LINES && isRecordOpen(record); lines++) {
+            String next = reader.readLine();
+            if (next == null) {
+                break;
+            }
+            lineNumber++;
+            record.append('\n').append(next);
+        }
+        return record.toString();
+    }
+
+    /**
+     * 레코드가 아직 끝나지 않았는지 (예: CSV의 따옴표 안 줄바꿈) - 기본은 한 줄이 한 레코드
+     */
+    protected boolean isRecordOpen(CharSequence record) {
+        return false;
+    }
+
+    /**
+     * 한 레코드 파싱 (헤더처럼 데이터가 아닌 줄은 null 반환)
+     * @param lineNumber 레코드가 시작된 줄 번호
+     */
+    protected abstract BookImportRow parseLine(String line, long lineNumber);
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.spring.importer;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 가져오기 결과 리포트
+ * - 실패한 행은 줄 번호와 사유를 남기되, 수십만 행 입력에서도 응답 크기가 일정하도록 최대 개수까지만 보관
+ */
+@Getter
+public class BookImportReport {
+
+    private final BookImportFormat format;
+    private long totalRows;
+    private long importedCount;
+    private long failedCount;
+    private long elapsedMillis;
+    private boolean errorsTruncated;
+    private final List<RowError> errors = new ArrayList<>();
+
+    @Getter(AccessLevel.NONE)
+    private final int maxReportedErrors;
+
+    BookImportReport(BookImportFormat format, int maxReportedErrors) {
+        this.format = format;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    void rowsRead(int count) {
+        totalRows += count;
+    }
+
+    void imported(int count) {
+        importedCount += count;
+    }
+
+    void failed(long lineNumber, String isbn, String message) {
+        failedCount++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new RowError(lineNumber, isbn, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    void finish(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * 행 단위 오류
+     */
+    public record RowError(long lineNumber, String isbn, String message) {
+    }
+}
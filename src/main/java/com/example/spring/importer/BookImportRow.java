@@ -0,0 +1,24 @@
+package com.example.spring.importer;
+
+import com.example.spring.dto.request.CreateBookRequest;
+
+/**
+ * 가져오기 입력의 한 행
+ * - 파싱에 실패한 행은 request 대신 error에 사유를 담는다
+ *
+ * @param lineNumber 입력 파일의 줄 번호 (1부터 시작)
+ */
+public record BookImportRow(long lineNumber, CreateBookRequest request, String error) {
+
+    public static BookImportRow parsed(long lineNumber, CreateBookRequest request) {
+        return new BookImportRow(lineNumber, request, null);
+    }
+
+    public static BookImportRow failed(long lineNumber, String error) {
+        return new BookImportRow(lineNumber, null, error);
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+}
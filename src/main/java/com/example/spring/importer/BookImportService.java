@@ -0,0 +1,167 @@
+package com.example.spring.importer;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.dto.request.CreateBookRequest;
+import com.example.spring.entity.Book;
+import com.example.spring.event.BookChangedEvent;
+import com.example.spring.exception.BookException;
+import com.example.spring.repository.BookRepository;
+import com.example.spring.service.BookValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 도서 카탈로그 대량 가져오기
+ * - 입력을 청크 단위로 스트리밍 파싱하고, 청크마다 한 트랜잭션으로 처리
+ *   (ISBN 중복 조회 1회 + 배치 INSERT + 커밋)
+ * - 검증은 단건 등록 API와 같은 요청 DTO 제약 + BookValidator 규칙을 사용
+ * - 실패한 행은 건너뛰고 리포트에 기록하며, 나머지 행은 계속 가져옴
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookImportService {
+
+    private final BookRepository bookRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final PlatformTransactionManager transactionManager;
+    private final BookstoreProperties properties;
+
+    public BookImportReport importBooks(InputStream input, BookImportFormat format) {
+        BookstoreProperties.CatalogImport settings = properties.getCatalogImport();
+        BookImportReport report = new BookImportReport(format, settings.getMaxReportedErrors());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long start = System.currentTimeMillis();
+        log.info("도서 대량 가져오기 시작 - 형식: {}, 청크 크기: {}", format, settings.getChunkSize());
+
+        try (BookImportReader reader = format.openReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)))) {
+            List<BookImportRow> chunk;
+            while (!(chunk = reader.nextChunk(settings.getChunkSize())).isEmpty()) {
+                report.rowsRead(chunk.size());
+                importChunk(chunk, report, transactionTemplate);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("가져오기 입력을 닫을 수 없습니다", e);
+        }
+
+        report.finish(System.currentTimeMillis() - start);
+        log.info("도서 대량 가져오기 완료 - 전체: {}, 성공: {}, 실패: {}, 소요: {}ms",
+                report.getTotalRows(), report.getImportedCount(), report.getFailedCount(), report.getElapsedMillis());
+        return report;
+    }
+
+    private void importChunk(List<BookImportRow> rows, BookImportReport report,
+                             TransactionTemplate transactionTemplate) {
+        List<BookImportRow> acceptedRows = new ArrayList<>(rows.size());
+        List<Book> books = new ArrayList<>(rows.size());
+        Set<String> chunkIsbns = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (BookImportRow row : rows) {
+            if (row.isFailed()) {
+                report.failed(row.lineNumber(), null, row.error());
+                continue;
+            }
+            Book book = toBook(row.request(), now);
+            Optional<String> error = validate(row.request(), book);
+            if (error.isPresent()) {
+                report.failed(row.lineNumber(), book.getIsbn(), error.get());
+            } else if (!chunkIsbns.add(book.getIsbn())) {
+                report.failed(row.lineNumber(), book.getIsbn(), "파일 안에서 중복된 ISBN입니다: " + book.getIsbn());
+            } else {
+                acceptedRows.add(row);
+                books.add(book);
+            }
+        }
+        if (books.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 이전 청크에서 가져온 ISBN도 커밋된 상태이므로 파일 전체 기준으로 중복이 걸러짐
+            Set<String> existingIsbns = transactionTemplate.execute(status -> {
+                Set<String> existing = bookRepository.findExistingIsbns(chunkIsbns);
+                List<Book> toInsert = books.stream()
+                        .filter(book -> !existing.contains(book.getIsbn()))
+                        .toList();
+                bookRepository.insertAll(toInsert);
+                toInsert.forEach(book -> eventPublisher.publishEvent(
+                        new BookChangedEvent(book, BookChangedEvent.ChangeType.CREATED)));
+                return existing;
+            });
+
+            for (int i = 0; i < books.size(); i++) {
+                String isbn = books.get(i).getIsbn();
+                if (existingIsbns.contains(isbn)) {
+                    report.failed(acceptedRows.get(i).lineNumber(), isbn,
+                            new BookException.DuplicateIsbnException(isbn).getMessage());
+                }
+            }
+            report.imported(books.size() - existingIsbns.size());
+        } catch (DataAccessException e) {
+            // 다른 요청과 같은 ISBN을 동시에 등록한 경우 등 - 청크 전체가 롤백되므로 모두 실패로 기록
+            log.warn("도서 가져오기 청크 저장 실패 - 시작 줄: {}, 사유: {}", acceptedRows.get(0).lineNumber(), e.getMessage());
+            for (int i = 0; i < books.size(); i++) {
+                report.failed(acceptedRows.get(i).lineNumber(), books.get(i).getIsbn(),
+                        "저장에 실패했습니다: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private Book toBook(CreateBookRequest request, LocalDateTime createdDate) {
+        return Book.builder()
+                .title(request.getTitle())
+                .author(request.getAuthor())
+                .isbn(request.getIsbn())
+                .price(request.getPrice())
+                .available(request.getAvailable() != null ? request.getAvailable() : Boolean.TRUE)
+                .createdDate(createdDate)
+                .build();
+    }
+
+    /**
+     * 단건 등록 API와 같은 검증 (요청 DTO 제약 + BookValidator 규칙) 후 엔티티 제약 조건까지 미리 검사
+     * - 엔티티 제약 위반이 INSERT 시점에 발생하면 청크 전체가 실패하므로 행 단위로 걸러냄
+     */
+    private Optional<String> validate(CreateBookRequest request, Book book) {
+        Optional<String> requestError = firstViolation(validator.validate(request));
+        if (requestError.isPresent()) {
+            return requestError;
+        }
+        try {
+            BookValidator.validate(book);
+        } catch (BookException.InvalidBookDataException e) {
+            return Optional.of(e.getMessage());
+        }
+        return firstViolation(validator.validate(book));
+    }
+
+    private <T> Optional<String> firstViolation(Set<ConstraintViolation<T>> violations) {
+        return violations.stream()
+                .min(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage);
+    }
+}
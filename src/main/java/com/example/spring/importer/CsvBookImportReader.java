@@ -0,0 +1,151 @@
+package com.example.spring.importer;
+
+import com.example.spring.dto.request.CreateBookRequest;
+import com.example.spring.exception.BookException;
+
+import java.io.BufferedReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV 가져오기 리더
+ * - 첫 줄은 헤더 (title, author, isbn, price 필수 / available 선택, 순서 무관, 중복 불가, 그 외 컬럼은 무시)
+ * - RFC 4180 따옴표 규칙 지원 ("a, b" / "say ""hi"" / 따옴표 안의 줄바꿈, CRLF는 LF로 읽힘)
+ */
+class CsvBookImportReader extends BookImportReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("title", "author", "isbn", "price");
+    private static final List<String> KNOWN_COLUMNS = List.of("title", "author", "isbn", "price", "available");
+
+    private Map<String, Integer> columns;
+    // 사용하는 컬럼 중 가장 뒤 컬럼까지 포함하는 필드 수
+    private int requiredFieldCount;
+
+    CsvBookImportReader(BufferedReader reader) {
+        super(reader);
+    }
+
+    @Override
+    protected BookImportRow parseLine(String line, long lineNumber) {
+        if (columns == null) {
+            columns = parseHeader(line);
+            requiredFieldCount = columns.values().stream().mapToInt(index -> index + 1).max().orElse(0);
+            return null;
+        }
+
+        List<String> fields;
+        try {
+            fields = split(line);
+        } catch (IllegalArgumentException e) {
+            return BookImportRow.failed(lineNumber, e.getMessage());
+        }
+        if (fields.size() < requiredFieldCount) {
+            return BookImportRow.failed(lineNumber,
+                    "컬럼 수가 부족합니다 (기대: " + requiredFieldCount + ", 실제: " + fields.size() + ")");
+        }
+
+        BigDecimal price;
+        try {
+            price = new BigDecimal(field(fields, "price"));
+        } catch (NumberFormatException e) {
+            return BookImportRow.failed(lineNumber, "가격 형식이 올바르지 않습니다: " + field(fields, "price"));
+        }
+
+        String available = field(fields, "available");
+        if (available != null && !available.isEmpty()
+                && !available.equalsIgnoreCase("true") && !available.equalsIgnoreCase("false")) {
+            return BookImportRow.failed(lineNumber, "available 값은 true 또는 false여야 합니다: " + available);
+        }
+
+        return BookImportRow.parsed(lineNumber, CreateBookRequest.builder()
+                .title(field(fields, "title"))
+                .author(field(fields, "author"))
+                .isbn(field(fields, "isbn"))
+                .price(price)
+                .available(available == null || available.isEmpty() || Boolean.parseBoolean(available))
+                .build());
+    }
+
+    /**
+     * 따옴표 수가 홀수면 따옴표 안에서 줄이 바뀐 것 (이스케이프된 ""는 짝수로 셈)
+     */
+    @Override
+    protected boolean isRecordOpen(CharSequence record) {
+        int quotes = 0;
+        for (int i = 0; i < record.length(); i++) {
+            if (record.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes % 2 != 0;
+    }
+
+    private Map<String, Integer> parseHeader(String line) {
+        List<String> names = split(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).toLowerCase(Locale.ROOT);
+            if (!KNOWN_COLUMNS.contains(name)) {
+                continue;
+            }
+            if (header.putIfAbsent(name, i) != null) {
+                throw new BookException.InvalidBookDataException("CSV 헤더에 중복된 컬럼이 있습니다: " + name);
+            }
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(name -> !header.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            throw new BookException.InvalidBookDataException("CSV 헤더에 필수 컬럼이 없습니다: " + missing);
+        }
+        return header;
+    }
+
+    private String field(List<String> fields, String name) {
+        Integer index = columns.get(name);
+        return index == null ? null : fields.get(index);
+    }
+
+    /**
+     * 한 레코드를 필드 목록으로 분리 (따옴표 밖의 앞뒤 공백은 제거)
+     */
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"' && current.toString().isBlank()) {
+                current.setLength(0);
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(wasQuoted ? current.toString() : current.toString().trim());
+                current.setLength(0);
+                wasQuoted = false;
+            } else if (!wasQuoted || !Character.isWhitespace(c)) {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다");
+        }
+        fields.add(wasQuoted ? current.toString() : current.toString().trim());
+        return fields;
+    }
+}
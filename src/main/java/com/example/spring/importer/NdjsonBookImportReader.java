@@ -0,0 +1,34 @@
+package com.example.spring.importer;
+
+import com.example.spring.dto.request.CreateBookRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+
+/**
+ * NDJSON 가져오기 리더
+ * - 한 줄에 CreateBookRequest 형태의 JSON 객체 하나 (알 수 없는 필드는 무시)
+ */
+class NdjsonBookImportReader extends BookImportReader {
+
+    private static final ObjectReader REQUEST_READER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .readerFor(CreateBookRequest.class);
+
+    NdjsonBookImportReader(BufferedReader reader) {
+        super(reader);
+    }
+
+    @Override
+    protected BookImportRow parseLine(String line, long lineNumber) {
+        try {
+            CreateBookRequest request = REQUEST_READER.readValue(line);
+            return BookImportRow.parsed(lineNumber, request);
+        } catch (JsonProcessingException e) {
+            return BookImportRow.failed(lineNumber, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.spring.ingest;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.entity.Order;
+import com.example.spring.service.OrderCreationResult;
+import com.example.spring.service.OrderService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 그룹 커밋 (bookstore.order.group-commit.enabled=true일 때만 동작)
+ * - 주문 생성 요청을 대기열에 모았다가 maxBatchSize건이 차거나 첫 요청 후 maxDelay가 지나면
+ *   OrderService.createOrders로 한 트랜잭션에서 저장 (커밋/도서 조회 1회, INSERT는 JDBC 배치)
+ * - 요청마다 자기 주문 결과 또는 예외로 future가 완료됨
+ * - 배치 트랜잭션 자체가 실패하면(제약 위반 등) 원인 주문만 실패하도록 주문별 트랜잭션으로 다시 처리
+ * - 대기열이 가득 차면 즉시 RejectedExecutionException (요청 스레드가 무한히 쌓이지 않도록)
+ * - 메트릭: order.group.commit.batch.size, order.group.commit.rejected
+ */
+@Slf4j
+@Component
+public class OrderGroupCommitter implements SmartLifecycle {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final OrderService orderService;
+    private final BookstoreProperties.Order.GroupCommit settings;
+    private final BlockingQueue<PendingOrder> queue;
+    private final DistributionSummary batchSizes;
+    private final Counter rejected;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public OrderGroupCommitter(OrderService orderService, BookstoreProperties properties, MeterRegistry meterRegistry) {
+        this.orderService = orderService;
+        this.settings = properties.getOrder().getGroupCommit();
+        this.queue = new ArrayBlockingQueue<>(settings.getQueueCapacity());
+        this.batchSizes = DistributionSummary.builder("order.group.commit.batch.size")
+                .description("그룹 커밋 한 번에 저장한 주문 요청 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("order.group.commit.rejected")
+                .description("대기열이 가득 차 거부된 주문 요청 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return settings.isEnabled();
+    }
+
+    /**
+     * 주문 생성 요청을 대기열에 추가
+     * @return 배치가 커밋되면 생성된 주문, 실패하면 해당 주문의 예외로 완료
+     */
+    public CompletableFuture<Order> submit(List<Long> bookIds) {
+        CompletableFuture<Order> future = new CompletableFuture<>();
+        if (!running) {
+            future.completeExceptionally(new IllegalStateException("주문 그룹 커밋이 실행 중이 아닙니다"));
+        } else if (!queue.offer(new PendingOrder(bookIds, future))) {
+            rejected.increment();
+            future.completeExceptionally(new RejectedExecutionException(
+                    "주문 대기열이 가득 찼습니다 (최대 " + settings.getQueueCapacity() + "건)"));
+        }
+        return future;
+    }
+
+    /**
+     * 주문 생성 요청 후 커밋될 때까지 대기 (OrderService.createOrder와 같은 예외를 그대로 전달)
+     */
+    public Order createOrder(List<Long> bookIds) {
+        try {
+            return submit(bookIds).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!settings.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("order-group-commit").daemon().start(this::run);
+        log.info("주문 그룹 커밋 시작 - 최대 배치: {}건, 최대 대기: {}ms, 대기열: {}건",
+                settings.getMaxBatchSize(), settings.getMaxDelay().toMillis(), settings.getQueueCapacity());
+    }
+
+    /**
+     * 새 요청은 거부하고, 이미 대기열에 들어온 요청은 모두 커밋한 뒤 종료
+     */
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("주문 그룹 커밋 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        List<PendingOrder> batch = new ArrayList<>(settings.getMaxBatchSize());
+        while (running || !queue.isEmpty()) {
+            PendingOrder first;
+            try {
+                first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue;   // stop() - 남은 요청을 처리하도록 반복 조건에서 판단
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            fillBatch(batch);
+            commit(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * maxBatchSize건이 차거나 첫 요청 후 maxDelay가 지날 때까지 대기열에서 추가로 꺼냄
+     */
+    private void fillBatch(List<PendingOrder> batch) {
+        long deadline = System.nanoTime() + settings.getMaxDelay().toNanos();
+        while (batch.size() < settings.getMaxBatchSize()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !running) {
+                queue.drainTo(batch, settings.getMaxBatchSize() - batch.size());
+                return;
+            }
+            try {
+                PendingOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    return;
+                }
+                batch.add(next);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void commit(List<PendingOrder> batch) {
+        batchSizes.record(batch.size());
+        try {
+            List<OrderCreationResult> results = orderService.createOrders(
+                    batch.stream().map(PendingOrder::bookIds).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                OrderCreationResult result = results.get(i);
+                if (result.isSuccess()) {
+                    batch.get(i).future().complete(result.order());
+                } else {
+                    batch.get(i).future().completeExceptionally(result.error());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("주문 그룹 커밋 실패, 주문별로 다시 처리 - 배치: {}건, 사유: {}", batch.size(), e.getMessage());
+            for (PendingOrder pending : batch) {
+                try {
+                    pending.future().complete(orderService.createOrder(pending.bookIds()));
+                } catch (RuntimeException orderError) {
+                    pending.future().completeExceptionally(orderError);
+                }
+            }
+        } catch (Error e) {
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+            throw e;
+        }
+    }
+
+    private record PendingOrder(List<Long> bookIds, CompletableFuture<Order> future) {
+    }
+}
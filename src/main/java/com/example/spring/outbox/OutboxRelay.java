@@ -0,0 +1,162 @@
+package com.example.spring.outbox;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.entity.Order;
+import com.example.spring.entity.OutboxMessage;
+import com.example.spring.repository.OrderRepository;
+import com.example.spring.repository.OutboxRepository;
+import com.example.spring.service.EmailService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 아웃박스 릴레이
+ * - 주문 트랜잭션과 함께 커밋된 아웃박스 메시지를 주기적으로 배치 선점하여 emailTaskExecutor에서 비동기 발송
+ * - 발송 완료를 기다리지 않고 반환하여 스케줄러 스레드(통계 보정, 필터 재구축과 공유)를 점유하지 않음
+ *   (발송 중인 메시지는 lease 동안 다시 선점되지 않으며, 발송 중 메시지 수는 maxInFlight로 제한)
+ * - 발송은 트랜잭션 밖에서 수행하므로 메일 서버가 느려도 주문 커밋이나 DB 커넥션에 영향이 없음
+ * - 실패 시 지수 백오프로 재시도하고, 최대 시도 횟수를 넘으면 FAILED로 남김
+ * - 선점 후 완료 표시 전에 프로세스가 죽으면 lease가 지난 뒤 다시 발송하므로 최소 1회 발송(중복 가능)을 보장
+ * - 메트릭: outbox.dispatch{type, result=done|retry|failed}
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final OrderRepository orderRepository;
+    private final EmailService emailService;
+    private final Executor executor;
+    private final BookstoreProperties.Outbox settings;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       OrderRepository orderRepository,
+                       EmailService emailService,
+                       @Qualifier("emailTaskExecutor") Executor executor,
+                       BookstoreProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.orderRepository = orderRepository;
+        this.emailService = emailService;
+        this.executor = executor;
+        this.settings = properties.getOutbox();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${bookstore.outbox.poll-interval:PT1S}",
+               initialDelayString = "${bookstore.outbox.poll-interval:PT1S}")
+    public void poll() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        // 배치가 가득 찼으면 밀린 메시지가 더 있을 수 있으므로 다음 주기를 기다리지 않고 이어서 처리 (폴링당 배치 수 제한)
+        for (int batch = 0; batch < settings.getMaxBatchesPerPoll(); batch++) {
+            if (relayBatch() < settings.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 발송 시각이 된 메시지를 한 배치 선점해 emailTaskExecutor에 넘기고 바로 반환
+     * - 발송 중 메시지가 maxInFlight에 가까우면 남은 자리만큼만 선점
+     *
+     * @return 선점한 메시지 수
+     */
+    public int relayBatch() {
+        int limit = Math.min(settings.getBatchSize(), settings.getMaxInFlight() - inFlight.get());
+        if (limit <= 0) {
+            return 0;
+        }
+        List<OutboxMessage> messages;
+        try {
+            messages = outboxRepository.claimDue(LocalDateTime.now(), settings.getLease(), limit);
+        } catch (RuntimeException e) {
+            log.warn("아웃박스 메시지 선점 실패 - 사유: {}", e.getMessage());
+            return 0;
+        }
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        inFlight.addAndGet(messages.size());
+        for (OutboxMessage message : messages) {
+            try {
+                CompletableFuture.runAsync(() -> dispatch(message), executor)
+                        .whenComplete((ignored, e) -> {
+                            inFlight.decrementAndGet();
+                            if (e != null) {
+                                log.warn("아웃박스 메시지 발송 실패 - ID: {}, 사유: {}", message.getId(), e.getMessage());
+                            }
+                        });
+            } catch (RejectedExecutionException e) {
+                // Executor 큐가 가득 찬 경우 - lease가 지나면 다시 선점됨
+                inFlight.decrementAndGet();
+                log.warn("아웃박스 메시지 발송 보류 - ID: {}, 사유: {}", message.getId(), e.getMessage());
+            }
+        }
+        return messages.size();
+    }
+
+    private void dispatch(OutboxMessage message) {
+        try {
+            switch (message.getType()) {
+                case ORDER_CONFIRMATION -> sendOrderConfirmation(message.getAggregateId());
+            }
+            outboxRepository.markDone(message.getId(), LocalDateTime.now());
+            record(message, "done");
+        } catch (RuntimeException e) {
+            handleFailure(message, e);
+        }
+    }
+
+    private void sendOrderConfirmation(Long orderId) {
+        Order order = orderRepository.findByIdWithBooks(orderId)
+                .orElseThrow(() -> new IllegalStateException("주문을 찾을 수 없습니다: " + orderId));
+        emailService.sendOrderConfirmation(order);
+    }
+
+    private void handleFailure(OutboxMessage message, RuntimeException cause) {
+        String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        LocalDateTime now = LocalDateTime.now();
+        if (message.getAttempts() >= settings.getMaxAttempts()) {
+            log.error("아웃박스 메시지 발송 포기 - ID: {}, 유형: {}, 대상 ID: {}, 시도: {}, 사유: {}",
+                    message.getId(), message.getType(), message.getAggregateId(), message.getAttempts(), error);
+            outboxRepository.markFailed(message.getId(), now, error);
+            record(message, "failed");
+            return;
+        }
+        Duration backoff = backoff(message.getAttempts());
+        log.warn("아웃박스 메시지 발송 실패, 재시도 예정 - ID: {}, 시도: {}, 대기: {}s, 사유: {}",
+                message.getId(), message.getAttempts(), backoff.toSeconds(), error);
+        outboxRepository.markRetry(message.getId(), now.plus(backoff), error);
+        record(message, "retry");
+    }
+
+    /**
+     * initialBackoff × 2^(attempts - 1), maxBackoff 상한
+     */
+    Duration backoff(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        Duration backoff = settings.getInitialBackoff().multipliedBy(1L << shift);
+        return backoff.compareTo(settings.getMaxBackoff()) > 0 ? settings.getMaxBackoff() : backoff;
+    }
+
+    private void record(OutboxMessage message, String result) {
+        meterRegistry.counter("outbox.dispatch", "type", message.getType().name(), "result", result).increment();
+    }
+}
@@ -1,11 +1,19 @@
 package com.example.spring.repository;
 
+import com.example.spring.dto.response.BookResponse;
 import com.example.spring.entity.Book;
+import com.example.spring.search.BookSearchDocument;
+import com.example.spring.statistics.BookCounts;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface BookRepository {
     Optional<Book> findById(Long id);
@@ -41,14 +49,64 @@ public interface BookRepository {
     List<Book> findByDeletedDateIsNotNull();
     List<Book> findByDeletedDateBetween(LocalDateTime startDate, LocalDateTime endDate);
 
-    // 복합 조건 검색 (JPQL 버전 - 페이징)
-    List<Book> searchBooksWithQueryFilters(String title, String author,
-                                          BigDecimal minPrice, BigDecimal maxPrice,
-                                          Boolean available, int offset, int limit);
+    // 활성 도서 조회 - 활성 도서 필터를 켠 상태로 조회하여 삭제된 행은 DB에서 걸러짐
+    Optional<Book> findActiveById(Long id);
+    Optional<Book> findActiveByIsbn(String isbn);
+    List<Book> findActiveByTitleContaining(String title);
+    List<Book> findActiveByAuthorContaining(String author);
+    List<Book> findActiveByTitleContainingOrAuthorContaining(String title, String author);
 
-    long countBooksWithQueryFilters(String title, String author,
-                                   BigDecimal minPrice, BigDecimal maxPrice,
-                                   Boolean available);
+    // 활성 도서 LIKE 검색 상위 N건 - 색인 검색과 같은 순서(제목/저자, ID)로 DB에서 잘라서 조회
+    List<Book> findActiveByTitleContaining(String title, int limit);
+    List<Book> findActiveByAuthorContaining(String author, int limit);
+    List<Book> findActiveByTitleContainingOrAuthorContaining(String title, String author, int limit);
+
+    // 활성 도서 페이징 조회 (화이트리스트 정렬 속성을 ORDER BY/LIMIT/OFFSET으로 DB에서 처리)
+    default Page<Book> findActiveBooks(Pageable pageable) {
+        return findActiveBooksWithFilters(null, null, null, null, null, pageable);
+    }
+
+    // 복합 조건 검색 (필터/정렬/페이징 모두 DB에서 처리)
+    Page<Book> findActiveBooksWithFilters(String title, String author,
+                                         BigDecimal minPrice, BigDecimal maxPrice,
+                                         Boolean available, Pageable pageable);
+
+    // 목록/검색 조회용 DTO 프로젝션 (엔티티를 만들지 않고 BookResponse를 쿼리에서 직접 생성)
+    // - unpaged Pageable이면 정렬만 적용하여 전체 반환
+    Page<BookResponse> findActiveBookResponses(String title, String author,
+                                               BigDecimal minPrice, BigDecimal maxPrice,
+                                               Boolean available, Pageable pageable);
+
+    Page<BookResponse> searchBookResponsesCounted(String title, String author,
+                                                  BigDecimal minPrice, BigDecimal maxPrice,
+                                                  Boolean available, Pageable pageable);
+
+    List<BookResponse> findActiveResponsesByIdIn(Collection<Long> ids);
+
+    // ID 일괄 조회 (한 번의 IN 쿼리, 존재하지 않는 ID는 missingIds로 보고)
+    BulkFetchResult<Book> findAllByIdIn(Collection<Long> ids);
+
+    // 대량 가져오기 - 이미 등록된 ISBN 조회 (삭제된 도서 포함, 청크당 한 번의 IN 쿼리)
+    Set<String> findExistingIsbns(Collection<String> isbns);
+
+    // 대량 가져오기 - INSERT를 JDBC 배치로 전송한 뒤 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지
+    void insertAll(List<Book> books);
+
+    // 전체 내보내기 - 활성 도서를 ID 순 전진 전용 커서로 읽으며 fetchSize 건마다 영속성 컨텍스트를 비움
+    void forEachActiveBook(int fetchSize, Consumer<Book> action);
+
+    // 유니크 키 필터 구축 - 삭제된 도서를 포함한 모든 ISBN을 전진 전용 커서로 전달
+    void forEachIsbn(int fetchSize, Consumer<String> action);
+
+    // 키셋(커서) 페이지네이션 - 최신 등록순 (createdDate DESC, id DESC)
+    List<Book> findActiveBooksAfter(KeysetCursor cursor, int limit);
+
+    // 통계 - 전체/활성/재고 보유 도서 수를 한 번의 COUNT 쿼리로 집계
+    BookCounts countBooks();
+
+    // 검색 색인 관련 메서드
+    List<Book> findActiveByIdIn(Collection<Long> ids);
+    List<BookSearchDocument> findSearchDocuments(Long afterId, int limit);
 
     // 편의 메서드
     default Book findBookById(Long id) {
@@ -0,0 +1,17 @@
+package com.example.spring.repository;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ID 일괄 조회 결과
+ *
+ * @param found 조회된 엔티티 (ID → 엔티티)
+ * @param missingIds 요청했지만 존재하지 않는 ID
+ */
+public record BulkFetchResult<T>(Map<Long, T> found, Set<Long> missingIds) {
+
+    public boolean hasMissing() {
+        return !missingIds.isEmpty();
+    }
+}
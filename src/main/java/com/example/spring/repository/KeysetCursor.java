@@ -0,0 +1,76 @@
+package com.example.spring.repository;
+
+import com.example.spring.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션 위치
+ * - 마지막으로 반환한 행의 (정렬 시각, ID)를 기억하고, 다음 페이지는 그 뒤부터 조회 (OFFSET 미사용)
+ * - 클라이언트에는 불투명한 토큰(Base64 URL)으로만 노출
+ *
+ * @param timestamp 정렬 기준 시각 (ID 단독 정렬이면 null)
+ * @param id 마지막 행의 ID (동일 시각 정렬 보조 키)
+ */
+public record KeysetCursor(LocalDateTime timestamp, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public KeysetCursor {
+        if (id == null) {
+            throw new IllegalArgumentException("커서 ID는 필수입니다");
+        }
+    }
+
+    public static KeysetCursor of(LocalDateTime timestamp, Long id) {
+        return new KeysetCursor(timestamp, id);
+    }
+
+    public static KeysetCursor ofId(Long id) {
+        return new KeysetCursor(null, id);
+    }
+
+    public String encode() {
+        String raw = (timestamp == null ? "" : timestamp.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 해석
+     * @return 토큰이 비어 있으면 null (첫 페이지)
+     * @throws InvalidCursorException 형식이 잘못된 토큰
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException(token);
+            }
+            String timestamp = raw.substring(0, separator);
+            Long id = Long.valueOf(raw.substring(separator + 1));
+            return new KeysetCursor(timestamp.isEmpty() ? null : LocalDateTime.parse(timestamp), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    /**
+     * (정렬 시각, ID) 순 목록의 토큰 해석
+     * @return 토큰이 비어 있으면 null (첫 페이지)
+     * @throws InvalidCursorException 형식이 잘못되었거나 정렬 시각이 없는 토큰 (ID 단독 목록의 커서 등)
+     */
+    public static KeysetCursor decodeTimestamped(String token) {
+        KeysetCursor cursor = decode(token);
+        if (cursor != null && cursor.timestamp() == null) {
+            throw new InvalidCursorException(token);
+        }
+        return cursor;
+    }
+}
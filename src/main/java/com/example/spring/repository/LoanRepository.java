@@ -29,6 +29,13 @@ public interface LoanRepository {
     // 연체 대여 수 조회
     long countOverdueLoans();
 
+    // 회원별 미반납 대여 수 조회 (엔티티를 읽지 않고 COUNT만 수행)
+    long countByMemberIdAndReturnDateIsNull(Long memberId);
+
+    // 키셋(커서) 페이지네이션 - 최신 대여순 (id DESC)
+    List<Loan> findAllAfter(KeysetCursor cursor, int limit);
+    List<Loan> findByMemberIdAfter(Long memberId, KeysetCursor cursor, int limit);
+
     default Loan findLoanById(Long id) {
         return findById(id).orElse(null);
     }
@@ -1,11 +1,14 @@
 package com.example.spring.repository;
 
+import com.example.spring.dto.response.MemberResponse;
 import com.example.spring.entity.Member;
 import com.example.spring.entity.MembershipType;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface MemberRepository {
     Optional<Member> findById(Long id);
@@ -17,6 +20,10 @@ public interface MemberRepository {
     List<Member> findByMembershipType(MembershipType membershipType);
     List<Member> findByNameContaining(String name);
     boolean existsByEmail(String email);
+    long countAll();
+
+    // 유니크 키 필터 구축 - 모든 회원 이메일을 전진 전용 커서로 전달
+    void forEachEmail(int fetchSize, Consumer<String> action);
     
     // 복합 조건 검색
     List<Member> findByMembershipTypeAndNameContaining(MembershipType membershipType, String name);
@@ -24,6 +31,16 @@ public interface MemberRepository {
     // 날짜 범위 검색
     List<Member> findByJoinDateBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    // 키셋(커서) 페이지네이션 - 최신 가입순 (id DESC)
+    List<Member> findAllAfter(KeysetCursor cursor, int limit);
+
+    // 목록 조회 - MemberResponse로 바로 프로젝션 (LIMIT/OFFSET, 정렬은 화이트리스트만 허용, 기본 id DESC)
+    List<MemberResponse> findMemberResponses(Pageable pageable);
+    List<MemberResponse> findMemberResponsesAfter(KeysetCursor cursor, int limit);
+
+    // 전체 회원 수 - limit 건까지만 세어 대량 테이블 전체 스캔을 피함
+    long countUpTo(long limit);
+
     default Member findMemberById(Long id) {
         return findById(id).orElse(null);
     }
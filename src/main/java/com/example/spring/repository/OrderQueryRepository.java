@@ -0,0 +1,20 @@
+package com.example.spring.repository;
+
+import com.example.spring.dto.response.OrderResponse;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 주문 목록 DTO 조회 (JpaOrderRepository 구현 조각)
+ * - 최신 주문순(orderDate DESC, id DESC)으로 주문을 조회한 뒤, 페이지의 주문 아이템과 도서를 IN 쿼리 한 번으로 채움
+ *   (페이지 크기와 무관하게 쿼리 2회, 엔티티를 영속성 컨텍스트에 올리지 않음)
+ */
+public interface OrderQueryRepository {
+
+    // 오프셋 페이지 (pageable의 정렬은 무시하고 최신 주문순)
+    List<OrderResponse> findOrderResponses(Pageable pageable);
+
+    // 키셋(커서) 페이지네이션 - 최신 주문순 (orderDate DESC, id DESC)
+    List<OrderResponse> findOrderResponsesAfter(KeysetCursor cursor, int limit);
+}
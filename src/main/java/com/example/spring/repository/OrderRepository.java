@@ -5,10 +5,14 @@ import com.example.spring.entity.Order;
 import java.util.List;
 import java.util.Optional;
 
-public interface OrderRepository {
+public interface OrderRepository extends OrderQueryRepository {
     Order save(Order order);
     Optional<Order> findById(Long id);
     List<Order> findAll();
+    long count();
+
+    // 주문 아이템과 도서를 함께 조회 (트랜잭션 밖에서 order.getBooks()를 사용하는 이메일 발송용)
+    Optional<Order> findByIdWithBooks(Long id);
 
     // 편의 메서드 - Optional을 처리하지 않고 직접 Order 반환
     default Order findOrderById(Long id) {
@@ -0,0 +1,23 @@
+package com.example.spring.repository;
+
+import com.example.spring.entity.OutboxMessage;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxRepository {
+    OutboxMessage save(OutboxMessage message);
+    Optional<OutboxMessage> findById(Long id);
+
+    // 발송 시각이 된 PENDING 메시지를 id 순으로 최대 limit건 선점
+    // (시도 횟수 +1, 다음 시도 시각을 now + lease로 미뤄 다른 릴레이가 가져가지 않게 함)
+    List<OutboxMessage> claimDue(LocalDateTime now, Duration lease, int limit);
+
+    void markDone(Long id, LocalDateTime processedAt);
+    void markRetry(Long id, LocalDateTime nextAttemptAt, String error);
+    void markFailed(Long id, LocalDateTime processedAt, String error);
+
+    long countByStatus(OutboxMessage.Status status);
+}
@@ -1,17 +1,42 @@
 package com.example.spring.repository.impl;
 
+import com.example.spring.dto.response.BookResponse;
 import com.example.spring.entity.Book;
 import com.example.spring.repository.BookRepository;
+import com.example.spring.repository.BulkFetchResult;
+import com.example.spring.repository.KeysetCursor;
+import com.example.spring.search.BookSearchDocument;
+import com.example.spring.statistics.BookCounts;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
+import org.hibernate.FlushMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * EntityManager를 사용한 BookRepository JPA 구현
@@ -23,6 +48,69 @@ import java.util.Optional;
 @Transactional
 public class JpaBookRepository implements BookRepository {
 
+    /**
+     * 정렬 가능한 속성 화이트리스트 (요청 파라미터 → JPQL 경로)
+     * - 목록에 없는 속성은 무시하여 JPQL 인젝션을 차단
+     */
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "title", "b.title",
+            "author", "b.author",
+            "price", "b.price",
+            "createdDate", "b.createdDate"
+    );
+
+    private static final char LIKE_ESCAPE = '!';
+
+    // IN 절 파라미터 개수 제한 (DB별 바인드 변수 한도 대비)
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    // 필터 사용 여부 비트 (쿼리 형태 캐시 키)
+    private static final int FILTER_TITLE = 1;
+    private static final int FILTER_AUTHOR = 1 << 1;
+    private static final int FILTER_MIN_PRICE = 1 << 2;
+    private static final int FILTER_MAX_PRICE = 1 << 3;
+    private static final int FILTER_AVAILABLE = 1 << 4;
+
+    /**
+     * 필터 조합별 WHERE 절 / 윈도우 COUNT 검색 쿼리 (32가지 형태를 미리 생성)
+     * - 조합마다 항상 같은 JPQL 문자열을 사용하므로 Hibernate 쿼리 계획 캐시에서 파싱 결과를 재사용
+     */
+    private static final String[] FILTER_WHERE_CLAUSES = new String[1 << 5];
+    private static final String[] COUNTED_PROJECTION_QUERIES = new String[1 << 5];
+
+    /**
+     * BookResponse 프로젝션 (엔티티 대신 필요한 컬럼만 조회하여 DTO를 직접 생성)
+     * - 영속성 컨텍스트에 엔티티/스냅샷이 쌓이지 않아 목록/검색 조회의 할당과 관리 비용이 줄어듦
+     */
+    private static final String RESPONSE_COLUMNS =
+            "b.id, b.title, b.author, b.isbn, b.price, b.available, b.createdDate, b.updatedDate";
+    private static final String SELECT_RESPONSE =
+            "SELECT new com.example.spring.dto.response.BookResponse(" + RESPONSE_COLUMNS + ") FROM Book b";
+
+    static {
+        for (int mask = 0; mask < FILTER_WHERE_CLAUSES.length; mask++) {
+            StringBuilder where = new StringBuilder(" WHERE b.deletedDate IS NULL");
+            if ((mask & FILTER_TITLE) != 0) {
+                where.append(" AND LOWER(b.title) LIKE :title ESCAPE '").append(LIKE_ESCAPE).append("'");
+            }
+            if ((mask & FILTER_AUTHOR) != 0) {
+                where.append(" AND LOWER(b.author) LIKE :author ESCAPE '").append(LIKE_ESCAPE).append("'");
+            }
+            if ((mask & FILTER_MIN_PRICE) != 0) {
+                where.append(" AND b.price >= :minPrice");
+            }
+            if ((mask & FILTER_MAX_PRICE) != 0) {
+                where.append(" AND b.price <= :maxPrice");
+            }
+            if ((mask & FILTER_AVAILABLE) != 0) {
+                where.append(" AND b.available = :available");
+            }
+            FILTER_WHERE_CLAUSES[mask] = where.toString();
+            COUNTED_PROJECTION_QUERIES[mask] = "SELECT " + RESPONSE_COLUMNS + ", COUNT(*) OVER () FROM Book b" + where
+                    + " ORDER BY b.createdDate DESC, b.id DESC";
+        }
+    }
+
     @PersistenceContext
     private EntityManager em;
 
@@ -206,94 +294,414 @@ public class JpaBookRepository implements BookRepository {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Book> searchBooksWithQueryFilters(String title, String author,
-                                                 BigDecimal minPrice, BigDecimal maxPrice,
-                                                 Boolean available, int offset, int limit) {
-        StringBuilder jpql = new StringBuilder("SELECT b FROM Book b WHERE b.deletedDate IS NULL");
+    public Optional<Book> findActiveById(Long id) {
+        // em.find는 세션 필터를 적용하지 않으므로 JPQL로 조회
+        return activeOnly(() -> em.createQuery("SELECT b FROM Book b WHERE b.id = :id", Book.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst());
+    }
 
-        if (title != null && !title.trim().isEmpty()) {
-            jpql.append(" AND LOWER(b.title) LIKE LOWER(:title)");
-        }
-        if (author != null && !author.trim().isEmpty()) {
-            jpql.append(" AND LOWER(b.author) LIKE LOWER(:author)");
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Book> findActiveByIsbn(String isbn) {
+        return activeOnly(() -> findByIsbn(isbn));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findActiveByTitleContaining(String title) {
+        return activeOnly(() -> findByTitleContaining(title));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findActiveByAuthorContaining(String author) {
+        return activeOnly(() -> findByAuthorContaining(author));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findActiveByTitleContainingOrAuthorContaining(String title, String author) {
+        return activeOnly(() -> findByTitleContainingOrAuthorContaining(title, author));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findActiveByTitleContaining(String title, int limit) {
+        return activeOnly(() -> em.createQuery(
+                "SELECT b FROM Book b WHERE b.title LIKE :title ORDER BY b.title, b.id",
+                Book.class)
+                .setParameter("title", "%" + title + "%")
+                .setMaxResults(limit)
+                .getResultList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findActiveByAuthorContaining(String author, int limit) {
+        return activeOnly(() -> em.createQuery(
+                "SELECT b FROM Book b WHERE b.author LIKE :author ORDER BY b.author, b.id",
+                Book.class)
+                .setParameter("author", "%" + author + "%")
+                .setMaxResults(limit)
+                .getResultList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findActiveByTitleContainingOrAuthorContaining(String title, String author, int limit) {
+        return activeOnly(() -> em.createQuery(
+                "SELECT b FROM Book b WHERE b.title LIKE :title OR b.author LIKE :author ORDER BY b.title, b.id",
+                Book.class)
+                .setParameter("title", "%" + title + "%")
+                .setParameter("author", "%" + author + "%")
+                .setMaxResults(limit)
+                .getResultList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Book> findActiveBooksWithFilters(String title, String author,
+                                                BigDecimal minPrice, BigDecimal maxPrice,
+                                                Boolean available, Pageable pageable) {
+        String where = FILTER_WHERE_CLAUSES[filterMask(title, author, minPrice, maxPrice, available)];
+
+        TypedQuery<Book> query = em.createQuery(
+                "SELECT b FROM Book b" + where + orderByClause(pageable.getSort()), Book.class);
+        bindFilterParameters(query, title, author, minPrice, maxPrice, available);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+
+        List<Book> content = query.getResultList();
+
+        // 첫 페이지가 다 차지 않았거나 마지막 페이지인 경우 COUNT 쿼리 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            TypedQuery<Long> countQuery = em.createQuery("SELECT COUNT(b) FROM Book b" + where, Long.class);
+            bindFilterParameters(countQuery, title, author, minPrice, maxPrice, available);
+            return countQuery.getSingleResult();
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BookResponse> findActiveBookResponses(String title, String author,
+                                                      BigDecimal minPrice, BigDecimal maxPrice,
+                                                      Boolean available, Pageable pageable) {
+        String where = FILTER_WHERE_CLAUSES[filterMask(title, author, minPrice, maxPrice, available)];
+
+        TypedQuery<BookResponse> query = projectionQuery(
+                SELECT_RESPONSE + where + orderByClause(pageable.getSort()), BookResponse.class);
+        bindFilterParameters(query, title, author, minPrice, maxPrice, available);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(query.getResultList());
         }
-        if (minPrice != null) {
-            jpql.append(" AND b.price >= :minPrice");
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+
+        List<BookResponse> content = query.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            TypedQuery<Long> countQuery = projectionQuery("SELECT COUNT(b) FROM Book b" + where, Long.class);
+            bindFilterParameters(countQuery, title, author, minPrice, maxPrice, available);
+            return countQuery.getSingleResult();
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BookResponse> searchBookResponsesCounted(String title, String author,
+                                                         BigDecimal minPrice, BigDecimal maxPrice,
+                                                         Boolean available, Pageable pageable) {
+        // 생성자 표현식과 윈도우 함수를 함께 선택할 수 없으므로 컬럼 배열로 받아 직접 생성
+        TypedQuery<Object[]> query = projectionQuery(
+                COUNTED_PROJECTION_QUERIES[filterMask(title, author, minPrice, maxPrice, available)], Object[].class);
+        bindFilterParameters(query, title, author, minPrice, maxPrice, available);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+
+        List<Object[]> rows = query.getResultList();
+        List<BookResponse> content = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            content.add(new BookResponse((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                    (BigDecimal) row[4], (Boolean) row[5], (LocalDateTime) row[6], (LocalDateTime) row[7]));
         }
-        if (maxPrice != null) {
-            jpql.append(" AND b.price <= :maxPrice");
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> rows.isEmpty()
+                ? countActiveBooks(title, author, minPrice, maxPrice, available)
+                : ((Number) rows.get(0)[8]).longValue());
+    }
+
+    /**
+     * 윈도우 COUNT 조회와 같은 조건(FILTER_WHERE_CLAUSES, LIKE 이스케이프 포함)의 전체 건수
+     */
+    private long countActiveBooks(String title, String author,
+                                  BigDecimal minPrice, BigDecimal maxPrice, Boolean available) {
+        TypedQuery<Long> countQuery = projectionQuery("SELECT COUNT(b) FROM Book b"
+                + FILTER_WHERE_CLAUSES[filterMask(title, author, minPrice, maxPrice, available)], Long.class);
+        bindFilterParameters(countQuery, title, author, minPrice, maxPrice, available);
+        return countQuery.getSingleResult();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookResponse> findActiveResponsesByIdIn(Collection<Long> ids) {
+        List<Long> idList = new ArrayList<>(ids);
+        List<BookResponse> responses = new ArrayList<>(idList.size());
+        for (int from = 0; from < idList.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, idList.size()));
+            responses.addAll(projectionQuery(
+                    SELECT_RESPONSE + " WHERE b.id IN :ids AND b.deletedDate IS NULL ORDER BY b.id",
+                    BookResponse.class)
+                    .setParameter("ids", chunk)
+                    .getResultList());
         }
-        if (available != null) {
-            jpql.append(" AND b.available = :available");
+        return responses;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BulkFetchResult<Book> findAllByIdIn(Collection<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        Map<Long, Book> found = new HashMap<>(requested.size() * 2);
+        List<Long> idList = new ArrayList<>(requested);
+        for (int from = 0; from < idList.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, idList.size()));
+            em.createQuery("SELECT b FROM Book b WHERE b.id IN :ids", Book.class)
+                    .setParameter("ids", chunk)
+                    .getResultList()
+                    .forEach(book -> found.put(book.getId(), book));
         }
 
-        jpql.append(" ORDER BY b.createdDate DESC");
+        Set<Long> missingIds = new LinkedHashSet<>(requested);
+        missingIds.removeAll(found.keySet());
+        return new BulkFetchResult<>(found, missingIds);
+    }
 
-        TypedQuery<Book> query = em.createQuery(jpql.toString(), Book.class);
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findExistingIsbns(Collection<String> isbns) {
+        List<String> isbnList = new ArrayList<>(new LinkedHashSet<>(isbns));
+        Set<String> existing = new LinkedHashSet<>();
+        for (int from = 0; from < isbnList.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = isbnList.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, isbnList.size()));
+            existing.addAll(em.createQuery("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns", String.class)
+                    .setParameter("isbns", chunk)
+                    .getResultList());
+        }
+        return existing;
+    }
 
-        if (title != null && !title.trim().isEmpty()) {
-            query.setParameter("title", "%" + title + "%");
+    @Override
+    public void insertAll(List<Book> books) {
+        for (Book book : books) {
+            em.persist(book);
         }
-        if (author != null && !author.trim().isEmpty()) {
-            query.setParameter("author", "%" + author + "%");
+        em.flush();
+        em.clear();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachActiveBook(int fetchSize, Consumer<Book> action) {
+        Session session = em.unwrap(Session.class);
+        // 읽기 전용 + 전진 전용 커서: 스냅샷을 만들지 않고, JDBC 드라이버가 fetchSize 행씩 가져옴
+        try (ScrollableResults<Book> rows = session
+                .createSelectionQuery("SELECT b FROM Book b WHERE b.deletedDate IS NULL ORDER BY b.id", Book.class)
+                .setReadOnly(true)
+                .setFetchSize(fetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            long count = 0;
+            while (rows.next()) {
+                action.accept(rows.get());
+                if (++count % fetchSize == 0) {
+                    session.clear();
+                }
+            }
         }
-        if (minPrice != null) {
-            query.setParameter("minPrice", minPrice);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachIsbn(int fetchSize, Consumer<String> action) {
+        try (ScrollableResults<String> rows = em.unwrap(Session.class)
+                .createSelectionQuery("SELECT b.isbn FROM Book b", String.class)
+                .setFetchSize(fetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (rows.next()) {
+                action.accept(rows.get());
+            }
         }
-        if (maxPrice != null) {
-            query.setParameter("maxPrice", maxPrice);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findActiveByIdIn(Collection<Long> ids) {
+        List<Long> idList = new ArrayList<>(ids);
+        List<Book> books = new ArrayList<>(idList.size());
+        for (int from = 0; from < idList.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, idList.size()));
+            books.addAll(em.createQuery(
+                    "SELECT b FROM Book b WHERE b.id IN :ids AND b.deletedDate IS NULL ORDER BY b.id",
+                    Book.class)
+                    .setParameter("ids", chunk)
+                    .getResultList());
         }
-        if (available != null) {
-            query.setParameter("available", available);
+        return books;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findActiveBooksAfter(KeysetCursor cursor, int limit) {
+        // (createdDate, id) 복합 인덱스를 따라 커서 위치부터 읽으므로 페이지 깊이와 무관하게 일정한 비용
+        StringBuilder jpql = new StringBuilder("SELECT b FROM Book b WHERE b.deletedDate IS NULL");
+        if (cursor != null) {
+            jpql.append(" AND (b.createdDate < :createdDate")
+                .append(" OR (b.createdDate = :createdDate AND b.id < :id))");
         }
+        jpql.append(" ORDER BY b.createdDate DESC, b.id DESC");
 
-        query.setFirstResult(offset);
-        query.setMaxResults(limit);
+        TypedQuery<Book> query = em.createQuery(jpql.toString(), Book.class);
+        if (cursor != null) {
+            query.setParameter("createdDate", cursor.timestamp());
+            query.setParameter("id", cursor.id());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
 
-        return query.getResultList();
+    @Override
+    @Transactional(readOnly = true)
+    public BookCounts countBooks() {
+        Object[] row = em.createQuery(
+                "SELECT COUNT(b), " +
+                "SUM(CASE WHEN b.deletedDate IS NULL THEN 1 ELSE 0 END), " +
+                "SUM(CASE WHEN b.deletedDate IS NULL AND b.available = true THEN 1 ELSE 0 END) " +
+                "FROM Book b",
+                Object[].class)
+                .getSingleResult();
+        return new BookCounts(toLong(row[0]), toLong(row[1]), toLong(row[2]));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public long countBooksWithQueryFilters(String title, String author,
-                                          BigDecimal minPrice, BigDecimal maxPrice,
-                                          Boolean available) {
-        StringBuilder jpql = new StringBuilder("SELECT COUNT(b) FROM Book b WHERE b.deletedDate IS NULL");
+    public List<BookSearchDocument> findSearchDocuments(Long afterId, int limit) {
+        return em.createQuery(
+                "SELECT new com.example.spring.search.BookSearchDocument(b.id, b.title, b.author) " +
+                "FROM Book b WHERE b.deletedDate IS NULL AND b.id > :afterId ORDER BY b.id",
+                BookSearchDocument.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
 
-        if (title != null && !title.trim().isEmpty()) {
-            jpql.append(" AND LOWER(b.title) LIKE LOWER(:title)");
+    private void bindFilterParameters(TypedQuery<?> query, String title, String author,
+                                      BigDecimal minPrice, BigDecimal maxPrice, Boolean available) {
+        if (StringUtils.hasText(title)) {
+            query.setParameter("title", containsPattern(title));
         }
-        if (author != null && !author.trim().isEmpty()) {
-            jpql.append(" AND LOWER(b.author) LIKE LOWER(:author)");
+        if (StringUtils.hasText(author)) {
+            query.setParameter("author", containsPattern(author));
         }
         if (minPrice != null) {
-            jpql.append(" AND b.price >= :minPrice");
+            query.setParameter("minPrice", minPrice);
         }
         if (maxPrice != null) {
-            jpql.append(" AND b.price <= :maxPrice");
+            query.setParameter("maxPrice", maxPrice);
         }
         if (available != null) {
-            jpql.append(" AND b.available = :available");
+            query.setParameter("available", available);
+        }
+    }
+
+    /**
+     * 활성 도서 필터(Book.ACTIVE_FILTER)를 켠 상태로 조회 후 원래 상태로 복원
+     * - 필터 조건이 SQL에 추가되므로 삭제된 행은 전송/엔티티 생성 없이 DB에서 걸러짐
+     * - 이미 켜져 있으면(중첩 호출) 그대로 사용
+     */
+    private <T> T activeOnly(Supplier<T> query) {
+        Session session = em.unwrap(Session.class);
+        if (session.getEnabledFilter(Book.ACTIVE_FILTER) != null) {
+            return query.get();
         }
+        session.enableFilter(Book.ACTIVE_FILTER);
+        try {
+            return query.get();
+        } finally {
+            session.disableFilter(Book.ACTIVE_FILTER);
+        }
+    }
 
-        TypedQuery<Long> query = em.createQuery(jpql.toString(), Long.class);
+    /**
+     * 프로젝션 조회용 쿼리 - 관리 엔티티를 반환하지 않으므로 쿼리 전 자동 flush(더티 체킹)를 생략
+     * (세션 자체는 @Transactional(readOnly = true)로 읽기 전용/수동 flush 모드)
+     */
+    private <T> TypedQuery<T> projectionQuery(String jpql, Class<T> resultType) {
+        return em.createQuery(jpql, resultType)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+    }
+
+    // 빈 테이블의 SUM은 NULL
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
 
-        if (title != null && !title.trim().isEmpty()) {
-            query.setParameter("title", "%" + title + "%");
+    private static int filterMask(String title, String author,
+                                  BigDecimal minPrice, BigDecimal maxPrice, Boolean available) {
+        int mask = 0;
+        if (StringUtils.hasText(title)) {
+            mask |= FILTER_TITLE;
         }
-        if (author != null && !author.trim().isEmpty()) {
-            query.setParameter("author", "%" + author + "%");
+        if (StringUtils.hasText(author)) {
+            mask |= FILTER_AUTHOR;
         }
         if (minPrice != null) {
-            query.setParameter("minPrice", minPrice);
+            mask |= FILTER_MIN_PRICE;
         }
         if (maxPrice != null) {
-            query.setParameter("maxPrice", maxPrice);
+            mask |= FILTER_MAX_PRICE;
         }
         if (available != null) {
-            query.setParameter("available", available);
+            mask |= FILTER_AVAILABLE;
+        }
+        return mask;
+    }
+
+    /**
+     * 대소문자 무시 부분 일치 패턴 생성 (LIKE 와일드카드 문자는 이스케이프)
+     */
+    private static String containsPattern(String keyword) {
+        StringBuilder pattern = new StringBuilder("%");
+        for (char c : keyword.toLowerCase().toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
         }
+        return pattern.append('%').toString();
+    }
 
-        return query.getSingleResult();
+    /**
+     * Sort → ORDER BY 절 변환
+     * - 정렬 조건이 없으면 최신 등록순
+     * - 페이지 경계가 흔들리지 않도록 항상 id를 마지막 정렬 키로 추가
+     */
+    private static String orderByClause(Sort sort) {
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+        Sort.Direction tieBreaker = Sort.Direction.DESC;
+        boolean sorted = false;
+
+        for (Sort.Order order : sort) {
+            String path = SORTABLE_PROPERTIES.get(order.getProperty());
+            if (path != null) {
+                orderBy.add(path + " " + order.getDirection().name());
+                tieBreaker = order.getDirection();
+                sorted = true;
+            }
+        }
+        if (!sorted) {
+            orderBy.add("b.createdDate DESC");
+        }
+        orderBy.add("b.id " + tieBreaker.name());
+        return orderBy.toString();
     }
 }
@@ -1,6 +1,7 @@
 package com.example.spring.repository.impl;
 
 import com.example.spring.entity.Loan;
+import com.example.spring.repository.KeysetCursor;
 import com.example.spring.repository.LoanRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -79,6 +80,16 @@ public class JpaLoanRepository implements LoanRepository {
                 .getResultList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long countByMemberIdAndReturnDateIsNull(Long memberId) {
+        return em.createQuery(
+                "SELECT COUNT(l) FROM Loan l WHERE l.member.id = :memberId AND l.returnDate IS NULL",
+                Long.class)
+                .setParameter("memberId", memberId)
+                .getSingleResult();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Loan> findByBookIdAndReturnDateIsNull(Long bookId) {
@@ -139,4 +150,39 @@ public class JpaLoanRepository implements LoanRepository {
                 .setParameter("currentDate", LocalDateTime.now())
                 .getSingleResult();
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Loan> findAllAfter(KeysetCursor cursor, int limit) {
+        if (cursor == null) {
+            return em.createQuery("SELECT l FROM Loan l ORDER BY l.id DESC", Loan.class)
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+        return em.createQuery("SELECT l FROM Loan l WHERE l.id < :id ORDER BY l.id DESC", Loan.class)
+                .setParameter("id", cursor.id())
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Loan> findByMemberIdAfter(Long memberId, KeysetCursor cursor, int limit) {
+        // (member_id, id) 인덱스 범위 조회, 응답에 쓰는 도서는 함께 조회
+        if (cursor == null) {
+            return em.createQuery(
+                    "SELECT l FROM Loan l JOIN FETCH l.book WHERE l.member.id = :memberId ORDER BY l.id DESC",
+                    Loan.class)
+                    .setParameter("memberId", memberId)
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+        return em.createQuery(
+                "SELECT l FROM Loan l JOIN FETCH l.book WHERE l.member.id = :memberId AND l.id < :id ORDER BY l.id DESC",
+                Loan.class)
+                .setParameter("memberId", memberId)
+                .setParameter("id", cursor.id())
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -1,22 +1,46 @@
 package com.example.spring.repository.impl;
 
+import com.example.spring.dto.response.MemberResponse;
 import com.example.spring.entity.Member;
 import com.example.spring.entity.MembershipType;
+import com.example.spring.repository.KeysetCursor;
 import com.example.spring.repository.MemberRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
 
 @Repository
 @Transactional
 public class JpaMemberRepository implements MemberRepository {
 
+    /**
+     * 정렬 가능한 속성 화이트리스트 (요청 파라미터 → JPQL 경로)
+     */
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "id", "m.id",
+            "name", "m.name",
+            "email", "m.email",
+            "joinDate", "m.joinDate"
+    );
+
+    private static final String SELECT_RESPONSE =
+            "SELECT new com.example.spring.dto.response.MemberResponse(" +
+            "m.id, m.name, m.email, m.membershipType, m.joinDate) FROM Member m";
+
     @PersistenceContext
     private EntityManager em;
 
@@ -92,6 +116,26 @@ public class JpaMemberRepository implements MemberRepository {
         return count > 0;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long countAll() {
+        return em.createQuery("SELECT COUNT(m) FROM Member m", Long.class)
+                .getSingleResult();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachEmail(int fetchSize, Consumer<String> action) {
+        try (ScrollableResults<String> rows = em.unwrap(Session.class)
+                .createSelectionQuery("SELECT m.email FROM Member m", String.class)
+                .setFetchSize(fetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (rows.next()) {
+                action.accept(rows.get());
+            }
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Member> findByMembershipTypeAndNameContaining(MembershipType membershipType, String name) {
@@ -113,4 +157,75 @@ public class JpaMemberRepository implements MemberRepository {
                 .setParameter("endDate", endDate)
                 .getResultList();
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Member> findAllAfter(KeysetCursor cursor, int limit) {
+        // ID는 가입 순서대로 증가하므로 PK 인덱스만으로 커서 위치부터 조회
+        if (cursor == null) {
+            return em.createQuery("SELECT m FROM Member m ORDER BY m.id DESC", Member.class)
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+        return em.createQuery("SELECT m FROM Member m WHERE m.id < :id ORDER BY m.id DESC", Member.class)
+                .setParameter("id", cursor.id())
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberResponse> findMemberResponses(Pageable pageable) {
+        TypedQuery<MemberResponse> query = em.createQuery(
+                SELECT_RESPONSE + orderByClause(pageable.getSort()), MemberResponse.class);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberResponse> findMemberResponsesAfter(KeysetCursor cursor, int limit) {
+        if (cursor == null) {
+            return em.createQuery(SELECT_RESPONSE + " ORDER BY m.id DESC", MemberResponse.class)
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+        return em.createQuery(SELECT_RESPONSE + " WHERE m.id < :id ORDER BY m.id DESC", MemberResponse.class)
+                .setParameter("id", cursor.id())
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countUpTo(long limit) {
+        // LIMIT을 건 파생 테이블을 세므로 limit 건을 읽으면 멈춤 (JPQL은 FROM 절 서브쿼리에 LIMIT 미지원)
+        Number count = (Number) em.createNativeQuery(
+                "SELECT COUNT(*) FROM (SELECT 1 FROM member LIMIT :limit) counted")
+                .setParameter("limit", limit)
+                .getSingleResult();
+        return count.longValue();
+    }
+
+    private static String orderByClause(Sort sort) {
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+        Sort.Direction tieBreaker = Sort.Direction.DESC;
+        boolean sortedById = false;
+
+        for (Sort.Order order : sort) {
+            String path = SORTABLE_PROPERTIES.get(order.getProperty());
+            if (path != null) {
+                orderBy.add(path + " " + order.getDirection().name());
+                tieBreaker = order.getDirection();
+                sortedById |= path.equals("m.id");
+            }
+        }
+        if (!sortedById) {
+            orderBy.add("m.id " + tieBreaker.name());
+        }
+        return orderBy.toString();
+    }
+}
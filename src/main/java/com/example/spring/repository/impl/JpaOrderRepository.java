@@ -1,12 +1,23 @@
 package com.example.spring.repository.impl;
 
 import com.example.spring.entity.Order;
+import com.example.spring.repository.OrderQueryRepository;
 import com.example.spring.repository.OrderRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
+// 목록 DTO 조회는 OrderQueryRepositoryImpl 구현 조각으로 결합
 @Repository
-public interface JpaOrderRepository extends JpaRepository<Order, Long>, OrderRepository {
+public interface JpaOrderRepository extends JpaRepository<Order, Long>, OrderRepository, OrderQueryRepository {
+
+    @Override
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems i LEFT JOIN FETCH i.book WHERE o.id = :id")
+    Optional<Order> findByIdWithBooks(@Param("id") Long id);
+
     // 추가적인 쿼리 메서드를 필요에 따라 선언 가능
     // 예: List<Order> findByOrderDateBetween(LocalDateTime start, LocalDateTime end);
 }
\ No newline at end of file
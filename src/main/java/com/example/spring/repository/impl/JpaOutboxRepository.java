@@ -0,0 +1,116 @@
+package com.example.spring.repository.impl;
+
+import com.example.spring.entity.OutboxMessage;
+import com.example.spring.repository.OutboxRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.LockOptions;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Transactional
+public class JpaOutboxRepository implements OutboxRepository {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public OutboxMessage save(OutboxMessage message) {
+        if (message.getId() == null) {
+            em.persist(message);
+            return message;
+        } else {
+            return em.merge(message);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<OutboxMessage> findById(Long id) {
+        return Optional.ofNullable(em.find(OutboxMessage.class, id));
+    }
+
+    /**
+     * SELECT ... FOR UPDATE SKIP LOCKED로 읽어 여러 릴레이가 동시에 폴링해도 같은 행을 나눠 갖지 않음
+     * - 선점 후 바로 커밋하므로 발송 중에는 행 잠금/커넥션을 잡지 않음
+     * - 발송 도중 프로세스가 죽으면 lease가 지난 뒤 다시 선점됨
+     */
+    @Override
+    public List<OutboxMessage> claimDue(LocalDateTime now, Duration lease, int limit) {
+        List<OutboxMessage> messages = em.createQuery(
+                "SELECT m FROM OutboxMessage m " +
+                "WHERE m.status = :status AND m.nextAttemptAt <= :now ORDER BY m.id",
+                OutboxMessage.class)
+                .setParameter("status", OutboxMessage.Status.PENDING)
+                .setParameter("now", now)
+                .setMaxResults(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint("jakarta.persistence.lock.timeout", LockOptions.SKIP_LOCKED)
+                .getResultList();
+
+        LocalDateTime leaseUntil = now.plus(lease);
+        for (OutboxMessage message : messages) {
+            message.setAttempts(message.getAttempts() + 1);
+            message.setNextAttemptAt(leaseUntil);
+        }
+        return messages;
+    }
+
+    @Override
+    public void markDone(Long id, LocalDateTime processedAt) {
+        em.createQuery(
+                "UPDATE OutboxMessage m SET m.status = :status, m.processedAt = :processedAt, m.lastError = NULL " +
+                "WHERE m.id = :id")
+                .setParameter("status", OutboxMessage.Status.DONE)
+                .setParameter("processedAt", processedAt)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    @Override
+    public void markRetry(Long id, LocalDateTime nextAttemptAt, String error) {
+        em.createQuery(
+                "UPDATE OutboxMessage m SET m.nextAttemptAt = :nextAttemptAt, m.lastError = :error " +
+                "WHERE m.id = :id")
+                .setParameter("nextAttemptAt", nextAttemptAt)
+                .setParameter("error", truncate(error))
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    @Override
+    public void markFailed(Long id, LocalDateTime processedAt, String error) {
+        em.createQuery(
+                "UPDATE OutboxMessage m SET m.status = :status, m.processedAt = :processedAt, m.lastError = :error " +
+                "WHERE m.id = :id")
+                .setParameter("status", OutboxMessage.Status.FAILED)
+                .setParameter("processedAt", processedAt)
+                .setParameter("error", truncate(error))
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countByStatus(OutboxMessage.Status status) {
+        return em.createQuery("SELECT COUNT(m) FROM OutboxMessage m WHERE m.status = :status", Long.class)
+                .setParameter("status", status)
+                .getSingleResult();
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
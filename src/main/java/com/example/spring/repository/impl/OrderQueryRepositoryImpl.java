@@ -0,0 +1,88 @@
+package com.example.spring.repository.impl;
+
+import com.example.spring.dto.response.OrderItemResponse;
+import com.example.spring.dto.response.OrderResponse;
+import com.example.spring.repository.KeysetCursor;
+import com.example.spring.repository.OrderQueryRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * OrderQueryRepository 구현 (Spring Data가 JpaOrderRepository에 조각으로 결합)
+ */
+@Transactional(readOnly = true)
+public class OrderQueryRepositoryImpl implements OrderQueryRepository {
+
+    private static final String SELECT_RESPONSE =
+            "SELECT new com.example.spring.dto.response.OrderResponse(o.id, o.orderDate, o.status, o.totalAmount) " +
+            "FROM Order o";
+
+    private static final String ORDER_BY_NEWEST = " ORDER BY o.orderDate DESC, o.id DESC";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<OrderResponse> findOrderResponses(Pageable pageable) {
+        TypedQuery<OrderResponse> query = em.createQuery(SELECT_RESPONSE + ORDER_BY_NEWEST, OrderResponse.class);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return withItems(query.getResultList());
+    }
+
+    @Override
+    public List<OrderResponse> findOrderResponsesAfter(KeysetCursor cursor, int limit) {
+        // 풀링된 시퀀스는 인스턴스별로 ID 블록을 나눠 쓰므로 ID 순서가 주문 순서와 다를 수 있음
+        // (orderDate, id) 복합 인덱스를 따라 커서 위치부터 조회
+        TypedQuery<OrderResponse> query = cursor == null
+                ? em.createQuery(SELECT_RESPONSE + ORDER_BY_NEWEST, OrderResponse.class)
+                : em.createQuery(SELECT_RESPONSE +
+                        " WHERE o.orderDate < :orderDate OR (o.orderDate = :orderDate AND o.id < :id)" +
+                        ORDER_BY_NEWEST, OrderResponse.class)
+                        .setParameter("orderDate", cursor.timestamp())
+                        .setParameter("id", cursor.id());
+        return withItems(query.setMaxResults(limit).getResultList());
+    }
+
+    /**
+     * 페이지에 포함된 주문의 아이템과 도서를 한 번에 조회해 채움
+     */
+    private List<OrderResponse> withItems(List<OrderResponse> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        Map<Long, OrderResponse> byId = orders.stream()
+                .collect(Collectors.toMap(OrderResponse::getId, Function.identity()));
+
+        List<Tuple> rows = em.createQuery(
+                "SELECT i.order.id AS orderId, b.id AS bookId, b.title AS title, b.author AS author, " +
+                "i.quantity AS quantity, i.price AS price " +
+                "FROM OrderItem i JOIN i.book b WHERE i.order.id IN :orderIds ORDER BY i.id",
+                Tuple.class)
+                .setParameter("orderIds", byId.keySet())
+                .getResultList();
+
+        for (Tuple row : rows) {
+            byId.get(row.get("orderId", Long.class)).getItems().add(OrderItemResponse.builder()
+                    .bookId(row.get("bookId", Long.class))
+                    .title(row.get("title", String.class))
+                    .author(row.get("author", String.class))
+                    .quantity(row.get("quantity", Integer.class))
+                    .price(row.get("price", BigDecimal.class))
+                    .build());
+        }
+        return orders;
+    }
+}
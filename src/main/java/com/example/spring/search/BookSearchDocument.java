@@ -0,0 +1,13 @@
+package com.example.spring.search;
+
+import com.example.spring.entity.Book;
+
+/**
+ * 검색 인덱스에 저장되는 도서 문서 (검색 대상 필드만 보관)
+ */
+public record BookSearchDocument(Long id, String title, String author) {
+
+    public static BookSearchDocument from(Book book) {
+        return new BookSearchDocument(book.getId(), book.getTitle(), book.getAuthor());
+    }
+}
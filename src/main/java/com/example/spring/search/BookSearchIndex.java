@@ -0,0 +1,270 @@
+package com.example.spring.search;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.entity.Book;
+import com.example.spring.event.BookChangedEvent;
+import com.example.spring.repository.BookRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 활성 도서의 제목/저자 역색인 (In-Memory Inverted Index)
+ * - LIKE '%x%' 전체 스캔 대신 필드별 색인(FieldIndex)으로 검색
+ * - 색인 방식은 bookstore.search.mode 로 선택 (WORD: 단어 접두어, NGRAM: 한글 인식 n-gram)
+ * - 애플리케이션 기동 시 book 테이블에서 재구축하고, 이후에는 BookChangedEvent로 증분 갱신
+ */
+@Slf4j
+@Component
+public class BookSearchIndex {
+
+    private static final long[] NO_RESULT = new long[0];
+
+    private final BookRepository bookRepository;
+    private final BookstoreProperties properties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, BookSearchDocument> documents = new HashMap<>();
+    private final FieldIndex titleIndex;
+    private final FieldIndex authorIndex;
+
+    // 재구축 중 이벤트로 먼저 반영된 도서 (재구축 배치의 오래된 데이터로 덮어쓰지 않기 위함)
+    private final Set<Long> touchedDuringRebuild = new HashSet<>();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    public BookSearchIndex(BookRepository bookRepository, BookstoreProperties properties) {
+        this.bookRepository = bookRepository;
+        this.properties = properties;
+        this.titleIndex = createFieldIndex(properties.getSearch());
+        this.authorIndex = createFieldIndex(properties.getSearch());
+    }
+
+    /**
+     * 색인이 검색에 사용 가능한 상태인지 여부 (false면 호출 측은 DB 검색으로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (properties.getSearch().isEnabled()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * book 테이블 기준으로 색인 전체 재구축 (ID 순 배치 조회)
+     */
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            rebuilding = true;
+            touchedDuringRebuild.clear();
+            documents.clear();
+            titleIndex.clear();
+            authorIndex.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            int batchSize = properties.getSearch().getRebuildBatchSize();
+            long lastId = 0L;
+            List<BookSearchDocument> batch;
+            do {
+                batch = bookRepository.findSearchDocuments(lastId, batchSize);
+                lock.writeLock().lock();
+                try {
+                    for (BookSearchDocument document : batch) {
+                        if (!touchedDuringRebuild.contains(document.id())) {
+                            addDocument(document);
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).id();
+                }
+            } while (batch.size() == batchSize);
+
+            lock.writeLock().lock();
+            try {
+                titleIndex.compact();
+                authorIndex.compact();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("도서 검색 색인 재구축 완료 - 도서 수: {}, 소요 시간: {}ms",
+                    size(), System.currentTimeMillis() - startTime);
+        } catch (RuntimeException e) {
+            log.error("도서 검색 색인 재구축 실패 - DB 검색으로 대체합니다", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                touchedDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 커밋된 도서 변경 사항을 색인에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        Book book = event.getBook();
+        if (book.isDeleted()) {
+            remove(book.getId());
+        } else {
+            index(BookSearchDocument.from(book));
+        }
+    }
+
+    public void index(BookSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            markTouched(document.id());
+            removeDocument(document.id());
+            addDocument(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            markTouched(id);
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목으로 검색
+     * @return 매칭된 도서 ID (오름차순)
+     */
+    public long[] searchByTitle(String query) {
+        return search(titleIndex, query);
+    }
+
+    /**
+     * 저자로 검색
+     * @return 매칭된 도서 ID (오름차순)
+     */
+    public long[] searchByAuthor(String query) {
+        return search(authorIndex, query);
+    }
+
+    /**
+     * 키워드 검색 (제목 또는 저자)
+     * @return 매칭된 도서 ID (오름차순)
+     */
+    public long[] searchByKeyword(String query) {
+        return LongPostingList.merge(searchByTitle(query), searchByAuthor(query));
+    }
+
+    /**
+     * 검색 결과 ID를 색인 문서 기준으로 정렬해 앞에서부터 limit개만 반환 (DB에서는 잘라낸 ID만 조회)
+     * - 결과 수가 limit보다 많으면 크기 limit의 힙으로 상위 limit개만 골라 정렬 (O(n log limit))
+     * @param order 정렬 기준 (동률은 ID 오름차순)
+     */
+    public long[] top(long[] ids, Comparator<BookSearchDocument> order, int limit) {
+        Comparator<BookSearchDocument> total = order.thenComparing(BookSearchDocument::id);
+        PriorityQueue<BookSearchDocument> heap = new PriorityQueue<>(Math.min(ids.length, limit) + 1, total.reversed());
+
+        lock.readLock().lock();
+        try {
+            for (long id : ids) {
+                BookSearchDocument document = documents.get(id);
+                if (document == null) {
+                    continue;
+                }
+                heap.add(document);
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long[] result = new long[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = heap.poll().id();
+        }
+        return result;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] search(FieldIndex fieldIndex, String query) {
+        if (query == null || query.isBlank()) {
+            return NO_RESULT;
+        }
+
+        lock.readLock().lock();
+        try {
+            return fieldIndex.search(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addDocument(BookSearchDocument document) {
+        documents.put(document.id(), document);
+        titleIndex.add(document.id(), document.title());
+        authorIndex.add(document.id(), document.author());
+    }
+
+    private void removeDocument(Long id) {
+        BookSearchDocument previous = documents.remove(id);
+        if (previous != null) {
+            titleIndex.remove(id, previous.title());
+            authorIndex.remove(id, previous.author());
+        }
+    }
+
+    private void markTouched(Long id) {
+        if (rebuilding) {
+            touchedDuringRebuild.add(id);
+        }
+    }
+
+    private static FieldIndex createFieldIndex(BookstoreProperties.Search search) {
+        return switch (search.getMode()) {
+            case WORD -> new WordFieldIndex();
+            case NGRAM -> new NGramFieldIndex(search.getNgramSize());
+        };
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.spring.search;
+
+import java.util.Arrays;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 용어별 포스팅 리스트를 delta + varint 바이트 배열로 압축 보관하는 저장소
+ * - 오름차순 ID 간격만 가변 길이로 기록하므로 long[] 대비 수 배 작음
+ * - 증분 추가/삭제는 작은 버퍼(pending/tombstone)에 모았다가 임계치를 넘으면 재압축
+ * - 동기화는 호출 측(BookSearchIndex)의 락에 위임
+ */
+class CompactPostingStore {
+
+    private static final int MIN_COMPACTION_THRESHOLD = 64;
+
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+
+    void add(String term, long id) {
+        Postings postings = terms.computeIfAbsent(term, key -> new Postings());
+        // 압축 배열에 남아 있는 ID는 tombstone만 걷어내면 되살아나므로 pending에 중복으로 넣지 않음
+        if (!postings.tombstones.remove(id)) {
+            postings.pending.add(id);
+        }
+        postings.compactIfNeeded();
+    }
+
+    void remove(String term, long id) {
+        Postings postings = terms.get(term);
+        if (postings == null) {
+            return;
+        }
+        if (!postings.pending.remove(id)) {
+            postings.tombstones.add(id);
+        }
+        postings.compactIfNeeded();
+        if (postings.isEmpty()) {
+            terms.remove(term);
+        }
+    }
+
+    long[] get(String term) {
+        Postings postings = terms.get(term);
+        return postings == null ? new long[0] : postings.ids();
+    }
+
+    /**
+     * prefix로 시작하는 모든 용어의 포스팅 합집합
+     */
+    long[] getByPrefix(String prefix) {
+        long[] result = new long[0];
+        for (Postings postings : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            result = LongPostingList.merge(result, postings.ids());
+        }
+        return result;
+    }
+
+    /**
+     * 모든 버퍼를 압축 배열로 병합 (대량 색인 후 호출)
+     */
+    void compactAll() {
+        terms.values().forEach(Postings::compact);
+        terms.values().removeIf(Postings::isEmpty);
+    }
+
+    void clear() {
+        terms.clear();
+    }
+
+    int termCount() {
+        return terms.size();
+    }
+
+    long encodedBytes() {
+        long bytes = 0;
+        for (Postings postings : terms.values()) {
+            bytes += postings.encoded.length;
+        }
+        return bytes;
+    }
+
+    private static final class Postings {
+        private byte[] encoded = new byte[0];
+        private int count;
+        private final LongPostingList pending = new LongPostingList();
+        private final LongPostingList tombstones = new LongPostingList();
+
+        long[] ids() {
+            long[] base = decode(encoded, count);
+            if (!tombstones.isEmpty()) {
+                base = subtract(base, tombstones.toArray());
+            }
+            return pending.isEmpty() ? base : LongPostingList.merge(base, pending.toArray());
+        }
+
+        boolean isEmpty() {
+            return count - tombstones.size() + pending.size() <= 0;
+        }
+
+        void compactIfNeeded() {
+            int buffered = pending.size() + tombstones.size();
+            if (buffered >= Math.max(MIN_COMPACTION_THRESHOLD, count >> 3)) {
+                compact();
+            }
+        }
+
+        void compact() {
+            if (pending.isEmpty() && tombstones.isEmpty()) {
+                return;
+            }
+            long[] ids = ids();
+            encoded = encode(ids);
+            count = ids.length;
+            pending.clear();
+            tombstones.clear();
+        }
+    }
+
+    static byte[] encode(long[] sortedIds) {
+        byte[] buffer = new byte[sortedIds.length * 10];
+        int pos = 0;
+        long previous = 0;
+        for (long id : sortedIds) {
+            long delta = id - previous;
+            previous = id;
+            while ((delta & ~0x7FL) != 0) {
+                buffer[pos++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            buffer[pos++] = (byte) delta;
+        }
+        return Arrays.copyOf(buffer, pos);
+    }
+
+    static long[] decode(byte[] encoded, int count) {
+        long[] ids = new long[count];
+        int pos = 0;
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = encoded[pos++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            previous += delta;
+            ids[i] = previous;
+        }
+        return ids;
+    }
+
+    private static long[] subtract(long[] sorted, long[] removedSorted) {
+        long[] result = new long[sorted.length];
+        int n = 0, j = 0;
+        for (long id : sorted) {
+            while (j < removedSorted.length && removedSorted[j] < id) {
+                j++;
+            }
+            if (j < removedSorted.length && removedSorted[j] == id) {
+                continue;
+            }
+            result[n++] = id;
+        }
+        return Arrays.copyOf(result, n);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.spring.search;
+
+/**
+ * 도서 필드(제목, 저자) 하나에 대한 색인
+ * - 동기화는 호출 측(BookSearchIndex)의 락에 위임
+ */
+interface FieldIndex {
+
+    void add(long id, String text);
+
+    void remove(long id, String text);
+
+    /**
+     * @return 매칭된 도서 ID (오름차순)
+     */
+    long[] search(String query);
+
+    /**
+     * 대량 색인 이후 내부 저장 구조 정리
+     */
+    default void compact() {
+    }
+
+    void clear();
+}
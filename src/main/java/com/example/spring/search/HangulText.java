@@ -0,0 +1,122 @@
+package com.example.spring.search;
+
+import java.util.Locale;
+
+/**
+ * 한글 검색용 텍스트 유틸리티
+ * - 정규화: 소문자 변환, 연속 공백을 하나로 축약
+ * - 초성 투영: 완성형 음절을 초성 호환 자모로 치환 ("자바" → "ㅈㅂ")
+ * - 매칭: 초성 검색("ㅈㅂ"), 입력 중인 마지막 음절("자바 프로그" → "자바 프록")을 고려한 부분 문자열 일치
+ */
+final class HangulText {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    // 종성 인덱스 → 호환 자모 (0: 종성 없음, 겹받침은 초성으로 이어질 수 없으므로 공백 처리)
+    private static final String JONGSEONG = " ㄱㄲ ㄴ  ㄷㄹ       ㅁㅂ ㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private HangulText() {
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT).strip();
+        StringBuilder normalized = new StringBuilder(lower.length());
+        boolean previousSpace = false;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            boolean space = Character.isWhitespace(c);
+            if (!space || !previousSpace) {
+                normalized.append(space ? ' ' : c);
+            }
+            previousSpace = space;
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 음절은 초성 자모로, 그 외 문자는 그대로 둔 투영 문자열
+     */
+    static String choseongProjection(String normalized) {
+        char[] projected = new char[normalized.length()];
+        for (int i = 0; i < projected.length; i++) {
+            projected[i] = choseongOf(normalized.charAt(i));
+        }
+        return new String(projected);
+    }
+
+    static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    static boolean isChoseongJamo(char c) {
+        return CHOSEONG.indexOf(c) >= 0;
+    }
+
+    static char choseongOf(char c) {
+        if (!isSyllable(c)) {
+            return c;
+        }
+        return CHOSEONG.charAt((c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT));
+    }
+
+    /**
+     * 정규화된 텍스트에 정규화된 검색어가 포함되는지 확인
+     */
+    static boolean contains(String text, String query) {
+        if (query.isEmpty()) {
+            return false;
+        }
+        for (int start = 0; start + query.length() <= text.length(); start++) {
+            if (matchesAt(text, start, query)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesAt(String text, int start, String query) {
+        int last = query.length() - 1;
+        for (int i = 0; i < last; i++) {
+            if (!matchesChar(query.charAt(i), text.charAt(start + i))) {
+                return false;
+            }
+        }
+        char q = query.charAt(last);
+        char t = text.charAt(start + last);
+        if (matchesChar(q, t)) {
+            return true;
+        }
+        // 입력 중인 마지막 음절: 종성 없는 음절은 같은 초성+중성 음절과 일치 ("자" → "잡")
+        if (isSyllable(q) && isSyllable(t) && sameInitialAndMedial(q, t)) {
+            int qJong = jongseongIndex(q);
+            if (qJong == 0) {
+                return true;
+            }
+            // 종성이 다음 음절의 초성으로 넘어가는 경우 ("잡" → "자바")
+            int next = start + query.length();
+            char jongJamo = JONGSEONG.charAt(qJong);
+            return jongseongIndex(t) == 0 && jongJamo != ' '
+                    && next < text.length() && choseongOf(text.charAt(next)) == jongJamo;
+        }
+        return false;
+    }
+
+    private static boolean matchesChar(char q, char t) {
+        return q == t || (isChoseongJamo(q) && choseongOf(t) == q);
+    }
+
+    private static boolean sameInitialAndMedial(char a, char b) {
+        return (a - SYLLABLE_BEGIN) / JONGSEONG_COUNT == (b - SYLLABLE_BEGIN) / JONGSEONG_COUNT;
+    }
+
+    private static int jongseongIndex(char syllable) {
+        return (syllable - SYLLABLE_BEGIN) % JONGSEONG_COUNT;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.spring.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 정렬된 primitive long 배열 기반 포스팅 리스트
+ * - 박싱 없이 도서 ID를 보관하여 메모리 사용량과 GC 부담을 줄임
+ * - 동기화는 호출 측(BookSearchIndex)의 락에 위임
+ */
+public class LongPostingList {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] ids = EMPTY;
+    private int size;
+
+    public boolean add(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            return false;
+        }
+        int insertAt = -(pos + 1);
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(4, size + (size >> 1)));
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+        return true;
+    }
+
+    public boolean remove(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) {
+            return false;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+        return true;
+    }
+
+    public void clear() {
+        ids = EMPTY;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * 여러 포스팅 리스트의 합집합 (정렬, 중복 제거)
+     */
+    public static long[] union(List<LongPostingList> lists) {
+        if (lists.isEmpty()) {
+            return EMPTY;
+        }
+        if (lists.size() == 1) {
+            return lists.get(0).toArray();
+        }
+        int total = 0;
+        for (LongPostingList list : lists) {
+            total += list.size;
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (LongPostingList list : lists) {
+            System.arraycopy(list.ids, 0, merged, offset, list.size);
+            offset += list.size;
+        }
+        Arrays.sort(merged);
+        return distinct(merged);
+    }
+
+    /**
+     * 정렬된 두 ID 배열의 교집합
+     */
+    public static long[] intersect(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    /**
+     * 정렬된 두 ID 배열의 합집합
+     */
+    public static long[] merge(long[] a, long[] b) {
+        long[] result = new long[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length || j < b.length) {
+            long next;
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                next = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                next = b[j++];
+            } else {
+                next = a[i++];
+                j++;
+            }
+            result[n++] = next;
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    private static long[] distinct(long[] sorted) {
+        if (sorted.length == 0) {
+            return sorted;
+        }
+        int n = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[n - 1]) {
+                sorted[n++] = sorted[i];
+            }
+        }
+        return n == sorted.length ? sorted : Arrays.copyOf(sorted, n);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.spring.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한글 인식 n-gram 색인 (NGRAM 모드)
+ * - 정규화 텍스트의 n-gram과 초성 투영 텍스트의 n-gram을 압축 포스팅 저장소에 색인
+ * - 검색어로 후보를 좁힌 뒤 원문과 대조(HangulText.contains)하여 오탐 제거
+ * - 부분 문자열("바 프로"), 초성("ㅈㅂ"), 입력 중인 음절("자바 프록") 검색 지원
+ */
+class NGramFieldIndex implements FieldIndex {
+
+    private static final long[] NO_RESULT = new long[0];
+    private static final char PADDING = '\u0000';
+
+    private final int gramSize;
+    private final CompactPostingStore textGrams = new CompactPostingStore();
+    private final CompactPostingStore choseongGrams = new CompactPostingStore();
+    private final Map<Long, String> texts = new HashMap<>();
+
+    NGramFieldIndex(int gramSize) {
+        if (gramSize < 2 || gramSize > 3) {
+            throw new IllegalArgumentException("n-gram 크기는 2 또는 3이어야 합니다: " + gramSize);
+        }
+        this.gramSize = gramSize;
+    }
+
+    @Override
+    public void add(long id, String text) {
+        String normalized = HangulText.normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        texts.put(id, normalized);
+        for (String gram : grams(normalized)) {
+            textGrams.add(gram, id);
+        }
+        for (String gram : grams(HangulText.choseongProjection(normalized))) {
+            if (containsChoseong(gram)) {
+                choseongGrams.add(gram, id);
+            }
+        }
+    }
+
+    @Override
+    public void remove(long id, String text) {
+        String normalized = texts.remove(id);
+        if (normalized == null) {
+            return;
+        }
+        for (String gram : grams(normalized)) {
+            textGrams.remove(gram, id);
+        }
+        for (String gram : grams(HangulText.choseongProjection(normalized))) {
+            if (containsChoseong(gram)) {
+                choseongGrams.remove(gram, id);
+            }
+        }
+    }
+
+    @Override
+    public long[] search(String query) {
+        String normalized = HangulText.normalize(query);
+        if (normalized.isEmpty()) {
+            return NO_RESULT;
+        }
+
+        long[] candidates = candidates(normalized);
+        if (candidates == null) {
+            candidates = texts.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+
+        long[] matched = new long[candidates.length];
+        int n = 0;
+        for (long id : candidates) {
+            String text = texts.get(id);
+            if (text != null && HangulText.contains(text, normalized)) {
+                matched[n++] = id;
+            }
+        }
+        return Arrays.copyOf(matched, n);
+    }
+
+    @Override
+    public void compact() {
+        textGrams.compactAll();
+        choseongGrams.compactAll();
+    }
+
+    @Override
+    public void clear() {
+        textGrams.clear();
+        choseongGrams.clear();
+        texts.clear();
+    }
+
+    /**
+     * 검색 후보 도서 ID
+     * - 한글이 없는 검색어: 전체 검색어의 n-gram
+     * - 초성 없이 음절로만 된 검색어: 마지막(입력 중일 수 있는) 글자를 제외한 n-gram
+     * - 그 외: 초성 투영 n-gram
+     * @return 후보 ID, 후보를 좁힐 수 없으면 null
+     */
+    private long[] candidates(String query) {
+        boolean hasHangul = false;
+        boolean hasChoseong = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            hasHangul |= HangulText.isSyllable(c) || HangulText.isChoseongJamo(c);
+            hasChoseong |= HangulText.isChoseongJamo(c);
+        }
+
+        if (!hasHangul) {
+            return lookup(textGrams, query, false);
+        }
+        if (!hasChoseong && query.length() > 1) {
+            return lookup(textGrams, query.substring(0, query.length() - 1), false);
+        }
+        return lookup(choseongGrams, HangulText.choseongProjection(query), true);
+    }
+
+    private long[] lookup(CompactPostingStore store, String piece, boolean choseongOnly) {
+        if (piece.length() < gramSize) {
+            if (choseongOnly && !containsChoseong(piece)) {
+                return null;
+            }
+            return store.getByPrefix(piece);
+        }
+
+        long[] result = null;
+        for (int i = 0; i + gramSize <= piece.length(); i++) {
+            String gram = piece.substring(i, i + gramSize);
+            if (choseongOnly && !containsChoseong(gram)) {
+                continue;
+            }
+            long[] ids = store.get(gram);
+            result = result == null ? ids : LongPostingList.intersect(result, ids);
+            if (result.length == 0) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 텍스트 끝을 PADDING으로 채운 뒤 추출한 n-gram (짧은 검색어의 접두어 조회용)
+     */
+    private Set<String> grams(String text) {
+        StringBuilder padded = new StringBuilder(text);
+        for (int i = 1; i < gramSize; i++) {
+            padded.append(PADDING);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + gramSize <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + gramSize));
+        }
+        return grams;
+    }
+
+    private static boolean containsChoseong(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (HangulText.isChoseongJamo(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
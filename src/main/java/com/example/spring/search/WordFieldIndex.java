@@ -0,0 +1,85 @@
+package com.example.spring.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 단어 단위 색인 (WORD 모드)
+ * - 검색어의 각 토큰은 색인된 토큰의 접두어와 매칭되며, 모든 토큰을 만족하는 도서만 반환
+ */
+class WordFieldIndex implements FieldIndex {
+
+    private static final long[] NO_RESULT = new long[0];
+
+    private final NavigableMap<String, LongPostingList> terms = new TreeMap<>();
+
+    @Override
+    public void add(long id, String text) {
+        for (String token : tokenize(text)) {
+            terms.computeIfAbsent(token, key -> new LongPostingList()).add(id);
+        }
+    }
+
+    @Override
+    public void remove(long id, String text) {
+        for (String token : tokenize(text)) {
+            LongPostingList postings = terms.get(token);
+            if (postings != null && postings.remove(id) && postings.isEmpty()) {
+                terms.remove(token);
+            }
+        }
+    }
+
+    @Override
+    public long[] search(String query) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return NO_RESULT;
+        }
+
+        long[] result = null;
+        for (String token : tokens) {
+            // 접두어 매칭: token 으로 시작하는 모든 용어
+            List<LongPostingList> postings = new ArrayList<>(
+                    terms.subMap(token, true, token + Character.MAX_VALUE, false).values());
+            long[] ids = LongPostingList.union(postings);
+            result = result == null ? ids : LongPostingList.intersect(result, ids);
+            if (result.length == 0) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void clear() {
+        terms.clear();
+    }
+
+    /**
+     * 소문자 변환 후 문자/숫자가 아닌 문자를 기준으로 분리 (중복 토큰 제거)
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        Set<String> tokens = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+}
@@ -3,7 +3,9 @@ package com.example.spring.service;
 import com.example.spring.dto.request.CreateBookRequest;
 import com.example.spring.dto.request.UpdateBookRequest;
 import com.example.spring.dto.response.BookResponse;
+import com.example.spring.dto.response.CursorPage;
 import com.example.spring.entity.Book;
+import com.example.spring.statistics.BookCounts;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -17,6 +19,9 @@ import java.util.Optional;
  */
 public interface BookService {
 
+    // 제목/저자/키워드 검색 한 번에 반환하는 최대 도서 수
+    int MAX_SEARCH_RESULTS = 100;
+
     /**
      * 도서 등록
      * @param request 등록할 도서 정보
@@ -27,24 +32,36 @@ public interface BookService {
 
     /**
      * 도서 ID로 조회 (삭제된 도서 제외)
+     * - 도서 상세 캐시를 먼저 조회하고, 변경 커밋 시 해당 항목만 무효화
      * @param id 도서 ID
      * @return 도서 정보
      */
     Optional<BookResponse> getBookById(Long id);
 
     /**
-     * ISBN으로 도서 조회
+     * ISBN으로 도서 조회 (삭제된 도서 제외)
      * @param isbn ISBN
      * @return 도서 정보
      */
-    Optional<Book> getBookByIsbn(String isbn);
+    Optional<BookResponse> getBookByIsbn(String isbn);
 
     /**
      * 모든 활성 도서 조회 (페이징)
+     * - 목록/검색 조회는 엔티티 대신 BookResponse 프로젝션으로 조회
+     * - 정렬 가능 속성: title, author, price, createdDate (그 외 속성은 무시, 기본 최신 등록순)
      * @param pageable 페이징 정보
      * @return 도서 페이지
      */
-    Page<Book> getAllActiveBooks(Pageable pageable);
+    Page<BookResponse> getAllActiveBooks(Pageable pageable);
+
+    /**
+     * 모든 활성 도서 조회 (커서 기반, 최신 등록순)
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 null 또는 빈 값)
+     * @param size 페이지 크기 (최대 100)
+     * @return 도서 커서 페이지
+     * @throws com.example.spring.exception.InvalidCursorException 커서 형식이 잘못된 경우
+     */
+    CursorPage<BookResponse> getActiveBooksAfter(String after, int size);
 
     /**
      * 도서 정보 수정
@@ -71,24 +88,33 @@ public interface BookService {
 
     /**
      * 제목으로 도서 검색
+     * - 검색 색인이 준비된 경우 색인에서 조회 (bookstore.search.mode: ngram은 부분 문자열/초성 일치, word는 단어 접두어 일치)
+     * - 색인 미사용 시 DB LIKE 검색
      * @param title 검색할 제목
-     * @return 검색된 도서 목록
+     * @param limit 최대 결과 수 (1 ~ MAX_SEARCH_RESULTS로 보정)
+     * @return 검색된 도서 목록 (제목순)
      */
-    List<Book> searchByTitle(String title);
+    List<BookResponse> searchByTitle(String title, int limit);
 
     /**
      * 저자로 도서 검색
+     * - 검색 색인이 준비된 경우 색인에서 조회 (bookstore.search.mode: ngram은 부분 문자열/초성 일치, word는 단어 접두어 일치)
+     * - 색인 미사용 시 DB LIKE 검색
      * @param author 검색할 저자
-     * @return 검색된 도서 목록
+     * @param limit 최대 결과 수 (1 ~ MAX_SEARCH_RESULTS로 보정)
+     * @return 검색된 도서 목록 (저자순)
      */
-    List<Book> searchByAuthor(String author);
+    List<BookResponse> searchByAuthor(String author, int limit);
 
     /**
      * 키워드로 도서 검색 (제목 또는 저자)
+     * - 검색 색인이 준비된 경우 색인에서 조회 (bookstore.search.mode: ngram은 부분 문자열/초성 일치, word는 단어 접두어 일치)
+     * - 색인 미사용 시 DB LIKE 검색
      * @param keyword 검색 키워드
-     * @return 검색된 도서 목록
+     * @param limit 최대 결과 수 (1 ~ MAX_SEARCH_RESULTS로 보정)
+     * @return 검색된 도서 목록 (제목순)
      */
-    List<Book> searchByKeyword(String keyword);
+    List<BookResponse> searchByKeyword(String keyword, int limit);
 
     /**
      * 가격 범위로 도서 검색
@@ -96,21 +122,21 @@ public interface BookService {
      * @param maxPrice 최대 가격
      * @return 검색된 도서 목록
      */
-    List<Book> searchByPriceRange(BigDecimal minPrice, BigDecimal maxPrice);
+    List<BookResponse> searchByPriceRange(BigDecimal minPrice, BigDecimal maxPrice);
 
     /**
-     * 복합 조건으로 도서 검색 (Stream 버전)
+     * 복합 조건으로 도서 검색 (필터/정렬/페이징을 DB에서 처리)
      * @param title 제목 (null 가능)
      * @param author 저자 (null 가능)
      * @param minPrice 최소 가격 (null 가능)
      * @param maxPrice 최대 가격 (null 가능)
      * @param available 재고 상태 (null 가능)
-     * @param pageable 페이징 정보
+     * @param pageable 페이징 정보 (정렬: title, author, price, createdDate)
      * @return 검색된 도서 페이지
      */
-    Page<Book> searchBooksWithFilters(String title, String author,
-                                     BigDecimal minPrice, BigDecimal maxPrice,
-                                     Boolean available, Pageable pageable);
+    Page<BookResponse> searchBooksWithFilters(String title, String author,
+                                             BigDecimal minPrice, BigDecimal maxPrice,
+                                             Boolean available, Pageable pageable);
 
     /**
      * 복합 조건으로 도서 검색 (JPQL Query 버전)
@@ -122,16 +148,16 @@ public interface BookService {
      * @param pageable 페이징 정보
      * @return 검색된 도서 페이지
      */
-    Page<Book> searchBooksWithQueryFilters(String title, String author,
-                                          BigDecimal minPrice, BigDecimal maxPrice,
-                                          Boolean available, Pageable pageable);
+    Page<BookResponse> searchBooksWithQueryFilters(String title, String author,
+                                                  BigDecimal minPrice, BigDecimal maxPrice,
+                                                  Boolean available, Pageable pageable);
 
     /**
      * 재고 상태별 도서 조회
      * @param available 재고 상태
      * @return 도서 목록
      */
-    List<Book> getBooksByAvailability(Boolean available);
+    List<BookResponse> getBooksByAvailability(Boolean available);
 
     /**
      * ISBN 중복 검증
@@ -159,4 +185,10 @@ public interface BookService {
      * @return 활성 도서 수
      */
     long getActiveBooksCount();
+
+    /**
+     * 전체/활성/삭제/재고 보유 도서 수 조회 (증분 카운터 기반, O(1))
+     * @return 도서 수 집계
+     */
+    BookCounts getBookCounts();
 }
\ No newline at end of file
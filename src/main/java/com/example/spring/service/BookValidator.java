@@ -0,0 +1,35 @@
+package com.example.spring.service;
+
+import com.example.spring.entity.Book;
+import com.example.spring.exception.BookException;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+
+/**
+ * 도서 데이터 검증 규칙
+ * - 단건 등록/수정(BookServiceImpl)과 대량 가져오기(BookImportService)에서 같은 규칙을 사용
+ */
+public final class BookValidator {
+
+    private BookValidator() {
+    }
+
+    public static void validate(Book book) {
+        if (book == null) {
+            throw new BookException.InvalidBookDataException("도서 정보가 null입니다");
+        }
+        if (!StringUtils.hasText(book.getTitle())) {
+            throw new BookException.InvalidBookDataException("도서 제목은 필수입니다");
+        }
+        if (!StringUtils.hasText(book.getAuthor())) {
+            throw new BookException.InvalidBookDataException("저자는 필수입니다");
+        }
+        if (!StringUtils.hasText(book.getIsbn())) {
+            throw new BookException.InvalidBookDataException("ISBN은 필수입니다");
+        }
+        if (book.getPrice() == null || book.getPrice().compareTo(BigDecimal.ZERO) < 0) {
+            throw new BookException.InvalidBookDataException("가격은 0 이상이어야 합니다");
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.example.spring.service;
 
 import com.example.spring.dto.request.CreateMemberRequest;
 import com.example.spring.dto.request.UpdateMemberRequest;
+import com.example.spring.dto.response.CursorPage;
+import com.example.spring.dto.response.LoanResponse;
 import com.example.spring.dto.response.MemberLoanLimitInfo;
 import com.example.spring.dto.response.MemberResponse;
 import com.example.spring.entity.MembershipType;
@@ -20,6 +22,7 @@ public interface MemberService {
     MemberResponse updateMember(Long id, UpdateMemberRequest request);
     MemberResponse findMemberById(Long id);
     Page<MemberResponse> findAllMembers(Pageable pageable);
+    CursorPage<MemberResponse> findMembersAfter(String after, int size);
     void deleteMember(Long id);
     
     // 회원 검색
@@ -30,4 +33,5 @@ public interface MemberService {
     void upgradeMembership(Long memberId, MembershipType newType);
     boolean validateEmailDuplicate(String email);
     MemberLoanLimitInfo getMemberLoanLimitInfo(Long memberId);
+    CursorPage<LoanResponse> findMemberLoansAfter(Long memberId, String after, int size);
 }
\ No newline at end of file
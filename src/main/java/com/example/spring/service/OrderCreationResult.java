@@ -0,0 +1,24 @@
+package com.example.spring.service;
+
+import com.example.spring.entity.Order;
+
+/**
+ * 주문 일괄 생성의 주문별 결과
+ *
+ * @param order 생성된 주문 (실패 시 null)
+ * @param error 실패 사유 (성공 시 null)
+ */
+public record OrderCreationResult(Order order, RuntimeException error) {
+
+    public static OrderCreationResult success(Order order) {
+        return new OrderCreationResult(order, null);
+    }
+
+    public static OrderCreationResult failure(RuntimeException error) {
+        return new OrderCreationResult(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -1,11 +1,33 @@
 package com.example.spring.service;
 
+import com.example.spring.dto.response.CursorPage;
+import com.example.spring.dto.response.OrderResponse;
 import com.example.spring.entity.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 public interface OrderService {
     Order createOrder(List<Long> bookIds);
+
+    /**
+     * 여러 주문을 한 트랜잭션에서 생성 (그룹 커밋)
+     * - 도서 조회는 전체 주문에 대해 IN 쿼리 1회, INSERT는 커밋 시 JDBC 배치로 전송
+     * - 검증에 실패한 주문은 해당 결과만 실패로 반환하고 나머지 주문은 저장
+     * @return 요청 순서대로 주문별 결과
+     */
+    List<OrderCreationResult> createOrders(List<List<Long>> bookIdLists);
     Order findOrderById(Long id);
     List<Order> findAllOrders();
+
+    // 주문 목록 (최신 주문순, 주문 아이템/도서 포함 DTO)
+    Page<OrderResponse> findOrders(Pageable pageable);
+
+    /**
+     * 주문 목록 커서 조회 (최신 주문순)
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 null 또는 빈 값)
+     * @throws com.example.spring.exception.InvalidCursorException 커서 형식이 잘못된 경우
+     */
+    CursorPage<OrderResponse> findOrdersAfter(String after, int size);
 }
\ No newline at end of file
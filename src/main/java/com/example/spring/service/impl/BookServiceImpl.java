@@ -1,24 +1,38 @@
 package com.example.spring.service.impl;
 
+import com.example.spring.aop.OptimisticRetry;
+import com.example.spring.cache.BookDetailCache;
+import com.example.spring.cache.IsbnFilter;
 import com.example.spring.dto.request.CreateBookRequest;
 import com.example.spring.dto.request.UpdateBookRequest;
 import com.example.spring.dto.response.BookResponse;
+import com.example.spring.dto.response.CursorPage;
 import com.example.spring.entity.Book;
+import com.example.spring.event.BookChangedEvent;
 import com.example.spring.exception.BookException;
 import com.example.spring.exception.EntityNotFoundException;
 import com.example.spring.repository.BookRepository;
+import com.example.spring.repository.KeysetCursor;
+import com.example.spring.search.BookSearchDocument;
+import com.example.spring.search.BookSearchIndex;
 import com.example.spring.service.BookService;
+import com.example.spring.service.BookValidator;
+import com.example.spring.statistics.BookCounts;
+import com.example.spring.statistics.BookStatisticsCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -34,13 +48,18 @@ import java.util.stream.Collectors;
 public class BookServiceImpl implements BookService {
 
     private final BookRepository bookRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookStatisticsCounter bookStatisticsCounter;
+    private final BookDetailCache bookDetailCache;
+    private final IsbnFilter isbnFilter;
 
     @Override
     @Transactional
     public BookResponse createBook(CreateBookRequest request) {
         log.info("도서 생성 요청 - ISBN: {}, 제목: {}", request.getIsbn(), request.getTitle());
 
-        if (bookRepository.existsByIsbn(request.getIsbn())) {
+        if (isbnExists(request.getIsbn())) {
             throw new BookException.DuplicateIsbnException("이미 존재하는 ISBN입니다: " + request.getIsbn());
         }
 
@@ -53,8 +72,9 @@ public class BookServiceImpl implements BookService {
                 .createdDate(LocalDateTime.now())
                 .build();
 
-        validateBook(book);
+        BookValidator.validate(book);
         Book savedBook = bookRepository.save(book);
+        eventPublisher.publishEvent(new BookChangedEvent(savedBook, BookChangedEvent.ChangeType.CREATED));
 
         log.info("도서 생성 완료 - ID: {}, ISBN: {}", savedBook.getId(), savedBook.getIsbn());
         return BookResponse.from(savedBook);
@@ -63,35 +83,39 @@ public class BookServiceImpl implements BookService {
     @Override
     public Optional<BookResponse> getBookById(Long id) {
         log.debug("도서 ID 조회 - ID: {}", id);
-        return bookRepository.findById(id)
-                .filter(book -> book.getDeletedDate() == null)
-                .map(BookResponse::from);
+        // 캐시 미스가 동시에 몰려도 같은 ID는 한 번만 DB 조회 (BookDetailCache에서 병합)
+        return bookDetailCache.getById(id, key -> bookRepository.findActiveById(key)
+                .map(BookResponse::from));
     }
 
     @Override
-    public Optional<Book> getBookByIsbn(String isbn) {
+    public Optional<BookResponse> getBookByIsbn(String isbn) {
         log.debug("ISBN으로 도서 조회 - ISBN: {}", isbn);
-        return bookRepository.findByIsbn(isbn)
-                .filter(book -> book.getDeletedDate() == null);
+        return bookDetailCache.getByIsbn(isbn, key -> bookRepository.findActiveByIsbn(key)
+                .map(BookResponse::from));
     }
 
     @Override
-    public Page<Book> getAllActiveBooks(Pageable pageable) {
+    public Page<BookResponse> getAllActiveBooks(Pageable pageable) {
         log.debug("모든 활성 도서 페이징 조회 - page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
         
-        List<Book> allActiveBooks = bookRepository.findByDeletedDateIsNull();
-        
-        // 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allActiveBooks.size());
-        
-        List<Book> pageContent = start >= allActiveBooks.size() ? List.of() : allActiveBooks.subList(start, end);
-        
-        return new PageImpl<>(pageContent, pageable, allActiveBooks.size());
+        return bookRepository.findActiveBookResponses(null, null, null, null, null, pageable);
+    }
+
+    @Override
+    public CursorPage<BookResponse> getActiveBooksAfter(String after, int size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        log.debug("활성 도서 커서 조회 - after: {}, size: {}", after, pageSize);
+
+        KeysetCursor cursor = KeysetCursor.decodeTimestamped(after);
+        List<Book> books = bookRepository.findActiveBooksAfter(cursor, pageSize + 1);
+        return CursorPage.of(books, pageSize,
+                book -> KeysetCursor.of(book.getCreatedDate(), book.getId()), BookResponse::from);
     }
 
     @Override
     @Transactional
+    @OptimisticRetry
     public BookResponse updateBook(Long id, UpdateBookRequest request) {
         log.info("도서 정보 수정 요청 - ID: {}", id);
 
@@ -104,11 +128,12 @@ public class BookServiceImpl implements BookService {
 
         // ISBN 중복 검사 (자기 자신 제외)
         if (!existingBook.getIsbn().equals(request.getIsbn()) &&
-            bookRepository.existsByIsbn(request.getIsbn())) {
+            isbnExists(request.getIsbn())) {
             throw new BookException.DuplicateIsbnException("이미 존재하는 ISBN입니다: " + request.getIsbn());
         }
 
         // 필드 업데이트
+        Boolean previousAvailable = existingBook.getAvailable();
         existingBook.setTitle(request.getTitle());
         existingBook.setAuthor(request.getAuthor());
         existingBook.setIsbn(request.getIsbn());
@@ -116,8 +141,10 @@ public class BookServiceImpl implements BookService {
         existingBook.setAvailable(request.getAvailable());
         existingBook.setUpdatedDate(LocalDateTime.now());
 
-        validateBook(existingBook);
+        BookValidator.validate(existingBook);
         Book savedBook = bookRepository.save(existingBook);
+        eventPublisher.publishEvent(new BookChangedEvent(
+                savedBook, BookChangedEvent.ChangeType.UPDATED, previousAvailable));
 
         log.info("도서 정보 수정 완료 - ID: {}", savedBook.getId());
         return BookResponse.from(savedBook);
@@ -125,6 +152,7 @@ public class BookServiceImpl implements BookService {
 
     @Override
     @Transactional
+    @OptimisticRetry
     public void deleteBook(Long id) {
         log.info("도서 삭제 요청 - ID: {}", id);
         
@@ -135,14 +163,19 @@ public class BookServiceImpl implements BookService {
             throw new BookException.DeletedBookAccessException("이미 삭제된 도서입니다: " + id);
         }
         
+        // markAsDeleted가 재고 상태도 false로 바꾸므로 삭제 전 상태를 함께 전달
+        Boolean previousAvailable = book.getAvailable();
         book.markAsDeleted();
         bookRepository.save(book);
+        eventPublisher.publishEvent(new BookChangedEvent(
+                book, BookChangedEvent.ChangeType.DELETED, previousAvailable));
         
         log.info("도서 삭제 완료 - ID: {}", id);
     }
 
     @Override
     @Transactional
+    @OptimisticRetry
     public void restoreBook(Long id) {
         log.info("도서 복원 요청 - ID: {}", id);
         
@@ -155,49 +188,57 @@ public class BookServiceImpl implements BookService {
         
         book.restore();
         bookRepository.save(book);
+        eventPublisher.publishEvent(new BookChangedEvent(book, BookChangedEvent.ChangeType.RESTORED));
         
         log.info("도서 복원 완료 - ID: {}", id);
     }
 
     @Override
-    public List<Book> searchByTitle(String title) {
-        log.debug("제목으로 도서 검색 - 키워드: {}", title);
+    public List<BookResponse> searchByTitle(String title, int limit) {
+        log.debug("제목으로 도서 검색 - 키워드: {}, 최대: {}", title, limit);
         if (!StringUtils.hasText(title)) {
             return List.of();
         }
-        return bookRepository.findByTitleContaining(title).stream()
-                .filter(book -> book.getDeletedDate() == null)
-                .collect(Collectors.toList());
+        if (bookSearchIndex.isReady()) {
+            return findIndexedBooks(bookSearchIndex.searchByTitle(title), Comparator.comparing(BookSearchDocument::title),
+                    Comparator.comparing(BookResponse::getTitle), limit);
+        }
+        return toResponses(bookRepository.findActiveByTitleContaining(title, normalizeLimit(limit)));
     }
 
     @Override
-    public List<Book> searchByAuthor(String author) {
-        log.debug("저자로 도서 검색 - 키워드: {}", author);
+    public List<BookResponse> searchByAuthor(String author, int limit) {
+        log.debug("저자로 도서 검색 - 키워드: {}, 최대: {}", author, limit);
         if (!StringUtils.hasText(author)) {
             return List.of();
         }
-        return bookRepository.findByAuthorContaining(author).stream()
-                .filter(book -> book.getDeletedDate() == null)
-                .collect(Collectors.toList());
+        if (bookSearchIndex.isReady()) {
+            return findIndexedBooks(bookSearchIndex.searchByAuthor(author), Comparator.comparing(BookSearchDocument::author),
+                    Comparator.comparing(BookResponse::getAuthor), limit);
+        }
+        return toResponses(bookRepository.findActiveByAuthorContaining(author, normalizeLimit(limit)));
     }
 
     @Override
-    public List<Book> searchByKeyword(String keyword) {
-        log.debug("키워드로 도서 검색 - 키워드: {}", keyword);
+    public List<BookResponse> searchByKeyword(String keyword, int limit) {
+        log.debug("키워드로 도서 검색 - 키워드: {}, 최대: {}", keyword, limit);
         if (!StringUtils.hasText(keyword)) {
             return List.of();
         }
-        return bookRepository.findByTitleContainingOrAuthorContaining(keyword, keyword).stream()
-                .filter(book -> book.getDeletedDate() == null)
-                .collect(Collectors.toList());
+        if (bookSearchIndex.isReady()) {
+            return findIndexedBooks(bookSearchIndex.searchByKeyword(keyword), Comparator.comparing(BookSearchDocument::title),
+                    Comparator.comparing(BookResponse::getTitle), limit);
+        }
+        return toResponses(bookRepository.findActiveByTitleContainingOrAuthorContaining(keyword, keyword, normalizeLimit(limit)));
     }
 
     @Override
-    public List<Book> searchByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+    public List<BookResponse> searchByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
         log.debug("가격 범위로 도서 검색 - 최소: {}, 최대: {}", minPrice, maxPrice);
         
         if (minPrice == null && maxPrice == null) {
-            return bookRepository.findByDeletedDateIsNull();
+            return bookRepository.findActiveBookResponses(null, null, null, null, null,
+                    Pageable.unpaged(Sort.by(Sort.Direction.DESC, "createdDate"))).getContent();
         }
         
         if (minPrice == null) {
@@ -211,73 +252,55 @@ public class BookServiceImpl implements BookService {
             throw new BookException.InvalidPriceRangeException("최소 가격이 최대 가격보다 클 수 없습니다");
         }
         
-        return bookRepository.findByPriceBetween(minPrice, maxPrice).stream()
-                .filter(book -> book.getDeletedDate() == null)
-                .collect(Collectors.toList());
+        return bookRepository.findActiveBookResponses(null, null, minPrice, maxPrice, null,
+                Pageable.unpaged(Sort.by(Sort.Direction.ASC, "price"))).getContent();
     }
 
     @Override
-    public Page<Book> searchBooksWithFilters(String title, String author,
-                                           BigDecimal minPrice, BigDecimal maxPrice,
-                                           Boolean available, Pageable pageable) {
-        log.debug("복합 조건으로 도서 검색 (Stream 버전) - 제목: {}, 저자: {}, 최소가격: {}, 최대가격: {}, 재고: {}, page: {}, size: {}",
+    public Page<BookResponse> searchBooksWithFilters(String title, String author,
+                                                     BigDecimal minPrice, BigDecimal maxPrice,
+                                                     Boolean available, Pageable pageable) {
+        log.debug("복합 조건으로 도서 검색 - 제목: {}, 저자: {}, 최소가격: {}, 최대가격: {}, 재고: {}, page: {}, size: {}",
                 title, author, minPrice, maxPrice, available, pageable.getPageNumber(), pageable.getPageSize());
 
-        List<Book> allActiveBooks = bookRepository.findByDeletedDateIsNull();
-
-        // 필터링 적용
-        List<Book> filteredBooks = allActiveBooks.stream()
-                .filter(book -> title == null || book.getTitle().toLowerCase().contains(title.toLowerCase()))
-                .filter(book -> author == null || book.getAuthor().toLowerCase().contains(author.toLowerCase()))
-                .filter(book -> minPrice == null || book.getPrice().compareTo(minPrice) >= 0)
-                .filter(book -> maxPrice == null || book.getPrice().compareTo(maxPrice) <= 0)
-                .filter(book -> available == null || book.getAvailable().equals(available))
-                .collect(Collectors.toList());
-
-        // 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), filteredBooks.size());
-
-        List<Book> pageContent = start >= filteredBooks.size() ? List.of() : filteredBooks.subList(start, end);
-
-        return new PageImpl<>(pageContent, pageable, filteredBooks.size());
+        // 필터, 정렬, LIMIT/OFFSET 모두 DB에서 처리 (전체 도서를 메모리에 올리지 않음)
+        return bookRepository.findActiveBookResponses(title, author, minPrice, maxPrice, available, pageable);
     }
 
     @Override
-    public Page<Book> searchBooksWithQueryFilters(String title, String author,
-                                                 BigDecimal minPrice, BigDecimal maxPrice,
-                                                 Boolean available, Pageable pageable) {
+    public Page<BookResponse> searchBooksWithQueryFilters(String title, String author,
+                                                          BigDecimal minPrice, BigDecimal maxPrice,
+                                                          Boolean available, Pageable pageable) {
         log.debug("복합 조건으로 도서 검색 (JPQL Query 버전) - 제목: {}, 저자: {}, 최소가격: {}, 최대가격: {}, 재고: {}, page: {}, size: {}",
                 title, author, minPrice, maxPrice, available, pageable.getPageNumber(), pageable.getPageSize());
 
-        int offset = (int) pageable.getOffset();
-        int limit = pageable.getPageSize();
-
-        List<Book> books = bookRepository.searchBooksWithQueryFilters(
-                title, author, minPrice, maxPrice, available, offset, limit);
-
-        long totalCount = bookRepository.countBooksWithQueryFilters(
-                title, author, minPrice, maxPrice, available);
-
-        return new PageImpl<>(books, pageable, totalCount);
+        return bookRepository.searchBookResponsesCounted(
+                title, author, minPrice, maxPrice, available, pageable);
     }
 
     @Override
-    public List<Book> getBooksByAvailability(Boolean available) {
+    public List<BookResponse> getBooksByAvailability(Boolean available) {
         log.debug("재고 상태별 도서 조회 - 재고: {}", available);
-        return bookRepository.findByAvailable(available).stream()
-                .filter(book -> book.getDeletedDate() == null)
-                .collect(Collectors.toList());
+        return bookRepository.findActiveBookResponses(null, null, null, null, available,
+                Pageable.unpaged(Sort.by(Sort.Direction.DESC, "createdDate"))).getContent();
     }
 
     @Override
     public boolean isIsbnExists(String isbn) {
         log.debug("ISBN 중복 검증 - ISBN: {}", isbn);
-        return bookRepository.existsByIsbn(isbn);
+        return isbnExists(isbn);
+    }
+
+    /**
+     * 블룸 필터에서 없는 것이 확실한 ISBN은 COUNT 쿼리 없이 false
+     */
+    private boolean isbnExists(String isbn) {
+        return isbnFilter.mightContain(isbn) && bookRepository.existsByIsbn(isbn);
     }
 
     @Override
     @Transactional
+    @OptimisticRetry
     public Book updateBookAvailability(Long id, Boolean available) {
         log.info("도서 재고 상태 업데이트 - ID: {}, 재고: {}", id, available);
         
@@ -288,10 +311,13 @@ public class BookServiceImpl implements BookService {
             throw new BookException.DeletedBookAccessException("삭제된 도서의 재고를 수정할 수 없습니다: " + id);
         }
         
+        Boolean previousAvailable = book.getAvailable();
         book.setAvailable(available);
         book.setUpdatedDate(LocalDateTime.now());
         
         Book savedBook = bookRepository.save(book);
+        eventPublisher.publishEvent(new BookChangedEvent(
+                savedBook, BookChangedEvent.ChangeType.AVAILABILITY_CHANGED, previousAvailable));
         
         log.info("도서 재고 상태 업데이트 완료 - ID: {}, 재고: {}", id, available);
         return savedBook;
@@ -300,33 +326,51 @@ public class BookServiceImpl implements BookService {
     @Override
     public long getTotalBooksCount() {
         log.debug("전체 도서 수 조회");
-        return bookRepository.findAll().size();
+        return bookStatisticsCounter.snapshot().total();
     }
 
     @Override
     public long getActiveBooksCount() {
         log.debug("활성 도서 수 조회");
-        return bookRepository.findByDeletedDateIsNull().size();
+        return bookStatisticsCounter.snapshot().active();
+    }
+
+    @Override
+    public BookCounts getBookCounts() {
+        log.debug("도서 통계 조회");
+        return bookStatisticsCounter.snapshot();
     }
 
     /**
-     * 도서 유효성 검증
+     * 검색 색인 결과(도서 ID)를 활성 도서 목록으로 변환
+     * - 색인 문서 기준으로 정렬해 limit개로 자른 뒤 해당 ID만 DB에서 조회 (흔한 검색어도 조회 건수가 limit 이하)
+     * - 색인 반영 전 변경이 있을 수 있으므로 조회한 최신 값으로 다시 정렬
      */
-    private void validateBook(Book book) {
-        if (book == null) {
-            throw new BookException.InvalidBookDataException("도서 정보가 null입니다");
-        }
-        if (!StringUtils.hasText(book.getTitle())) {
-            throw new BookException.InvalidBookDataException("도서 제목은 필수입니다");
-        }
-        if (!StringUtils.hasText(book.getAuthor())) {
-            throw new BookException.InvalidBookDataException("저자는 필수입니다");
-        }
-        if (!StringUtils.hasText(book.getIsbn())) {
-            throw new BookException.InvalidBookDataException("ISBN은 필수입니다");
+    private List<BookResponse> findIndexedBooks(long[] ids, Comparator<BookSearchDocument> indexOrder,
+                                                Comparator<BookResponse> order, int limit) {
+        if (ids.length == 0) {
+            return List.of();
         }
-        if (book.getPrice() == null || book.getPrice().compareTo(BigDecimal.ZERO) < 0) {
-            throw new BookException.InvalidBookDataException("가격은 0 이상이어야 합니다");
+        long[] topIds = bookSearchIndex.top(ids, indexOrder, normalizeLimit(limit));
+        if (topIds.length == 0) {
+            return List.of();
         }
+        List<Long> idList = Arrays.stream(topIds).boxed().toList();
+        return bookRepository.findActiveResponsesByIdIn(idList).stream()
+                .sorted(order.thenComparing(BookResponse::getId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 색인 미사용 시 LIKE 검색 결과(활성 도서 상위 N건만 조회됨)를 응답으로 변환
+     */
+    private List<BookResponse> toResponses(List<Book> books) {
+        return books.stream()
+                .map(BookResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    private static int normalizeLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,17 @@
 package com.example.spring.service.impl;
 
+import com.example.spring.aop.OptimisticRetry;
+import com.example.spring.cache.EmailFilter;
+import com.example.spring.cache.MemberLoanLimitCache;
+import com.example.spring.cache.SingleFlight;
+import com.example.spring.config.BookstoreProperties;
 import com.example.spring.dto.request.CreateMemberRequest;
 import com.example.spring.dto.request.UpdateMemberRequest;
+import com.example.spring.dto.response.CursorPage;
+import com.example.spring.dto.response.LoanResponse;
 import com.example.spring.dto.response.MemberLoanLimitInfo;
 import com.example.spring.dto.response.MemberResponse;
+import com.example.spring.entity.Loan;
 import com.example.spring.entity.Member;
 import com.example.spring.entity.MembershipType;
 import com.example.spring.event.MemberRegisteredEvent;
@@ -11,6 +19,7 @@ import com.example.spring.event.MembershipUpgradedEvent;
 import com.example.spring.exception.DuplicateEmailException;
 import com.example.spring.exception.EntityNotFoundException;
 import com.example.spring.exception.MembershipUpgradeException;
+import com.example.spring.repository.KeysetCursor;
 import com.example.spring.repository.LoanRepository;
 import com.example.spring.repository.MemberRepository;
 import com.example.spring.service.MemberService;
@@ -18,16 +27,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -42,6 +53,10 @@ public class MemberServiceImpl implements MemberService {
     private final MemberRepository memberRepository;
     private final LoanRepository loanRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight singleFlight;
+    private final EmailFilter emailFilter;
+    private final MemberLoanLimitCache memberLoanLimitCache;
+    private final BookstoreProperties properties;
 
     @Override
     @Transactional
@@ -49,7 +64,7 @@ public class MemberServiceImpl implements MemberService {
         log.info("회원 생성 요청 - 이메일: {}, 이름: {}", request.getEmail(), request.getName());
         
         // 1. 이메일 중복 검증
-        if (memberRepository.existsByEmail(request.getEmail())) {
+        if (emailExists(request.getEmail())) {
             throw new DuplicateEmailException(request.getEmail());
         }
         
@@ -74,7 +89,11 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "members", key = "#id")
+    @OptimisticRetry
+    @Caching(evict = {
+            @CacheEvict(value = "members", key = "#id"),
+            @CacheEvict(value = MemberLoanLimitCache.CACHE_NAME, key = "#id")
+    })
     public MemberResponse updateMember(Long id, UpdateMemberRequest request) {
         log.info("회원 정보 수정 요청 - ID: {}", id);
         
@@ -85,10 +104,11 @@ public class MemberServiceImpl implements MemberService {
         if (StringUtils.hasText(request.getEmail()) && 
             !request.getEmail().equals(member.getEmail())) {
             
-            if (memberRepository.existsByEmail(request.getEmail())) {
+            if (emailExists(request.getEmail())) {
                 throw new DuplicateEmailException(request.getEmail());
             }
             member.setEmail(request.getEmail());
+            emailFilter.putAfterCommit(request.getEmail());
         }
         
         // 이름 변경
@@ -107,10 +127,10 @@ public class MemberServiceImpl implements MemberService {
     public MemberResponse findMemberById(Long id) {
         log.debug("회원 조회 - ID: {}", id);
         
-        Member member = memberRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Member", id));
-        
-        return MemberResponse.from(member);
+        // 캐시 미스가 동시에 몰려도 같은 ID는 한 번만 DB 조회
+        return singleFlight.execute("member", id, () -> memberRepository.findById(id)
+                .map(MemberResponse::from)
+                .orElseThrow(() -> new EntityNotFoundException("Member", id)));
     }
 
     @Override
@@ -118,17 +138,45 @@ public class MemberServiceImpl implements MemberService {
         log.debug("전체 회원 목록 조회 - 페이지: {}, 크기: {}", 
                  pageable.getPageNumber(), pageable.getPageSize());
         
-        List<MemberResponse> responses = memberRepository.findAll()
-                .stream()
-                .map(MemberResponse::from)
-                .collect(Collectors.toList());
-        
-        return new PageImpl<>(responses, pageable, responses.size());
+        List<MemberResponse> responses = memberRepository.findMemberResponses(pageable);
+
+        // 전체 건수는 상한까지만 셈 - 현재 페이지 다음 행까지는 세어 hasNext가 정확하도록 보정
+        // (마지막 페이지가 현재 페이지로 확정되면 COUNT 생략)
+        long countLimit = Math.max(properties.getMemberList().getCountLimit(),
+                pageable.isPaged() ? pageable.getOffset() + pageable.getPageSize() + 1 : 0);
+        return PageableExecutionUtils.getPage(responses, pageable, () -> memberRepository.countUpTo(countLimit));
+    }
+
+    @Override
+    public CursorPage<MemberResponse> findMembersAfter(String after, int size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        log.debug("회원 커서 조회 - after: {}, 크기: {}", after, pageSize);
+
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        List<MemberResponse> members = memberRepository.findMemberResponsesAfter(cursor, pageSize + 1);
+        return CursorPage.of(members, pageSize, member -> KeysetCursor.ofId(member.getId()), Function.identity());
+    }
+
+    @Override
+    public CursorPage<LoanResponse> findMemberLoansAfter(Long memberId, String after, int size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        log.debug("회원 대여 이력 커서 조회 - 회원ID: {}, after: {}, 크기: {}", memberId, after, pageSize);
+
+        memberRepository.findById(memberId)
+                .orElseThrow(() -> new EntityNotFoundException("Member", memberId));
+
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        List<Loan> loans = loanRepository.findByMemberIdAfter(memberId, cursor, pageSize + 1);
+        return CursorPage.of(loans, pageSize, loan -> KeysetCursor.ofId(loan.getId()), LoanResponse::from);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "members", key = "#id")
+    @OptimisticRetry
+    @Caching(evict = {
+            @CacheEvict(value = "members", key = "#id"),
+            @CacheEvict(value = MemberLoanLimitCache.CACHE_NAME, key = "#id")
+    })
     public void deleteMember(Long id) {
         log.info("회원 삭제 요청 - ID: {}", id);
         
@@ -164,6 +212,7 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     @Transactional
+    @OptimisticRetry
     @CacheEvict(value = "members", key = "#memberId")
     public void upgradeMembership(Long memberId, MembershipType newType) {
         log.info("멤버십 업그레이드 요청 - 회원ID: {}, 대상타입: {}", memberId, newType);
@@ -191,27 +240,37 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     public boolean validateEmailDuplicate(String email) {
-        boolean exists = memberRepository.existsByEmail(email);
+        boolean exists = emailExists(email);
         log.debug("이메일 중복 검증 - 이메일: {}, 존재여부: {}", email, exists);
         return !exists; // true: 사용가능, false: 중복
     }
 
+    /**
+     * 블룸 필터에서 없는 것이 확실한 이메일은 COUNT 쿼리 없이 false
+     */
+    private boolean emailExists(String email) {
+        return emailFilter.mightContain(email) && memberRepository.existsByEmail(email);
+    }
+
     @Override
     public MemberLoanLimitInfo getMemberLoanLimitInfo(Long memberId) {
         log.debug("회원 대여 제한 정보 조회 - 회원ID: {}", memberId);
         
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new EntityNotFoundException("Member", memberId));
-        
-        // 현재 대여 중인 도서 수 조회
-        int currentLoanCount = loanRepository.findByMemberIdAndReturnDateIsNull(memberId).size();
-        
-        return MemberLoanLimitInfo.of(
-                memberId, 
-                member.getName(), 
-                member.getMembershipType(), 
-                currentLoanCount
-        );
+        // 대출 데스크 스캔마다 호출되므로 캐시 적중 시 DB 조회 없이 반환 (대여/멤버십 변경 시 무효화)
+        return memberLoanLimitCache.get(memberId, id -> {
+            Member member = memberRepository.findById(id)
+                    .orElseThrow(() -> new EntityNotFoundException("Member", id));
+
+            // 현재 대여 중인 도서 수 조회 (COUNT)
+            long currentLoanCount = loanRepository.countByMemberIdAndReturnDateIsNull(id);
+
+            return MemberLoanLimitInfo.of(
+                    id,
+                    member.getName(),
+                    member.getMembershipType(),
+                    Math.toIntExact(currentLoanCount)
+            );
+        });
     }
     
     /**
@@ -1,21 +1,37 @@
 package com.example.spring.service.impl;
 
+import com.example.spring.dto.response.CursorPage;
+import com.example.spring.dto.response.OrderResponse;
 import com.example.spring.entity.Book;
 import com.example.spring.entity.Order;
 import com.example.spring.entity.OrderItem;
+import com.example.spring.entity.OutboxMessage;
 import com.example.spring.repository.BookRepository;
+import com.example.spring.repository.BulkFetchResult;
+import com.example.spring.repository.KeysetCursor;
 import com.example.spring.repository.OrderRepository;
-import com.example.spring.service.EmailService;
+import com.example.spring.repository.OutboxRepository;
 import com.example.spring.service.LoggingService;
+import com.example.spring.service.OrderCreationResult;
 import com.example.spring.service.OrderService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,7 +39,7 @@ public class OrderServiceImpl implements OrderService {
 
     private final BookRepository bookRepository;
     private final OrderRepository orderRepository;
-    private final EmailService emailService;
+    private final OutboxRepository outboxRepository;
     private final LoggingService loggingService;
 
     @Override
@@ -34,41 +50,18 @@ public class OrderServiceImpl implements OrderService {
         long startTime = System.currentTimeMillis();
 
         try {
-            // 1. 도서 조회 및 검증
-            List<Book> books = new ArrayList<>();
-            BigDecimal total = BigDecimal.ZERO;
-
-            for (Long bookId : bookIds) {
-                Book book = bookRepository.findById(bookId)
-                        .orElseThrow(() -> {
-                            loggingService.error("유효한 도서가 없습니다.", null);
-                            return new IllegalArgumentException("유효한 도서가 없습니다.");
-                        });
-                books.add(book);
-                total = total.add(book.getPrice());
+            // 1. 도서 일괄 조회 및 검증 (한 번의 IN 쿼리)
+            BulkFetchResult<Book> fetched = bookRepository.findAllByIdIn(bookIds);
+            if (fetched.hasMissing()) {
+                loggingService.error("유효한 도서가 없습니다. 도서 ID: " + fetched.missingIds(), null);
+                throw new IllegalArgumentException("유효한 도서가 없습니다. 도서 ID: " + fetched.missingIds());
             }
 
-            // 2. 주문 생성
-            Order order = Order.builder()
-                    .totalAmount(total)
-                    .orderDate(LocalDateTime.now())
-                    .build();
-
-            // 3. 주문 아이템 생성 및 추가
-            for (Book book : books) {
-                OrderItem orderItem = OrderItem.builder()
-                        .book(book)
-                        .quantity(1)
-                        .price(book.getPrice())
-                        .build();
-                order.addOrderItem(orderItem);
-            }
-
-            // 4. 주문 저장
-            Order savedOrder = orderRepository.save(order);
+            // 2. 주문 및 주문 아이템 생성
+            Order order = buildOrder(bookIds, fetched.found());
 
-            // 4. 이메일 발송
-            emailService.sendOrderConfirmation(savedOrder);
+            // 3. 주문 저장 + 주문 확인 이메일은 같은 트랜잭션에 아웃박스로 기록 (커밋 후 OutboxRelay가 발송)
+            Order savedOrder = saveWithConfirmation(order);
 
             long endTime = System.currentTimeMillis();
             loggingService.log("주문 생성 완료 - 실행 시간: " + (endTime - startTime) + "ms");
@@ -81,6 +74,45 @@ public class OrderServiceImpl implements OrderService {
         }
     }
 
+    @Override
+    @Transactional
+    public List<OrderCreationResult> createOrders(List<List<Long>> bookIdLists) {
+        long startTime = System.currentTimeMillis();
+
+        // 1. 모든 주문의 도서를 한 번의 IN 쿼리로 조회
+        Set<Long> allBookIds = new HashSet<>();
+        for (List<Long> bookIds : bookIdLists) {
+            if (bookIds != null) {
+                allBookIds.addAll(bookIds);
+            }
+        }
+        Map<Long, Book> found = bookRepository.findAllByIdIn(allBookIds).found();
+
+        // 2. 주문별로 검증 - 실패한 주문만 결과에 예외로 남기고 나머지는 저장 (INSERT는 커밋 시 배치 전송)
+        List<OrderCreationResult> results = new ArrayList<>(bookIdLists.size());
+        int created = 0;
+        for (List<Long> bookIds : bookIdLists) {
+            if (bookIds == null) {
+                results.add(OrderCreationResult.failure(new IllegalArgumentException("주문할 도서 ID 목록이 없습니다")));
+                continue;
+            }
+            Set<Long> missingIds = bookIds.stream()
+                    .filter(id -> !found.containsKey(id))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            if (!missingIds.isEmpty()) {
+                results.add(OrderCreationResult.failure(
+                        new IllegalArgumentException("유효한 도서가 없습니다. 도서 ID: " + missingIds)));
+                continue;
+            }
+            results.add(OrderCreationResult.success(saveWithConfirmation(buildOrder(bookIds, found))));
+            created++;
+        }
+
+        loggingService.log("주문 일괄 생성 완료 - 요청: " + bookIdLists.size() + "건, 생성: " + created
+                + "건, 실행 시간: " + (System.currentTimeMillis() - startTime) + "ms");
+        return results;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Order findOrderById(Long id) {
@@ -93,4 +125,56 @@ public class OrderServiceImpl implements OrderService {
     public List<Order> findAllOrders() {
         return orderRepository.findAll();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<OrderResponse> findOrders(Pageable pageable) {
+        List<OrderResponse> responses = orderRepository.findOrderResponses(pageable);
+        return PageableExecutionUtils.getPage(responses, pageable, orderRepository::count);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponse> findOrdersAfter(String after, int size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        KeysetCursor cursor = KeysetCursor.decodeTimestamped(after);
+        List<OrderResponse> orders = orderRepository.findOrderResponsesAfter(cursor, pageSize + 1);
+        return CursorPage.of(orders, pageSize, order -> KeysetCursor.of(order.getOrderDate(), order.getId()), Function.identity());
+    }
+
+    /**
+     * 같은 도서는 수량으로 합산해 주문 아이템 생성 (요청 순서 유지)
+     */
+    private Order buildOrder(List<Long> bookIds, Map<Long, Book> books) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (Long bookId : bookIds) {
+            quantities.merge(bookId, 1, Integer::sum);
+        }
+
+        Order order = Order.builder()
+                .totalAmount(BigDecimal.ZERO)
+                .orderDate(LocalDateTime.now())
+                .build();
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Book book = books.get(entry.getKey());
+            int quantity = entry.getValue();
+            OrderItem orderItem = OrderItem.builder()
+                    .book(book)
+                    .quantity(quantity)
+                    .price(book.getPrice())
+                    .build();
+            order.addOrderItem(orderItem);
+            total = total.add(book.getPrice().multiply(BigDecimal.valueOf(quantity)));
+        }
+        order.setTotalAmount(total);
+        return order;
+    }
+
+    private Order saveWithConfirmation(Order order) {
+        Order savedOrder = orderRepository.save(order);
+        outboxRepository.save(OutboxMessage.orderConfirmation(savedOrder.getId()));
+        return savedOrder;
+    }
 }
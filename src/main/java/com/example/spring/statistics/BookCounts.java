@@ -0,0 +1,15 @@
+package com.example.spring.statistics;
+
+/**
+ * 도서 수 집계 스냅샷
+ *
+ * @param total 전체 도서 수 (삭제 포함)
+ * @param active 활성 도서 수
+ * @param available 재고가 있는 활성 도서 수
+ */
+public record BookCounts(long total, long active, long available) {
+
+    public long deleted() {
+        return total - active;
+    }
+}
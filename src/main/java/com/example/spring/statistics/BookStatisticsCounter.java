@@ -0,0 +1,160 @@
+package com.example.spring.statistics;
+
+import com.example.spring.entity.Book;
+import com.example.spring.event.BookChangedEvent;
+import com.example.spring.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도서 통계 카운터
+ * - 커밋된 BookChangedEvent로 전체/활성/재고 보유 도서 수를 증분 갱신하여 O(1)로 조회
+ * - 이벤트 누락 등으로 생길 수 있는 오차는 주기적으로 COUNT 쿼리 결과와 맞춰 보정
+ * - 정확도: 커밋 이벤트를 모두 받는 동안은 커밋된 상태와 일치하며, 보정은 변경이 없는 COUNT 구간에서만
+ *   카운터를 덮어씀 (보정 구간과 겹친 변경의 반영 시점이 모호해 생기는 오차는 다음 보정에서 맞춰짐)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookStatisticsCounter {
+
+    private final BookRepository bookRepository;
+
+    // COUNT 구간에 변경이 계속 겹칠 때 다시 세는 최대 횟수 (모두 겹치면 이번 보정은 건너뜀)
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+
+    private final Object reconcileLock = new Object();
+
+    private long total;
+    private long active;
+    private long available;
+    private volatile boolean initialized;
+
+    // COUNT 쿼리 구간에 반영된 변경 수와 변경분
+    // (커밋이 쿼리 시작 전인지 후인지 알 수 없어 COUNT 결과에 포함됐는지 판단할 수 없음)
+    private boolean reconciling;
+    private long windowChanges;
+    private long pendingTotal;
+    private long pendingActive;
+    private long pendingAvailable;
+
+    /**
+     * 현재 집계 (최초 조회 시 DB에서 초기화)
+     */
+    public BookCounts snapshot() {
+        if (!initialized) {
+            reconcile();
+        }
+        synchronized (this) {
+            return new BookCounts(total, active, available);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * COUNT 쿼리 결과로 카운터 보정
+     * - COUNT 쿼리는 카운터 잠금 밖에서 실행하여 조회/이벤트 반영이 쿼리를 기다리지 않도록 함
+     * - 쿼리 구간에 변경 이벤트가 하나도 없었던 COUNT 결과로만 카운터를 교체 (결과가 커밋된 상태와 일치)
+     * - 구간에 변경이 겹치면 최대 MAX_RECONCILE_ATTEMPTS번 다시 세고, 그래도 겹치면 증분 카운터를 유지
+     * - 초기화 전에는 덮어쓸 값이 없으므로 마지막 COUNT 결과에 구간 변경분을 더해 시작 (겹친 변경만큼 오차 가능)
+     * - 쿼리 시작 전에 커밋됐지만 이벤트 반영이 쿼리 종료 뒤로 밀린 변경은 중복 반영될 수 있으며 다음 보정에서 맞춰짐
+     */
+    @Scheduled(fixedDelayString = "${bookstore.statistics.reconcile-interval:PT5M}",
+               initialDelayString = "${bookstore.statistics.reconcile-interval:PT5M}")
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            for (int attempt = 1; attempt <= MAX_RECONCILE_ATTEMPTS; attempt++) {
+                if (reconcileOnce(attempt == MAX_RECONCILE_ATTEMPTS)) {
+                    return;
+                }
+            }
+            log.debug("도서 통계 보정 건너뜀 - COUNT 중 변경이 계속 발생하여 증분 카운터 유지");
+        }
+    }
+
+    /**
+     * @param lastAttempt 마지막 시도 여부 (초기화 전이면 변경이 겹쳐도 결과를 사용)
+     * @return 카운터를 COUNT 결과로 교체했으면 true
+     */
+    private boolean reconcileOnce(boolean lastAttempt) {
+        synchronized (this) {
+            reconciling = true;
+            windowChanges = 0;
+            pendingTotal = 0;
+            pendingActive = 0;
+            pendingAvailable = 0;
+        }
+        try {
+            BookCounts counted = bookRepository.countBooks();
+            synchronized (this) {
+                if (windowChanges > 0 && (initialized || !lastAttempt)) {
+                    return false;
+                }
+                long newTotal = counted.total() + pendingTotal;
+                long newActive = counted.active() + pendingActive;
+                long newAvailable = counted.available() + pendingAvailable;
+                if (initialized && (newTotal != total || newActive != active || newAvailable != available)) {
+                    log.warn("도서 통계 카운터 보정 - 카운터: [{}, {}, {}], DB: [{}, {}, {}]",
+                            total, active, available, newTotal, newActive, newAvailable);
+                }
+                total = newTotal;
+                active = newActive;
+                available = newAvailable;
+                initialized = true;
+                return true;
+            }
+        } finally {
+            synchronized (this) {
+                reconciling = false;
+            }
+        }
+    }
+
+    /**
+     * 커밋된 도서 변경 사항을 카운터에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBookChanged(BookChangedEvent event) {
+        if (!initialized && !reconciling) {
+            // 초기화 전 변경은 최초 조회 시 COUNT 결과에 포함됨
+            return;
+        }
+
+        Book book = event.getBook();
+        long availableDelta = Boolean.TRUE.equals(book.getAvailable()) ? 1 : 0;
+        switch (event.getChangeType()) {
+            case CREATED -> apply(1, 1, availableDelta);
+            case DELETED -> apply(0, -1, Boolean.TRUE.equals(event.getPreviousAvailable()) ? -1 : 0);
+            case RESTORED -> apply(0, 1, availableDelta);
+            case UPDATED, AVAILABILITY_CHANGED -> {
+                Boolean previous = event.getPreviousAvailable();
+                if (previous != null && !previous.equals(book.getAvailable())) {
+                    apply(0, 0, Boolean.TRUE.equals(book.getAvailable()) ? 1 : -1);
+                }
+            }
+        }
+    }
+
+    private void apply(long totalDelta, long activeDelta, long availableDelta) {
+        if (initialized) {
+            total += totalDelta;
+            active += activeDelta;
+            available += availableDelta;
+        }
+        if (reconciling) {
+            windowChanges++;
+            pendingTotal += totalDelta;
+            pendingActive += activeDelta;
+            pendingAvailable += availableDelta;
+        }
+    }
+}
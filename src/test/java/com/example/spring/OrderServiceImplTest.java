@@ -1,24 +1,39 @@
 package com.example.spring;
 
+import com.example.spring.dto.response.CursorPage;
+import com.example.spring.dto.response.OrderResponse;
 import com.example.spring.entity.Book;
 import com.example.spring.entity.Order;
+import com.example.spring.entity.OrderStatus;
+import com.example.spring.entity.OutboxMessage;
+import com.example.spring.exception.InvalidCursorException;
 import com.example.spring.repository.BookRepository;
+import com.example.spring.repository.BulkFetchResult;
+import com.example.spring.repository.KeysetCursor;
 import com.example.spring.repository.OrderRepository;
-import com.example.spring.service.EmailService;
+import com.example.spring.repository.OutboxRepository;
 import com.example.spring.service.LoggingService;
+import com.example.spring.service.OrderCreationResult;
 import com.example.spring.service.impl.OrderServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,7 +44,7 @@ class OrderServiceImplTest {
 
     @Mock private BookRepository bookRepository;    // OrderService가 작동하기 위해 필수
     @Mock private OrderRepository orderRepository;  // OrderService가 작동하기 위해 필수
-    @Mock private EmailService emailService;        // OrderService가 작동하기 위해 필수
+    @Mock private OutboxRepository outboxRepository; // OrderService가 작동하기 위해 필수
     @Mock private LoggingService loggingService;    // OrderService가 작동하기 위해 필수
 
     @InjectMocks private OrderServiceImpl orderService;
@@ -38,7 +53,7 @@ class OrderServiceImplTest {
     void createOrder_정상주문() {
         // Given
         Book book = createTestBook(1L, "테스트책", new BigDecimal("10000"));
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
+        when(bookRepository.findAllByIdIn(List.of(1L))).thenReturn(fetched(book));
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
             Order order = invocation.getArgument(0);
             order.setId(1L); // ID 설정
@@ -54,9 +69,13 @@ class OrderServiceImplTest {
         assertThat(result.getTotalAmount()).isEqualTo(new BigDecimal("10000"));
         assertThat(result.getOrderDate()).isNotNull();
 
-        verify(bookRepository).findById(1L);
+        verify(bookRepository).findAllByIdIn(List.of(1L));
         verify(orderRepository).save(any(Order.class));
-        verify(emailService).sendOrderConfirmation(any(Order.class));
+        // 이메일은 직접 발송하지 않고 같은 트랜잭션에 아웃박스 메시지로 기록
+        verify(outboxRepository).save(argThat(message ->
+                message.getType() == OutboxMessage.Type.ORDER_CONFIRMATION
+                        && message.getAggregateId().equals(1L)
+                        && message.getStatus() == OutboxMessage.Status.PENDING));
         verify(loggingService).log(contains("주문 생성 시작"));
         verify(loggingService).log(contains("주문 생성 완료"));
     }
@@ -67,8 +86,7 @@ class OrderServiceImplTest {
         Book book1 = createTestBook(1L, "테스트책1", new BigDecimal("10000"));
         Book book2 = createTestBook(2L, "테스트책2", new BigDecimal("15000"));
 
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(book1));
-        when(bookRepository.findById(2L)).thenReturn(Optional.of(book2));
+        when(bookRepository.findAllByIdIn(Arrays.asList(1L, 2L))).thenReturn(fetched(book1, book2));
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
             Order order = invocation.getArgument(0);
             order.setId(1L);
@@ -82,31 +100,33 @@ class OrderServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getTotalAmount()).isEqualTo(new BigDecimal("25000")); // 10000 + 15000
 
-        verify(bookRepository).findById(1L);
-        verify(bookRepository).findById(2L);
+        verify(bookRepository).findAllByIdIn(Arrays.asList(1L, 2L)); // 도서 수와 무관하게 한 번만 조회
         verify(orderRepository).save(any(Order.class));
-        verify(emailService).sendOrderConfirmation(any(Order.class));
+        verify(outboxRepository).save(any(OutboxMessage.class));
     }
 
     @Test
     void createOrder_존재하지않는도서() {
         // Given
-        when(bookRepository.findById(999L)).thenReturn(Optional.empty());
+        when(bookRepository.findAllByIdIn(List.of(999L)))
+                .thenReturn(new BulkFetchResult<>(Map.of(), Set.of(999L)));
 
         // When & Then
         assertThatThrownBy(() -> orderService.createOrder(List.of(999L)))
                 .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("유효한 도서가 없습니다.");
+                .hasMessage("유효한 도서가 없습니다. 도서 ID: [999]");
 
-        verify(bookRepository).findById(999L);
+        verify(bookRepository).findAllByIdIn(List.of(999L));
         verify(orderRepository, never()).save(any(Order.class));
-        verify(emailService, never()).sendOrderConfirmation(any(Order.class));
+        verify(outboxRepository, never()).save(any(OutboxMessage.class));
         verify(loggingService).error(eq("주문 생성 실패"), any(Exception.class));
     }
 
     @Test
     void createOrder_빈주문목록() {
         // Given
+        when(bookRepository.findAllByIdIn(Collections.emptyList()))
+                .thenReturn(new BulkFetchResult<>(Map.of(), Set.of()));
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
             Order order = invocation.getArgument(0);
             order.setId(1L);
@@ -122,7 +142,7 @@ class OrderServiceImplTest {
 
         verify(bookRepository, never()).findById(anyLong());
         verify(orderRepository).save(any(Order.class));
-        verify(emailService).sendOrderConfirmation(any(Order.class));
+        verify(outboxRepository).save(any(OutboxMessage.class));
     }
 
     @Test
@@ -135,7 +155,7 @@ class OrderServiceImplTest {
 
         verify(bookRepository, never()).findById(anyLong());
         verify(orderRepository, never()).save(any(Order.class));
-        verify(emailService, never()).sendOrderConfirmation(any(Order.class));
+        verify(outboxRepository, never()).save(any(OutboxMessage.class));
         verify(loggingService).error(eq("주문 생성 실패"), any(Exception.class));
     }
 
@@ -143,18 +163,17 @@ class OrderServiceImplTest {
     void createOrder_혼합된주문목록() {
         // Given
         Book book = createTestBook(1L, "테스트책", new BigDecimal("10000"));
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
-        when(bookRepository.findById(999L)).thenReturn(Optional.empty());
+        when(bookRepository.findAllByIdIn(Arrays.asList(1L, 999L)))
+                .thenReturn(new BulkFetchResult<>(Map.of(1L, book), Set.of(999L)));
 
-        // When & Then
+        // When & Then - 누락된 ID만 보고
         assertThatThrownBy(() -> orderService.createOrder(Arrays.asList(1L, 999L)))
                 .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("유효한 도서가 없습니다.");
+                .hasMessage("유효한 도서가 없습니다. 도서 ID: [999]");
 
-        verify(bookRepository).findById(1L);
-        verify(bookRepository).findById(999L);
+        verify(bookRepository).findAllByIdIn(Arrays.asList(1L, 999L));
         verify(orderRepository, never()).save(any(Order.class));
-        verify(emailService, never()).sendOrderConfirmation(any(Order.class));
+        verify(outboxRepository, never()).save(any(OutboxMessage.class));
         verify(loggingService).error(eq("주문 생성 실패"), any(Exception.class));
     }
 
@@ -162,7 +181,7 @@ class OrderServiceImplTest {
     void createOrder_중복도서주문() {
         // Given
         Book book = createTestBook(1L, "테스트책", new BigDecimal("10000"));
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
+        when(bookRepository.findAllByIdIn(Arrays.asList(1L, 1L))).thenReturn(fetched(book));
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
             Order order = invocation.getArgument(0);
             order.setId(1L);
@@ -172,13 +191,48 @@ class OrderServiceImplTest {
         // When
         Order result = orderService.createOrder(Arrays.asList(1L, 1L));
 
-        // Then
+        // Then - 같은 도서는 수량 2인 주문 아이템 하나로 합산
         assertThat(result).isNotNull();
         assertThat(result.getTotalAmount()).isEqualTo(new BigDecimal("20000")); // 10000 * 2
+        assertThat(result.getOrderItems()).hasSize(1);
+        assertThat(result.getOrderItems().get(0).getQuantity()).isEqualTo(2);
+        assertThat(result.getOrderItems().get(0).getPrice()).isEqualTo(new BigDecimal("10000"));
 
-        verify(bookRepository, times(2)).findById(1L); // 두 번 호출됨
+        verify(bookRepository).findAllByIdIn(Arrays.asList(1L, 1L)); // 한 번만 조회
         verify(orderRepository).save(any(Order.class));
-        verify(emailService).sendOrderConfirmation(any(Order.class));
+        verify(outboxRepository).save(any(OutboxMessage.class));
+    }
+
+    @Test
+    void createOrders_일괄생성_실패주문만예외() {
+        // Given
+        Book book1 = createTestBook(1L, "테스트책1", new BigDecimal("10000"));
+        Book book2 = createTestBook(2L, "테스트책2", new BigDecimal("15000"));
+        when(bookRepository.findAllByIdIn(Set.of(1L, 2L, 999L)))
+                .thenReturn(new BulkFetchResult<>(Map.of(1L, book1, 2L, book2), Set.of(999L)));
+        AtomicLong ids = new AtomicLong(1);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            order.setId(ids.getAndIncrement());
+            return order;
+        });
+
+        // When
+        List<OrderCreationResult> results = orderService.createOrders(
+                Arrays.asList(List.of(1L), List.of(2L, 999L), null, List.of(1L, 2L)));
+
+        // Then - 도서 조회는 한 번, 요청 순서대로 결과 반환
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0).order().getTotalAmount()).isEqualTo(new BigDecimal("10000"));
+        assertThat(results.get(1).error())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효한 도서가 없습니다. 도서 ID: [999]");
+        assertThat(results.get(2).isSuccess()).isFalse();
+        assertThat(results.get(3).order().getTotalAmount()).isEqualTo(new BigDecimal("25000"));
+
+        verify(bookRepository).findAllByIdIn(Set.of(1L, 2L, 999L));
+        verify(orderRepository, times(2)).save(any(Order.class));
+        verify(outboxRepository, times(2)).save(any(OutboxMessage.class));
     }
 
     @Test
@@ -231,7 +285,66 @@ class OrderServiceImplTest {
         verify(orderRepository).findAll();
     }
 
+    @Test
+    void findOrders_페이지조회() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 2);
+        List<OrderResponse> responses = List.of(createTestResponse(3L), createTestResponse(2L));
+        when(orderRepository.findOrderResponses(pageable)).thenReturn(responses);
+        when(orderRepository.count()).thenReturn(3L);
+
+        // When
+        Page<OrderResponse> result = orderService.findOrders(pageable);
+
+        // Then
+        assertThat(result.getContent()).extracting(OrderResponse::getId).containsExactly(3L, 2L);
+        assertThat(result.getTotalElements()).isEqualTo(3L);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    void findOrders_마지막페이지_COUNT생략() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+        when(orderRepository.findOrderResponses(pageable)).thenReturn(List.of(createTestResponse(1L)));
+
+        // When
+        Page<OrderResponse> result = orderService.findOrders(pageable);
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(1L);
+        verify(orderRepository, never()).count();
+    }
+
+    @Test
+    void findOrdersAfter_다음커서반환() {
+        // Given
+        OrderResponse fourth = createTestResponse(4L);
+        when(orderRepository.findOrderResponsesAfter(null, 3)).thenReturn(List.of(
+                createTestResponse(5L), fourth, createTestResponse(3L)));
+
+        // When
+        CursorPage<OrderResponse> result = orderService.findOrdersAfter(null, 2);
+
+        // Then - size + 1 건을 조회해 다음 페이지 여부 판단
+        assertThat(result.getContent()).extracting(OrderResponse::getId).containsExactly(5L, 4L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(result.getNextCursor())).isEqualTo(KeysetCursor.of(fourth.getOrderDate(), 4L));
+    }
+
+    @Test
+    void findOrdersAfter_주문시각없는커서_예외발생() {
+        // When & Then - ID 단독 커서는 (orderDate, id) 위치를 나타낼 수 없음
+        assertThatThrownBy(() -> orderService.findOrdersAfter(KeysetCursor.ofId(4L).encode(), 2))
+                .isInstanceOf(InvalidCursorException.class);
+        verify(orderRepository, never()).findOrderResponsesAfter(any(), anyInt());
+    }
+
     // 테스트 헬퍼 메서드들
+    private OrderResponse createTestResponse(Long id) {
+        return new OrderResponse(id, LocalDateTime.now(), OrderStatus.PENDING, new BigDecimal("10000"));
+    }
+
     private Book createTestBook(Long id, String title, BigDecimal price) {
         return Book.builder()
                 .id(id)
@@ -248,4 +361,12 @@ class OrderServiceImplTest {
                 .orderDate(LocalDateTime.now())
                 .build();
     }
-}
\ No newline at end of file
+
+    private BulkFetchResult<Book> fetched(Book... books) {
+        Map<Long, Book> found = new HashMap<>();
+        for (Book book : books) {
+            found.put(book.getId(), book);
+        }
+        return new BulkFetchResult<>(found, Set.of());
+    }
+}
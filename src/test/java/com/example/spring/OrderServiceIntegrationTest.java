@@ -3,6 +3,7 @@ package com.example.spring;
 import com.example.spring.entity.Book;
 import com.example.spring.entity.Order;
 import com.example.spring.entity.OrderItem;
+import com.example.spring.entity.OutboxMessage;
 import com.example.spring.repository.BookRepository;
 import com.example.spring.repository.OrderRepository;
 import com.example.spring.service.EmailService;
@@ -47,6 +48,7 @@ class OrderServiceIntegrationTest {
     @BeforeEach
     void setUp() {
         // 기존 주문 데이터 직접 삭제 (EntityManager 사용)
+        entityManager.createQuery("DELETE FROM OutboxMessage").executeUpdate();
         entityManager.createQuery("DELETE FROM OrderItem").executeUpdate();
         entityManager.createQuery("DELETE FROM Order").executeUpdate();
         entityManager.flush();
@@ -87,8 +89,14 @@ class OrderServiceIntegrationTest {
         assertThat(orderItem.getPrice()).isEqualTo(new BigDecimal("45000"));
         assertThat(orderItem.getQuantity()).isEqualTo(1);
 
-        // 3. 이메일 발송 확인
-        verify(emailService).sendOrderConfirmation(any(Order.class));
+        // 3. 이메일은 주문 트랜잭션 안에서 발송하지 않고 아웃박스 메시지로 기록
+        verify(emailService, never()).sendOrderConfirmation(any(Order.class));
+        assertThat(findOutboxMessages(result.getId()))
+                .singleElement()
+                .satisfies(message -> {
+                    assertThat(message.getType()).isEqualTo(OutboxMessage.Type.ORDER_CONFIRMATION);
+                    assertThat(message.getStatus()).isEqualTo(OutboxMessage.Status.PENDING);
+                });
     }
 
     @Test
@@ -128,14 +136,15 @@ class OrderServiceIntegrationTest {
         // When & Then
         assertThatThrownBy(() -> orderService.createOrder(bookIds))
                 .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("유효한 도서가 없습니다.");
+                .hasMessage("유효한 도서가 없습니다. 도서 ID: [999999]");
 
         // 실제 DB에 Order가 저장되지 않았는지 확인
         List<Order> allOrders = orderRepository.findAll();
         assertThat(allOrders).isEmpty();
 
-        // 이메일이 발송되지 않았는지 확인
-        verify(emailService, never()).sendOrderConfirmation(any(Order.class));
+        // 아웃박스 메시지도 남지 않았는지 확인
+        assertThat(entityManager.createQuery("SELECT m FROM OutboxMessage m", OutboxMessage.class)
+                .getResultList()).isEmpty();
     }
 
     @Test
@@ -195,7 +204,7 @@ class OrderServiceIntegrationTest {
 
     @Test
     @Transactional
-    void createOrder_트랜잭션롤백테스트() {
+    void createOrder_이메일서비스장애와무관하게_주문저장() {
         // Given
         List<Long> bookIds = Arrays.asList(testBook1.getId());
 
@@ -203,15 +212,14 @@ class OrderServiceIntegrationTest {
         doThrow(new RuntimeException("이메일 발송 실패"))
                 .when(emailService).sendOrderConfirmation(any(Order.class));
 
-        // When & Then
-        assertThatThrownBy(() -> orderService.createOrder(bookIds))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessage("이메일 발송 실패");
+        // When - 이메일은 커밋 후 OutboxRelay가 발송하므로 주문 생성은 성공
+        Order result = orderService.createOrder(bookIds);
 
-        // 트랜잭션 롤백으로 Order가 저장되지 않았는지 확인
+        // Then - 주문과 아웃박스 메시지가 같은 트랜잭션에 저장됨
         entityManager.flush();
-        List<Order> allOrders = orderRepository.findAll();
-        assertThat(allOrders).isEmpty();
+        assertThat(orderRepository.findById(result.getId())).isPresent();
+        assertThat(findOutboxMessages(result.getId())).hasSize(1);
+        verify(emailService, never()).sendOrderConfirmation(any(Order.class));
     }
 
     @Test
@@ -289,4 +297,11 @@ class OrderServiceIntegrationTest {
         Book relatedBook = dbOrder.getOrderItems().get(0).getBook();
         assertThat(relatedBook.getTitle()).isEqualTo("스프링 부트 완벽 가이드");
     }
-}
\ No newline at end of file
+
+    private List<OutboxMessage> findOutboxMessages(Long orderId) {
+        return entityManager.createQuery(
+                        "SELECT m FROM OutboxMessage m WHERE m.aggregateId = :orderId", OutboxMessage.class)
+                .setParameter("orderId", orderId)
+                .getResultList();
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.spring.aop;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.service.impl.BookServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OptimisticRetryAspect 테스트")
+class OptimisticRetryAspectTest {
+
+    private static final String METHOD = "BookServiceImpl.updateBookAvailability";
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private BookstoreProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticRetryAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BookstoreProperties();
+        properties.getOptimisticRetry().setMaxAttempts(3);
+        properties.getOptimisticRetry().setInitialBackoff(Duration.ofMillis(1));
+        properties.getOptimisticRetry().setMaxBackoff(Duration.ofMillis(2));
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new OptimisticRetryAspect(properties, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("충돌 재시도")
+    class RetryOnConflict {
+
+        @Test
+        @DisplayName("충돌 후 재시도에서 성공하면 결과를 반환하고 충돌 횟수를 기록")
+        void retryOnConflict_재시도성공_결과반환() throws Throwable {
+            // Given
+            givenSignature();
+            given(joinPoint.proceed())
+                    .willThrow(conflict())
+                    .willThrow(conflict())
+                    .willReturn("updated");
+
+            // When
+            Object result = aspect.retryOnConflict(joinPoint);
+
+            // Then
+            assertThat(result).isEqualTo("updated");
+            then(joinPoint).should(times(3)).proceed();
+            assertThat(count("optimistic.lock.conflicts")).isEqualTo(2.0);
+            assertThat(count("optimistic.lock.retries.exhausted")).isZero();
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수를 넘으면 마지막 충돌 예외를 그대로 던짐")
+        void retryOnConflict_시도초과_예외전파() throws Throwable {
+            // Given
+            givenSignature();
+            ObjectOptimisticLockingFailureException last = conflict();
+            given(joinPoint.proceed())
+                    .willThrow(conflict())
+                    .willThrow(conflict())
+                    .willThrow(last);
+
+            // When & Then
+            assertThatThrownBy(() -> aspect.retryOnConflict(joinPoint)).isSameAs(last);
+            then(joinPoint).should(times(3)).proceed();
+            assertThat(count("optimistic.lock.conflicts")).isEqualTo(3.0);
+            assertThat(count("optimistic.lock.retries.exhausted")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("낙관적 잠금 충돌이 아닌 예외는 재시도하지 않음")
+        void retryOnConflict_다른예외_재시도없음() throws Throwable {
+            // Given
+            givenSignature();
+            given(joinPoint.proceed()).willThrow(new DataIntegrityViolationException("duplicate"));
+
+            // When & Then
+            assertThatThrownBy(() -> aspect.retryOnConflict(joinPoint))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+            then(joinPoint).should(times(1)).proceed();
+            assertThat(count("optimistic.lock.conflicts")).isZero();
+        }
+
+        @Test
+        @DisplayName("바깥 트랜잭션 안에서 호출되면 재시도하지 않고 예외를 전파")
+        void retryOnConflict_진행중트랜잭션_재시도없음() throws Throwable {
+            // Given
+            given(joinPoint.proceed()).willThrow(conflict());
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+
+            // When & Then
+            try {
+                assertThatThrownBy(() -> aspect.retryOnConflict(joinPoint))
+                        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+            } finally {
+                TransactionSynchronizationManager.setActualTransactionActive(false);
+            }
+            then(joinPoint).should(times(1)).proceed();
+        }
+    }
+
+    @Nested
+    @DisplayName("재시도 대기 시간")
+    class Backoff {
+
+        @Test
+        @DisplayName("시도마다 상한이 2배로 늘고 최대 대기 시간을 넘지 않음")
+        void backoff_지수증가_상한적용() {
+            // Given
+            properties.getOptimisticRetry().setInitialBackoff(Duration.ofMillis(10));
+            properties.getOptimisticRetry().setMaxBackoff(Duration.ofMillis(50));
+
+            // When & Then
+            for (int i = 0; i < 100; i++) {
+                assertThat(aspect.backoff(1)).isBetween(Duration.ofMillis(5), Duration.ofMillis(10));
+                assertThat(aspect.backoff(2)).isBetween(Duration.ofMillis(10), Duration.ofMillis(20));
+                assertThat(aspect.backoff(10)).isBetween(Duration.ofMillis(25), Duration.ofMillis(50));
+            }
+        }
+    }
+
+    private void givenSignature() {
+        given(joinPoint.getSignature()).willReturn(signature);
+        willReturn(BookServiceImpl.class).given(signature).getDeclaringType();
+        given(signature.getName()).willReturn("updateBookAvailability");
+    }
+
+    private ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException("Book", 1L);
+    }
+
+    private double count(String name) {
+        var counter = meterRegistry.find(name).tag("method", METHOD).counter();
+        return counter == null ? 0.0 : counter.count();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.spring.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.spring.config.AsyncConfig;
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.entity.Member;
+import com.example.spring.entity.MembershipType;
+import com.example.spring.event.MemberEventListener;
+import com.example.spring.event.MemberRegisteredEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 이벤트 비동기 처리량 벤치마크
+ * - 가입 이벤트(건당 1초 블로킹 이메일 발송 시뮬레이션)를 초당 10,000건으로 일정하게 제출하여
+ *   VIRTUAL 모드 emailTaskExecutor가 거부 없이 같은 처리량을 유지하는지 측정
+ * - benchmark 프로파일에서만 실행 (./mvnw test -Pbenchmark -Dbenchmark.events.rate=10000 -Dbenchmark.events.seconds=5)
+ */
+@Tag("benchmark")
+@DisplayName("회원 이벤트 비동기 처리량 벤치마크")
+class AsyncDispatchBenchmarkTest {
+
+    private final Logger listenerLogger = (Logger) LoggerFactory.getLogger(MemberEventListener.class);
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        // 이벤트마다 남기는 INFO 로그가 측정을 왜곡하지 않도록 일시적으로 끔
+        previousLevel = listenerLogger.getLevel();
+        listenerLogger.setLevel(Level.WARN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listenerLogger.setLevel(previousLevel);
+    }
+
+    @Test
+    @DisplayName("가상 스레드 Executor - 초당 10,000건 지속 처리")
+    void handleMemberRegistered_VIRTUAL_초당1만건지속처리() throws Exception {
+        // Given
+        int rate = Integer.getInteger("benchmark.events.rate", 10_000);
+        int seconds = Integer.getInteger("benchmark.events.seconds", 5);
+        int total = rate * seconds;
+
+        BookstoreProperties properties = new BookstoreProperties();
+        properties.getAsync().setMode(BookstoreProperties.Async.ExecutorMode.VIRTUAL);
+        Executor executor = new AsyncConfig().emailTaskExecutor(properties);
+        MemberEventListener listener = new MemberEventListener();
+        MemberRegisteredEvent event = new MemberRegisteredEvent(Member.builder()
+                .id(1L)
+                .name("부하테스트")
+                .email("load@example.com")
+                .membershipType(MembershipType.REGULAR)
+                .joinDate(LocalDateTime.now())
+                .build());
+
+        CountDownLatch completed = new CountDownLatch(total);
+        AtomicLong firstCompletion = new AtomicLong(Long.MAX_VALUE);
+        AtomicLong lastCompletion = new AtomicLong();
+
+        // When - 목표 속도에 맞춰 제출 (제출이 밀리면 지속 처리량 미달)
+        long start = System.nanoTime();
+        for (int submitted = 0; submitted < total; ) {
+            long due = (System.nanoTime() - start) * rate / TimeUnit.SECONDS.toNanos(1) + 1;
+            while (submitted < Math.min(due, total)) {
+                executor.execute(() -> {
+                    listener.handleMemberRegistered(event);
+                    long now = System.nanoTime();
+                    firstCompletion.accumulateAndGet(now, Math::min);
+                    lastCompletion.accumulateAndGet(now, Math::max);
+                    completed.countDown();
+                });
+                submitted++;
+            }
+            LockSupport.parkNanos(100_000);
+        }
+        double submitSeconds = (System.nanoTime() - start) / 1e9;
+        boolean finished = completed.await(seconds + 30L, TimeUnit.SECONDS);
+
+        // Then - 첫 완료(1초 지연 후)부터 마지막 완료까지의 완료 속도
+        double completionSeconds = (lastCompletion.get() - firstCompletion.get()) / 1e9;
+        double submitRate = total / submitSeconds;
+        double completionRate = total / Math.max(completionSeconds, 1e-3);
+        System.out.printf("[benchmark] events=%d, submit=%.0f events/s, completion=%.0f events/s, 처리 지연 포함 총 %.1fs%n",
+                total, submitRate, completionRate, (lastCompletion.get() - start) / 1e9);
+
+        assertThat(finished).isTrue();
+        assertThat(submitRate).isGreaterThanOrEqualTo(rate * 0.95);
+        assertThat(completionRate).isGreaterThanOrEqualTo(rate * 0.95);
+    }
+}
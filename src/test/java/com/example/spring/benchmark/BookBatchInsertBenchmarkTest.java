@@ -0,0 +1,107 @@
+package com.example.spring.benchmark;
+
+import com.example.spring.entity.Book;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 INSERT 배치 벤치마크
+ * - 풀링 시퀀스 + hibernate.jdbc.batch_size 설정으로 INSERT가 JDBC 배치로 묶이는지 검증
+ * - 배치 검증은 항상 실행, 10만 건 처리량 측정은 benchmark 프로파일에서만 실행
+ *   (./mvnw test -Pbenchmark -Dbenchmark.inserts=100000)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+@ActiveProfiles("test")
+@DisplayName("대량 INSERT 배치 벤치마크")
+class BookBatchInsertBenchmarkTest {
+
+    private static final int BATCH_SIZE = 50;
+    private static final int FLUSH_INTERVAL = 1_000;
+
+    @Autowired
+    private EntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("INSERT가 배치 단위로 묶여 Statement 준비 횟수가 건수보다 훨씬 적음")
+    void persist_풀링시퀀스_INSERT배치전송() {
+        // Given
+        int count = 2_000;
+
+        // When
+        insertBooks(count, 0);
+
+        // Then - 배치가 없으면 건당 1회, 배치 시 (INSERT 배치 + 시퀀스 조회) 정도만 준비
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(count);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2L * count / BATCH_SIZE + 2);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("10만 건 INSERT 처리량 - 배치 전송 vs 건별 전송")
+    void persist_10만건_처리량비교() {
+        int count = Integer.getInteger("benchmark.inserts", 100_000);
+
+        long batchedNanos = insertBooks(count, 0);
+        long batchedPrepares = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        em.unwrap(Session.class).setJdbcBatchSize(1);
+        long unbatchedNanos = insertBooks(count, count);
+        long unbatchedPrepares = statistics.getPrepareStatementCount();
+
+        System.out.printf("[benchmark] inserts=%d, batched=%.0f rows/s (%d statements), unbatched=%.0f rows/s (%d statements)%n",
+                count, count / (batchedNanos / 1e9), batchedPrepares,
+                count / (unbatchedNanos / 1e9), unbatchedPrepares);
+
+        // 인메모리 H2는 네트워크 왕복이 없어 시간 차이가 작으므로, 왕복 횟수(Statement 수)로 검증
+        assertThat(batchedPrepares).isLessThan(unbatchedPrepares / 10);
+    }
+
+    private long insertBooks(int count, int offset) {
+        LocalDateTime now = LocalDateTime.now();
+        long start = System.nanoTime();
+        for (int i = offset; i < offset + count; i++) {
+            em.persist(Book.builder()
+                    .title("Batch Book " + i)
+                    .author("Author " + (i % 100))
+                    .isbn(String.format("979%010d", i))
+                    .price(new BigDecimal(10 + (i % 90)))
+                    .available(true)
+                    .createdDate(now)
+                    .build());
+            if ((i + 1) % FLUSH_INTERVAL == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+        em.clear();
+        return System.nanoTime() - start;
+    }
+}
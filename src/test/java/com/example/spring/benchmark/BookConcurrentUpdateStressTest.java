@@ -0,0 +1,171 @@
+package com.example.spring.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.spring.SpringBookstoreApplication;
+import com.example.spring.entity.Book;
+import com.example.spring.repository.BookRepository;
+import com.example.spring.service.BookService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도서 한 건에 대한 동시 수정 스트레스 테스트
+ * - 수백 개 스레드가 같은 도서의 재고 상태를 동시에 수정할 때 낙관적 잠금 충돌이 재시도로 흡수되는지 검증
+ * - 모든 수정 성공 + 버전 = 수정 횟수(갱신 손실 없음) 검증은 항상 실행, 처리량 측정은 benchmark 프로파일에서만 실행
+ *   (./mvnw test -Pbenchmark -Dbenchmark.writers=1000)
+ */
+@SpringBootTest(classes = SpringBookstoreApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:optimisticstress;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.hikari.maximum-pool-size=32",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+        // 한 행에 수백 개 쓰기가 몰리므로 모든 쓰기가 성공할 때까지 재시도하도록 시도 횟수를 늘림
+        "bookstore.optimistic-retry.max-attempts=1000",
+        "bookstore.optimistic-retry.initial-backoff=1ms",
+        "bookstore.optimistic-retry.max-backoff=20ms",
+        "bookstore.outbox.enabled=false"
+})
+@ActiveProfiles("test")
+@DisplayName("도서 동시 수정 스트레스 테스트")
+class BookConcurrentUpdateStressTest {
+
+    private static final String METHOD = "BookServiceImpl.updateBookAvailability";
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Logger serviceLogger = (Logger) LoggerFactory.getLogger("com.example.spring");
+    private Level previousLevel;
+    private Long bookId;
+
+    @BeforeEach
+    void setUp() {
+        // 수정마다 남기는 INFO 로그가 측정을 왜곡하지 않도록 일시적으로 끔
+        previousLevel = serviceLogger.getLevel();
+        serviceLogger.setLevel(Level.WARN);
+
+        bookId = transactionTemplate.execute(status -> bookRepository.save(Book.builder()
+                .title("Hot Book")
+                .author("Author")
+                .isbn(String.format("979%010d", System.nanoTime() % 10_000_000_000L))
+                .price(new BigDecimal("15000"))
+                .available(true)
+                .createdDate(LocalDateTime.now())
+                .build()).getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        serviceLogger.setLevel(previousLevel);
+    }
+
+    @Test
+    @DisplayName("수백 개 동시 수정이 모두 성공하고 버전이 수정 횟수만큼 증가")
+    void updateBookAvailability_동시수정_갱신손실없음() throws Exception {
+        // Given
+        int writers = 300;
+        double conflictsBefore = count("optimistic.lock.conflicts");
+        double exhaustedBefore = count("optimistic.lock.retries.exhausted");
+
+        // When
+        List<Future<Book>> results = run(writers, writers);
+
+        // Then
+        for (Future<Book> result : results) {
+            assertThat(result.get().getId()).isEqualTo(bookId);
+        }
+        Book book = bookRepository.findById(bookId).orElseThrow();
+        assertThat(book.getVersion()).isEqualTo((long) writers);
+        assertThat(count("optimistic.lock.retries.exhausted")).isEqualTo(exhaustedBefore);
+        System.out.printf("[stress] writers=%d, conflicts=%.0f%n",
+                writers, count("optimistic.lock.conflicts") - conflictsBefore);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("한 행에 몰린 동시 수정의 처리량과 충돌 비율")
+    void updateBookAvailability_처리량측정() throws Exception {
+        int writers = Integer.getInteger("benchmark.writers", 1_000);
+        int threads = Integer.getInteger("benchmark.threads", 200);
+
+        // 워밍업
+        run(threads, 200);
+
+        double conflictsBefore = count("optimistic.lock.conflicts");
+        long versionBefore = bookRepository.findById(bookId).orElseThrow().getVersion();
+        long start = System.nanoTime();
+        for (Future<Book> result : run(threads, writers)) {
+            result.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double conflicts = count("optimistic.lock.conflicts") - conflictsBefore;
+        long versionAfter = bookRepository.findById(bookId).orElseThrow().getVersion();
+
+        System.out.printf("[benchmark] writers=%d, threads=%d, %,.0f writes/s, 충돌 %.0f건 (쓰기당 %.2f회 재시도)%n",
+                writers, threads, writers / seconds, conflicts, conflicts / writers);
+
+        assertThat(versionAfter - versionBefore).isEqualTo(writers);
+    }
+
+    /**
+     * threads개 스레드가 동시에 출발해 writes번 재고 상태를 번갈아 수정 (모든 수정이 끝날 때까지 대기)
+     */
+    private List<Future<Book>> run(int threads, int writes) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startGate = new CountDownLatch(1);
+        try {
+            List<Future<Book>> results = new ArrayList<>(writes);
+            for (int i = 0; i < writes; i++) {
+                boolean available = i % 2 != 0;
+                results.add(executor.submit(() -> {
+                    startGate.await();
+                    return bookService.updateBookAvailability(bookId, available);
+                }));
+            }
+            startGate.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double count(String name) {
+        Counter counter = meterRegistry.find(name).tag("method", METHOD).counter();
+        return counter == null ? 0.0 : counter.count();
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.spring.benchmark;
+
+import com.example.spring.entity.Book;
+import com.example.spring.repository.BookRepository;
+import com.example.spring.repository.impl.JpaBookRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 복합 조건 검색 회귀 벤치마크
+ * - 기존 Stream 버전(전체 활성 도서 로딩 후 메모리 필터링)과 DB 필터링 버전을 비교
+ * - 결과 동일성 검증은 항상 실행, 시간 측정은 benchmark 프로파일에서만 실행
+ *   (./mvnw test -Pbenchmark -Dbenchmark.books=200000)
+ */
+@DataJpaTest
+@Import(JpaBookRepository.class)
+@ActiveProfiles("test")
+@DisplayName("복합 조건 검색 벤치마크")
+class BookFilterSearchBenchmarkTest {
+
+    private static final int DEFAULT_BOOK_COUNT = 500;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    private int bookCount;
+
+    @BeforeEach
+    void setUp() {
+        bookCount = Integer.getInteger("benchmark.books", DEFAULT_BOOK_COUNT);
+        LocalDateTime base = LocalDateTime.now().minusYears(1);
+
+        for (int i = 0; i < bookCount; i++) {
+            Book book = Book.builder()
+                    .title((i % 3 == 0 ? "Clean " : "Spring ") + "Book " + i)
+                    .author(i % 2 == 0 ? "Robert C. Martin" : "Craig Walls")
+                    .isbn(String.format("978%010d", i))
+                    .price(new BigDecimal(10 + (i % 90)))
+                    .available(i % 5 != 0)
+                    .createdDate(base.plusSeconds(i))
+                    .build();
+            if (i % 10 == 0) {
+                book.markAsDeleted();
+            }
+            em.persist(book);
+            if (i % 1_000 == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("DB 필터링 결과가 Stream 버전과 동일")
+    void findActiveBooksWithFilters_Stream버전과_동일한결과() {
+        Pageable pageable = PageRequest.of(2, 7);
+
+        Page<Book> legacy = legacyStreamSearch("clean", "martin", new BigDecimal("20"), new BigDecimal("80"), true, pageable);
+        em.clear();
+        Page<Book> pushedDown = bookRepository.findActiveBooksWithFilters(
+                "clean", "martin", new BigDecimal("20"), new BigDecimal("80"), true, pageable);
+
+        assertThat(pushedDown.getTotalElements()).isEqualTo(legacy.getTotalElements());
+        assertThat(pushedDown.getContent()).extracting(Book::getId)
+                .containsExactlyElementsOf(legacy.getContent().stream().map(Book::getId).toList());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Stream 버전 대비 응답 시간 비교")
+    void findActiveBooksWithFilters_응답시간비교() {
+        Pageable pageable = PageRequest.of(3, 20);
+        int iterations = 20;
+
+        long legacyNanos = measure(iterations, () ->
+                legacyStreamSearch("clean", "martin", null, new BigDecimal("60"), true, pageable));
+        long pushedDownNanos = measure(iterations, () ->
+                bookRepository.findActiveBooksWithFilters("clean", "martin", null, new BigDecimal("60"), true, pageable));
+
+        System.out.printf("[benchmark] books=%d, stream=%.2fms/op, db=%.2fms/op%n",
+                bookCount, legacyNanos / 1e6 / iterations, pushedDownNanos / 1e6 / iterations);
+
+        assertThat(pushedDownNanos).isLessThan(legacyNanos);
+    }
+
+    private long measure(int iterations, Runnable task) {
+        // 워밍업
+        for (int i = 0; i < 3; i++) {
+            task.run();
+            em.clear();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+            em.clear();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * 기존 BookServiceImpl.searchBooksWithFilters (Stream 버전) 구현
+     */
+    private Page<Book> legacyStreamSearch(String title, String author,
+                                          BigDecimal minPrice, BigDecimal maxPrice,
+                                          Boolean available, Pageable pageable) {
+        List<Book> filteredBooks = bookRepository.findByDeletedDateIsNull().stream()
+                .filter(book -> title == null || book.getTitle().toLowerCase().contains(title.toLowerCase()))
+                .filter(book -> author == null || book.getAuthor().toLowerCase().contains(author.toLowerCase()))
+                .filter(book -> minPrice == null || book.getPrice().compareTo(minPrice) >= 0)
+                .filter(book -> maxPrice == null || book.getPrice().compareTo(maxPrice) <= 0)
+                .filter(book -> available == null || book.getAvailable().equals(available))
+                .collect(Collectors.toList());
+
+        int start = (int) pageable.getOffset();
+        int end = Math.min((start + pageable.getPageSize()), filteredBooks.size());
+        List<Book> pageContent = start >= filteredBooks.size() ? List.of() : filteredBooks.subList(start, end);
+
+        return new PageImpl<>(pageContent, pageable, filteredBooks.size());
+    }
+}
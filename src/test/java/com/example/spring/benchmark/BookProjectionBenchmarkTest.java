@@ -0,0 +1,139 @@
+package com.example.spring.benchmark;
+
+import com.example.spring.dto.response.BookResponse;
+import com.example.spring.entity.Book;
+import com.example.spring.repository.BookRepository;
+import com.example.spring.repository.impl.JpaBookRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록/검색 조회 DTO 프로젝션 벤치마크
+ * - 기존 엔티티 조회 + BookResponse.from 변환과 BookResponse 프로젝션 쿼리를 비교
+ * - 결과 동일성 검증은 항상 실행, 요청당 할당량 측정은 benchmark 프로파일에서만 실행
+ *   (./mvnw test -Pbenchmark -Dbenchmark.books=20000)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+@Import(JpaBookRepository.class)
+@ActiveProfiles("test")
+@DisplayName("DTO 프로젝션 벤치마크")
+class BookProjectionBenchmarkTest {
+
+    private static final int DEFAULT_BOOK_COUNT = 300;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    private int bookCount;
+
+    @BeforeEach
+    void setUp() {
+        bookCount = Integer.getInteger("benchmark.books", DEFAULT_BOOK_COUNT);
+        LocalDateTime base = LocalDateTime.now().minusYears(1);
+
+        for (int i = 0; i < bookCount; i++) {
+            Book book = Book.builder()
+                    .title((i % 3 == 0 ? "Clean " : "Spring ") + "Book " + i)
+                    .author(i % 2 == 0 ? "Robert C. Martin" : "Craig Walls")
+                    .isbn(String.format("978%010d", i))
+                    .price(new BigDecimal(10 + (i % 90)))
+                    .available(i % 5 != 0)
+                    .createdDate(base.plusSeconds(i))
+                    .build();
+            if (i % 10 == 0) {
+                book.markAsDeleted();
+            }
+            em.persist(book);
+            if (i % 1_000 == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("프로젝션 결과가 엔티티 조회 후 변환한 결과와 동일")
+    void findActiveBookResponses_엔티티변환결과와_동일() {
+        Pageable pageable = PageRequest.of(1, 20, Sort.by(Sort.Direction.ASC, "price"));
+
+        Page<BookResponse> legacy = entitySearch(pageable);
+        em.clear();
+        Page<BookResponse> projected = bookRepository.findActiveBookResponses(
+                "clean", null, null, new BigDecimal("80"), true, pageable);
+
+        assertThat(projected.getTotalElements()).isEqualTo(legacy.getTotalElements());
+        assertThat(projected.getContent())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(legacy.getContent());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("요청당 할당량 비교 - 엔티티 조회 vs 프로젝션")
+    void findActiveBookResponses_요청당할당량비교() {
+        Pageable pageable = PageRequest.of(0, 100, Sort.by(Sort.Direction.DESC, "createdDate"));
+        int iterations = 200;
+
+        long entityBytes = allocatedPerRequest(iterations, () -> entitySearch(pageable));
+        long projectionBytes = allocatedPerRequest(iterations, () -> bookRepository.findActiveBookResponses(
+                "clean", null, null, new BigDecimal("80"), true, pageable));
+
+        System.out.printf("[benchmark] books=%d, page=%d, entity=%d bytes/req, projection=%d bytes/req (%.1f%% 감소)%n",
+                bookCount, pageable.getPageSize(), entityBytes, projectionBytes,
+                100.0 * (entityBytes - projectionBytes) / entityBytes);
+
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    /**
+     * 기존 BookController 목록/검색 경로 (관리 엔티티 조회 후 DTO 변환)
+     */
+    private Page<BookResponse> entitySearch(Pageable pageable) {
+        return bookRepository.findActiveBooksWithFilters("clean", null, null, new BigDecimal("80"), true, pageable)
+                .map(BookResponse::from);
+    }
+
+    private long allocatedPerRequest(int iterations, Supplier<Page<BookResponse>> request) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        // 워밍업 (쿼리 계획 캐시, JIT)
+        for (int i = 0; i < 20; i++) {
+            request.get();
+            em.clear();
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            request.get();
+            em.clear();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / iterations;
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.spring.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.spring.SpringBookstoreApplication;
+import com.example.spring.entity.Book;
+import com.example.spring.entity.Order;
+import com.example.spring.ingest.OrderGroupCommitter;
+import com.example.spring.repository.BookRepository;
+import com.example.spring.service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문 그룹 커밋 벤치마크
+ * - 동시 주문 요청을 주문별 트랜잭션(기존 경로)과 그룹 커밋으로 처리할 때 초당 커밋/주문 수를 비교
+ * - 결과 정확성과 커밋 횟수 감소 검증은 항상 실행, 처리량 측정은 benchmark 프로파일에서만 실행
+ *   (./mvnw test -Pbenchmark -Dbenchmark.orders=20000 -Dbenchmark.clients=64)
+ */
+@SpringBootTest(classes = SpringBookstoreApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:groupcommit;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+        "bookstore.order.group-commit.enabled=true",
+        "bookstore.order.group-commit.max-batch-size=100",
+        "bookstore.order.group-commit.max-delay=5ms",
+        "bookstore.outbox.enabled=false"
+})
+@ActiveProfiles("test")
+@DisplayName("주문 그룹 커밋 벤치마크")
+class OrderGroupCommitBenchmarkTest {
+
+    private static final int BOOK_COUNT = 50;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderGroupCommitter groupCommitter;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final Logger serviceLogger = (Logger) LoggerFactory.getLogger("com.example.spring");
+    private Level previousLevel;
+    private Statistics statistics;
+    private List<Long> bookIds;
+
+    @BeforeEach
+    void setUp() {
+        // 주문마다 남기는 INFO 로그가 측정을 왜곡하지 않도록 일시적으로 끔
+        previousLevel = serviceLogger.getLevel();
+        serviceLogger.setLevel(Level.WARN);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        bookIds = transactionTemplate.execute(status -> {
+            List<Long> ids = new ArrayList<>();
+            long suffix = System.nanoTime() % 1_000_000_000L;
+            for (int i = 0; i < BOOK_COUNT; i++) {
+                Book book = bookRepository.save(Book.builder()
+                        .title("Flash Sale " + i)
+                        .author("Author " + i)
+                        .isbn(String.format("97%02d%09d", i, suffix))
+                        .price(new BigDecimal(10_000 + i * 100))
+                        .available(true)
+                        .createdDate(LocalDateTime.now())
+                        .build());
+                ids.add(book.getId());
+            }
+            return ids;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        serviceLogger.setLevel(previousLevel);
+    }
+
+    @Test
+    @DisplayName("동시 요청을 모아 커밋 - 요청별 결과가 정확하고 커밋 횟수는 주문 수보다 적음")
+    void createOrder_그룹커밋_요청별결과_커밋횟수감소() throws Exception {
+        // Given
+        int orders = 400;
+        List<List<Long>> requests = requests(orders);
+        requests.set(7, List.of(bookIds.get(0), 999_999_999L));   // 한 주문만 잘못된 도서
+
+        // When
+        statistics.clear();
+        List<Future<Order>> results = run(16, requests, groupCommitter::createOrder);
+        long commits = statistics.getSuccessfulTransactionCount();
+
+        // Then
+        int succeeded = 0;
+        for (int i = 0; i < results.size(); i++) {
+            if (i == 7) {
+                int index = i;
+                assertThatThrownBy(() -> results.get(index).get())
+                        .hasCauseInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("999999999");
+                continue;
+            }
+            Order order = results.get(i).get();
+            assertThat(order.getId()).isNotNull();
+            assertThat(order.getOrderItems()).extracting(item -> item.getBook().getId())
+                    .containsExactlyElementsOf(requests.get(i));
+            succeeded++;
+        }
+        assertThat(succeeded).isEqualTo(orders - 1);
+        assertThat(commits).isLessThan(orders / 2);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("초당 커밋/주문 수 비교 - 주문별 트랜잭션 vs 그룹 커밋")
+    void createOrder_초당커밋수비교() throws Exception {
+        int orders = Integer.getInteger("benchmark.orders", 20_000);
+        int clients = Integer.getInteger("benchmark.clients", 64);
+
+        // 워밍업
+        run(clients, requests(2_000), orderService::createOrder);
+        run(clients, requests(2_000), groupCommitter::createOrder);
+
+        Measurement direct = measure(clients, requests(orders), orderService::createOrder);
+        Measurement grouped = measure(clients, requests(orders), groupCommitter::createOrder);
+
+        System.out.printf("[benchmark] orders=%d, clients=%d%n", orders, clients);
+        System.out.printf("[benchmark] direct : %,.0f orders/s, %,.0f commits/s%n",
+                direct.ordersPerSecond(), direct.commitsPerSecond());
+        System.out.printf("[benchmark] grouped: %,.0f orders/s, %,.0f commits/s (평균 배치 %.1f건)%n",
+                grouped.ordersPerSecond(), grouped.commitsPerSecond(),
+                (double) orders / grouped.commits());
+
+        assertThat(grouped.ordersPerSecond()).isGreaterThan(direct.ordersPerSecond());
+    }
+
+    private Measurement measure(int clients, List<List<Long>> requests, Function<List<Long>, Order> placeOrder)
+            throws Exception {
+        statistics.clear();
+        long start = System.nanoTime();
+        for (Future<Order> result : run(clients, requests, placeOrder)) {
+            result.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long commits = statistics.getSuccessfulTransactionCount();
+        return new Measurement(requests.size() / seconds, commits / seconds, commits);
+    }
+
+    /**
+     * clients개 스레드가 요청을 나눠 동시에 주문 (모든 요청이 끝날 때까지 대기)
+     */
+    private List<Future<Order>> run(int clients, List<List<Long>> requests, Function<List<Long>, Order> placeOrder)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<Order>> results = new ArrayList<>(requests.size());
+            for (List<Long> request : requests) {
+                results.add(executor.submit(() -> placeOrder.apply(request)));
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<List<Long>> requests(int count) {
+        List<List<Long>> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(List.of(bookIds.get(i % BOOK_COUNT), bookIds.get((i * 7 + 3) % BOOK_COUNT)));
+        }
+        return requests;
+    }
+
+    private record Measurement(double ordersPerSecond, double commitsPerSecond, long commits) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.spring.benchmark;
+
+import com.example.spring.dto.response.OrderResponse;
+import com.example.spring.entity.Book;
+import com.example.spring.entity.Order;
+import com.example.spring.entity.OrderItem;
+import com.example.spring.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 목록 조회 벤치마크
+ * - 기존 엔티티 조회 후 지연 로딩으로 아이템/도서를 읽는 방식과 DTO 조회(주문 + 아이템 IN 쿼리)를 비교
+ * - 결과 동일성과 쿼리 수 검증은 항상 실행, 페이지당 소요 시간 측정은 benchmark 프로파일에서만 실행
+ *   (./mvnw test -Pbenchmark -Dbenchmark.orders=5000)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+@ActiveProfiles("test")
+@DisplayName("주문 목록 조회 벤치마크")
+class OrderListingBenchmarkTest {
+
+    private static final int DEFAULT_ORDER_COUNT = 200;
+    private static final int BOOK_COUNT = 100;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Statistics statistics;
+    private int orderCount;
+
+    @BeforeEach
+    void setUp() {
+        orderCount = Integer.getInteger("benchmark.orders", DEFAULT_ORDER_COUNT);
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < BOOK_COUNT; i++) {
+            Book book = Book.builder()
+                    .title("Book " + i)
+                    .author("Author " + (i % 10))
+                    .isbn(String.format("979%010d", i))
+                    .price(new BigDecimal(10_000 + i * 100))
+                    .available(true)
+                    .createdDate(LocalDateTime.now())
+                    .build();
+            em.persist(book);
+            books.add(book);
+        }
+        for (int i = 0; i < orderCount; i++) {
+            Order order = Order.builder()
+                    .totalAmount(BigDecimal.ZERO)
+                    .orderDate(LocalDateTime.now().minusMinutes(orderCount - i))
+                    .build();
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                Book book = books.get((i * ITEMS_PER_ORDER + j) % BOOK_COUNT);
+                order.addOrderItem(OrderItem.builder().book(book).quantity(1 + j).price(book.getPrice()).build());
+            }
+            em.persist(order);
+            if (i % 500 == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("DTO 조회 결과가 엔티티 조회 후 변환한 결과와 같고, 쿼리 수는 페이지 크기와 무관")
+    void findOrderResponses_엔티티변환결과와동일_쿼리2회() {
+        Pageable pageable = PageRequest.of(1, 20);
+
+        statistics.clear();
+        List<OrderResponse> legacy = entityListing(pageable);
+        long legacyQueries = statistics.getPrepareStatementCount();
+        em.clear();
+
+        statistics.clear();
+        List<OrderResponse> projected = orderRepository.findOrderResponses(pageable);
+        long projectedQueries = statistics.getPrepareStatementCount();
+
+        assertThat(projected)
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(legacy);
+        assertThat(projectedQueries).isEqualTo(2);
+        // 기존 방식: 주문 1 + 주문별 아이템 20 + 도서 지연 로딩
+        assertThat(legacyQueries).isGreaterThan(pageable.getPageSize());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("페이지당 소요 시간 비교 - 엔티티 지연 로딩 vs DTO 조회")
+    void findOrderResponses_페이지당소요시간비교() {
+        Pageable pageable = PageRequest.of(0, 100);
+        int iterations = 100;
+
+        long entityNanos = nanosPerPage(iterations, () -> entityListing(pageable));
+        long projectionNanos = nanosPerPage(iterations, () -> orderRepository.findOrderResponses(pageable));
+
+        System.out.printf("[benchmark] orders=%d, page=%d, entity=%.2f ms/page, projection=%.2f ms/page%n",
+                orderCount, pageable.getPageSize(), entityNanos / 1e6, projectionNanos / 1e6);
+
+        assertThat(projectionNanos).isLessThan(entityNanos);
+    }
+
+    /**
+     * 기존 GET /api/orders 경로 (엔티티 조회 후 직렬화 시 아이템/도서 지연 로딩)
+     */
+    private List<OrderResponse> entityListing(Pageable pageable) {
+        return em.createQuery("SELECT o FROM Order o ORDER BY o.id DESC", Order.class)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList()
+                .stream()
+                .map(OrderResponse::from)
+                .toList();
+    }
+
+    private long nanosPerPage(int iterations, Supplier<List<OrderResponse>> listing) {
+        // 워밍업 (쿼리 계획 캐시, JIT)
+        for (int i = 0; i < 10; i++) {
+            listing.get();
+            em.clear();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            listing.get();
+            em.clear();
+        }
+        return (System.nanoTime() - start) / iterations;
+    }
+}
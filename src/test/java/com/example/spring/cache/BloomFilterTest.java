@@ -0,0 +1,89 @@
+package com.example.spring.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 양성 (미탐 없음)")
+    void mightContain_넣은값_항상true() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("member" + i + "@example.com");
+        }
+
+        // When & Then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("member" + i + "@example.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("넣지 않은 값의 오탐률이 목표치 근처")
+    void mightContain_넣지않은값_오탐률목표이내() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(String.format("978%010d", i));
+        }
+
+        // When
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(String.format("979%010d", i))) {
+                falsePositives++;
+            }
+        }
+
+        // Then - 목표 1%, 해시 편차를 고려해 2배까지 허용
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("예상 원소 수를 넘으면 포화 상태")
+    void isSaturated_예상원소수초과_true() {
+        // Given
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            filter.put("key" + i);
+        }
+        boolean beforeOverflow = filter.isSaturated();
+        filter.put("key" + 100);
+
+        // Then
+        assertThat(beforeOverflow).isFalse();
+        assertThat(filter.isSaturated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 값을 다시 넣으면 원소 수가 늘지 않음")
+    void put_중복값_원소수유지() {
+        // Given
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        // When
+        boolean first = filter.put("hong@example.com");
+        boolean second = filter.put("hong@example.com");
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(filter.approximateSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잘못된 오탐률이면 예외")
+    void constructor_잘못된오탐률_예외발생() {
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
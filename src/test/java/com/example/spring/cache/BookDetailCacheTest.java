@@ -0,0 +1,132 @@
+package com.example.spring.cache;
+
+import com.example.spring.dto.response.BookResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BookDetailCache 테스트")
+class BookDetailCacheTest {
+
+    private BookDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BookDetailCache(new ConcurrentMapCacheManager(), new SingleFlight(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("조회 결과가 없으면 캐시하지 않음")
+    void getById_결과없음_캐시하지않음() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.getById(1L, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        cache.getById(1L, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("ISBN이 바뀐 도서는 이전 ISBN 보조 키로 조회되지 않음")
+    void getByIsbn_ISBN변경_이전ISBN미적중() {
+        // Given - ID 항목만 새 ISBN으로 갱신된 상태
+        cache.put(response(1L, "9780132350884"));
+        cache.put(response(1L, "9780134685991"));
+
+        // When
+        Optional<BookResponse> result = cache.getByIsbn("9780132350884", isbn -> Optional.empty());
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(cache.getByIsbn("9780134685991", isbn -> Optional.empty()))
+                .get().extracting(BookResponse::getId).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("조회 중 커밋된 변경으로 무효화되면 조회한 값을 캐시에 남기지 않음")
+    void getById_조회중무효화_오래된값저장안함() {
+        // Given - 커밋 전 값을 읽은 뒤, 저장하기 전에 커밋 후 무효화가 먼저 실행됨
+        BookResponse stale = response(1L, "9780132350884");
+
+        // When
+        cache.getById(1L, id -> {
+            cache.evict(1L, "9780132350884");
+            return Optional.of(stale);
+        });
+
+        // Then - 다음 조회는 다시 DB에서 읽음
+        AtomicInteger loads = new AtomicInteger();
+        cache.getById(1L, id -> {
+            loads.incrementAndGet();
+            return Optional.of(response(1L, "9780132350884"));
+        });
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("ISBN 조회 중 ISBN이 바뀐 변경이 커밋되면 이전 값을 캐시에 남기지 않음")
+    void getByIsbn_조회중ISBN변경_오래된값저장안함() {
+        // Given - 이전 ISBN으로 읽는 사이 새 ISBN으로 바뀐 변경이 커밋됨 (이벤트에는 새 ISBN만 있음)
+        BookResponse stale = response(1L, "9780132350884");
+
+        // When
+        cache.getByIsbn("9780132350884", isbn -> {
+            cache.evict(1L, "9780134685991");
+            return Optional.of(stale);
+        });
+
+        // Then
+        AtomicInteger loads = new AtomicInteger();
+        cache.getById(1L, id -> {
+            loads.incrementAndGet();
+            return Optional.of(response(1L, "9780134685991"));
+        });
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조회 후 무효화가 없으면 저장한 값으로 적중")
+    void getById_무효화없음_캐시적중() {
+        // Given
+        cache.getById(1L, id -> Optional.of(response(1L, "9780132350884")));
+
+        // When
+        AtomicInteger loads = new AtomicInteger();
+        Optional<BookResponse> result = cache.getById(1L, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(loads).hasValue(0);
+    }
+
+    private static BookResponse response(Long id, String isbn) {
+        return BookResponse.builder()
+                .id(id)
+                .title("Clean Code")
+                .author("Robert C. Martin")
+                .isbn(isbn)
+                .price(new BigDecimal("45.99"))
+                .available(true)
+                .build();
+    }
+}
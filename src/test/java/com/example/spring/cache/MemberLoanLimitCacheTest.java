@@ -0,0 +1,65 @@
+package com.example.spring.cache;
+
+import com.example.spring.dto.response.MemberLoanLimitInfo;
+import com.example.spring.entity.MembershipType;
+import com.example.spring.event.LoanChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MemberLoanLimitCache 테스트")
+class MemberLoanLimitCacheTest {
+
+    private MemberLoanLimitCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MemberLoanLimitCache(new ConcurrentMapCacheManager());
+    }
+
+    @Test
+    @DisplayName("반복 조회는 캐시에서 반환")
+    void get_반복조회_캐시적중() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return info(id, 2);
+        });
+        MemberLoanLimitInfo result = cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return info(id, 3);
+        });
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(result.getCurrentLoanCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("권수를 세는 중 대여가 커밋되면 센 값을 캐시에 남기지 않음")
+    void get_조회중대여커밋_오래된권수저장안함() {
+        // Given - 커밋 전 권수를 센 뒤, 저장하기 전에 커밋 후 무효화가 먼저 실행됨
+        cache.get(1L, id -> {
+            cache.onLoanChanged(new LoanChangedEvent(10L, id));
+            return info(id, 2);
+        });
+
+        // When
+        MemberLoanLimitInfo result = cache.get(1L, id -> info(id, 3));
+
+        // Then - 다음 조회는 커밋된 권수를 다시 셈
+        assertThat(result.getCurrentLoanCount()).isEqualTo(3);
+    }
+
+    private static MemberLoanLimitInfo info(Long memberId, int currentLoanCount) {
+        return MemberLoanLimitInfo.of(memberId, "홍길동", MembershipType.REGULAR, currentLoanCount);
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.spring.cache;
+
+import com.example.spring.entity.Order;
+import com.example.spring.exception.IdempotencyKeyReusedException;
+import com.example.spring.exception.InvalidIdempotencyKeyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderIdempotencyStore 테스트")
+class OrderIdempotencyStoreTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderIdempotencyStore store;
+    private AtomicLong nextOrderId;
+    private AtomicInteger created;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new OrderIdempotencyStore(new ConcurrentMapCacheManager(), meterRegistry);
+        nextOrderId = new AtomicLong(1);
+        created = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 키의 재요청은 주문을 다시 만들지 않고 처음 주문을 반환")
+    void execute_같은키재요청_이전주문반환() {
+        // Given
+        OrderIdempotencyStore.Result first = store.execute("key-1", List.of(1L, 2L), this::createOrder, this::loadOrder);
+
+        // When
+        OrderIdempotencyStore.Result second = store.execute("key-1", List.of(1L, 2L), this::createOrder, this::loadOrder);
+
+        // Then
+        assertThat(first.replayed()).isFalse();
+        assertThat(second.replayed()).isTrue();
+        assertThat(second.order().getId()).isEqualTo(first.order().getId());
+        assertThat(created).hasValue(1);
+        assertThat(count("executed")).isEqualTo(1);
+        assertThat(count("replayed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 키는 각각 주문 생성")
+    void execute_다른키_각각생성() {
+        // When
+        OrderIdempotencyStore.Result first = store.execute("key-1", List.of(1L), this::createOrder, this::loadOrder);
+        OrderIdempotencyStore.Result second = store.execute("key-2", List.of(1L), this::createOrder, this::loadOrder);
+
+        // Then
+        assertThat(second.order().getId()).isNotEqualTo(first.order().getId());
+        assertThat(created).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청 본문을 보내면 예외")
+    void execute_같은키다른본문_예외() {
+        // Given
+        store.execute("key-1", List.of(1L), this::createOrder, this::loadOrder);
+
+        // When & Then
+        assertThatThrownBy(() -> store.execute("key-1", List.of(2L), this::createOrder, this::loadOrder))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThat(created).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("해시 값이 같은 다른 요청 본문도 예외 (다른 주문을 재생하지 않음)")
+    void execute_해시충돌본문_예외() {
+        // Given
+        assertThat(List.of(0L, 32L).hashCode()).isEqualTo(List.of(1L, 1L).hashCode());
+        store.execute("key-1", List.of(0L, 32L), this::createOrder, this::loadOrder);
+
+        // When & Then
+        assertThatThrownBy(() -> store.execute("key-1", List.of(1L, 1L), this::createOrder, this::loadOrder))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThat(created).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("빈 키나 너무 긴 키는 예외")
+    void execute_잘못된키_예외() {
+        assertThatThrownBy(() -> store.execute(" ", List.of(1L), this::createOrder, this::loadOrder))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+        assertThatThrownBy(() -> store.execute("k".repeat(256), List.of(1L), this::createOrder, this::loadOrder))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+        assertThat(created).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("주문 생성에 실패하면 저장하지 않아 같은 키로 다시 시도 가능")
+    void execute_생성실패_재시도가능() {
+        // Given
+        assertThatThrownBy(() -> store.execute("key-1", List.of(1L),
+                () -> { throw new IllegalArgumentException("유효한 도서가 없습니다"); }, this::loadOrder))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // When
+        OrderIdempotencyStore.Result retried = store.execute("key-1", List.of(1L), this::createOrder, this::loadOrder);
+
+        // Then
+        assertThat(retried.replayed()).isFalse();
+        assertThat(created).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 먼저 온 요청을 기다려 주문을 한 번만 생성")
+    void execute_동시요청_한번만생성() throws Exception {
+        // Given
+        int threads = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            // When
+            List<Future<OrderIdempotencyStore.Result>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> store.execute("key-1", List.of(1L), () -> {
+                    await(release);
+                    return createOrder();
+                }, this::loadOrder)));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            // Then - 먼저 온 요청이 끝나기 전에 온 요청은 대기(joined), 끝난 뒤 온 요청은 재반환(replayed)
+            List<Long> orderIds = new ArrayList<>();
+            int replayed = 0;
+            for (Future<OrderIdempotencyStore.Result> future : results) {
+                OrderIdempotencyStore.Result result = future.get(5, TimeUnit.SECONDS);
+                orderIds.add(result.order().getId());
+                replayed += result.replayed() ? 1 : 0;
+            }
+            assertThat(created).hasValue(1);
+            assertThat(orderIds).containsOnly(1L);
+            assertThat(replayed).isEqualTo(threads - 1);
+            assertThat(count("joined") + count("replayed")).isEqualTo(threads - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Order createOrder() {
+        created.incrementAndGet();
+        return Order.builder()
+                .id(nextOrderId.getAndIncrement())
+                .totalAmount(new BigDecimal("10000"))
+                .build();
+    }
+
+    private Order loadOrder(Long id) {
+        return Order.builder().id(id).totalAmount(new BigDecimal("10000")).build();
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("idempotency.requests", "result", result).count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
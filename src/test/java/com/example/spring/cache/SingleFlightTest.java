@@ -0,0 +1,104 @@
+package com.example.spring.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 조회는 한 번만 실행하고 결과를 공유")
+    void execute_동시조회_한번만실행() throws Exception {
+        // Given
+        int threads = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            // When
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("book", 1L, () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "Clean Code";
+                })));
+            }
+            // 나머지 요청이 모두 진행 중인 조회에 합류할 때까지 대기
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (count("collapsed") < threads - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            // Then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Clean Code");
+            }
+            assertThat(loads).hasValue(1);
+            assertThat(count("executed")).isEqualTo(1);
+            assertThat(count("collapsed")).isEqualTo(threads - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("조회가 끝난 뒤의 요청은 새로 실행")
+    void execute_순차조회_매번실행() {
+        // When
+        singleFlight.execute("book", 1L, () -> "first");
+        String second = singleFlight.execute("book", 1L, () -> "second");
+
+        // Then
+        assertThat(second).isEqualTo("second");
+        assertThat(count("executed")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 중 예외는 호출자에게 그대로 전달")
+    void execute_조회예외_예외전파() {
+        // When & Then
+        assertThatThrownBy(() -> singleFlight.execute("book", 1L, () -> {
+            throw new IllegalStateException("DB 오류");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("DB 오류");
+
+        assertThat(singleFlight.execute("book", 1L, () -> "recovered")).isEqualTo("recovered");
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("singleflight.loads", "name", "book", "result", result).count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
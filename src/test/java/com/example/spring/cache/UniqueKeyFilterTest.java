@@ -0,0 +1,98 @@
+package com.example.spring.cache;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.entity.Member;
+import com.example.spring.event.MemberRegisteredEvent;
+import com.example.spring.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("UniqueKeyFilter 테스트")
+class UniqueKeyFilterTest {
+
+    private MemberRepository memberRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private EmailFilter emailFilter;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        emailFilter = new EmailFilter(memberRepository, new BookstoreProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("구축 전에는 모든 키가 양성 (DB로 확인)")
+    void mightContain_구축전_항상true() {
+        assertThat(emailFilter.isBuilt()).isFalse();
+        assertThat(emailFilter.mightContain("anyone@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("기동 시 DB 키로 구축 후 없는 키는 음성")
+    void buildOnStartup_DB키로구축_없는키음성() {
+        // Given
+        givenEmails("hong@example.com", "kim@example.com");
+
+        // When
+        emailFilter.buildOnStartup();
+
+        // Then
+        assertThat(emailFilter.mightContain("hong@example.com")).isTrue();
+        assertThat(emailFilter.mightContain("HONG@example.com")).isTrue();
+        assertThat(emailFilter.mightContain("new@example.com")).isFalse();
+        assertThat(meterRegistry.counter("uniqueness.filter.checks",
+                "name", "email", "result", "negative").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("구축 후 가입한 회원의 이메일은 양성")
+    void onMemberRegistered_가입이벤트_필터반영() {
+        // Given
+        givenEmails("hong@example.com");
+        emailFilter.rebuild();
+
+        // When
+        emailFilter.onMemberRegistered(new MemberRegisteredEvent(
+                Member.builder().email("new@example.com").name("신규").build()));
+
+        // Then
+        assertThat(emailFilter.mightContain("new@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("구축 실패 시 구축 전 상태를 유지하고 기동은 계속")
+    void buildOnStartup_DB오류_구축전상태유지() {
+        // Given
+        given(memberRepository.countAll()).willThrow(new IllegalStateException("DB 연결 실패"));
+
+        // When
+        emailFilter.buildOnStartup();
+
+        // Then
+        assertThat(emailFilter.isBuilt()).isFalse();
+        assertThat(emailFilter.mightContain("new@example.com")).isTrue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenEmails(String... emails) {
+        given(memberRepository.countAll()).willReturn((long) emails.length);
+        willAnswer(invocation -> {
+            Consumer<String> sink = invocation.getArgument(1);
+            List.of(emails).forEach(sink);
+            return null;
+        }).given(memberRepository).forEachEmail(anyInt(), any(Consumer.class));
+    }
+}
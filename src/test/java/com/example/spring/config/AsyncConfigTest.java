@@ -0,0 +1,87 @@
+package com.example.spring.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AsyncConfig 테스트")
+class AsyncConfigTest {
+
+    private static final int BURST = 1_000;
+
+    private BookstoreProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BookstoreProperties();
+    }
+
+    @Test
+    @DisplayName("PLATFORM 모드 - 스레드 수와 큐 크기를 넘는 블로킹 작업은 거부")
+    void emailTaskExecutor_PLATFORM_버스트거부() throws Exception {
+        // Given
+        Executor executor = new AsyncConfig().emailTaskExecutor(properties);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            // When & Then - 최대 5 스레드 + 큐 100
+            assertThat(executor).isInstanceOf(ThreadPoolTaskExecutor.class);
+            assertThatThrownBy(() -> {
+                for (int i = 0; i < BURST; i++) {
+                    executor.execute(() -> await(release));
+                }
+            }).isInstanceOf(TaskRejectedException.class);
+        } finally {
+            release.countDown();
+            ((ThreadPoolTaskExecutor) executor).shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("VIRTUAL 모드 - 블로킹 작업 버스트를 거부 없이 가상 스레드에서 동시 실행")
+    void emailTaskExecutor_VIRTUAL_버스트전부동시실행() throws Exception {
+        // Given
+        properties.getAsync().setMode(BookstoreProperties.Async.ExecutorMode.VIRTUAL);
+        Executor executor = new AsyncConfig().emailTaskExecutor(properties);
+        CountDownLatch started = new CountDownLatch(BURST);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger virtualThreads = new AtomicInteger();
+
+        // When - 모든 작업이 동시에 대기 상태여야 started가 0이 됨
+        for (int i = 0; i < BURST; i++) {
+            executor.execute(() -> {
+                if (Thread.currentThread().isVirtual()) {
+                    virtualThreads.incrementAndGet();
+                }
+                started.countDown();
+                await(release);
+            });
+        }
+        boolean allStarted = started.await(10, TimeUnit.SECONDS);
+        release.countDown();
+
+        // Then
+        assertThat(executor).isInstanceOf(SimpleAsyncTaskExecutor.class);
+        assertThat(allStarted).isTrue();
+        assertThat(virtualThreads.get()).isEqualTo(BURST);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
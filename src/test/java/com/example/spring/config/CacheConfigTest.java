@@ -0,0 +1,75 @@
+package com.example.spring.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheConfig 테스트")
+class CacheConfigTest {
+
+    private BookstoreProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BookstoreProperties();
+        properties.getCache().setDefaultSpec(new BookstoreProperties.Cache.Spec(5L, Duration.ofMinutes(1)));
+        properties.getCache().getSpecs().put("members", new BookstoreProperties.Cache.Spec(2L, null));
+    }
+
+    @Test
+    @DisplayName("캐시별 최대 크기를 적용하고 누락 항목은 기본값 사용")
+    void cacheManager_캐시별설정_크기및만료적용() {
+        // When
+        CacheManager cacheManager = new CacheConfig().cacheManager(properties);
+        Cache<Object, Object> members = nativeCache(cacheManager, "members");
+
+        // Then
+        assertThat(cacheManager.getCacheNames()).contains("members");
+        assertThat(members.policy().eviction().orElseThrow().getMaximum()).isEqualTo(2L);
+        assertThat(members.policy().expireAfterWrite().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 제거되고 적중/미스/제거 통계 기록")
+    void cacheManager_크기초과_제거및통계기록() {
+        // Given
+        CacheManager cacheManager = new CacheConfig().cacheManager(properties);
+        org.springframework.cache.Cache members = cacheManager.getCache("members");
+
+        // When
+        for (long id = 1; id <= 10; id++) {
+            members.put(id, "member-" + id);
+        }
+        members.get(999L);
+        Cache<Object, Object> nativeCache = nativeCache(cacheManager, "members");
+        nativeCache.cleanUp();
+
+        // Then
+        assertThat(nativeCache.estimatedSize()).isLessThanOrEqualTo(2L);
+        assertThat(nativeCache.stats().missCount()).isEqualTo(1L);
+        assertThat(nativeCache.stats().evictionCount()).isGreaterThanOrEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("설정에 없는 캐시도 기본 크기로 제한")
+    void cacheManager_미등록캐시_기본설정적용() {
+        // When
+        CacheManager cacheManager = new CacheConfig().cacheManager(properties);
+
+        // Then
+        assertThat(nativeCache(cacheManager, "unknown").policy().eviction().orElseThrow().getMaximum())
+                .isEqualTo(5L);
+    }
+
+    private static Cache<Object, Object> nativeCache(CacheManager cacheManager, String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+}
@@ -5,6 +5,7 @@ import com.example.spring.dto.request.UpdateBookRequest;
 import com.example.spring.dto.response.BookResponse;
 import com.example.spring.entity.Book;
 import com.example.spring.service.BookService;
+import com.example.spring.statistics.BookCounts;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -183,7 +184,7 @@ class BookControllerTest {
         @DisplayName("ISBN으로 도서 조회 성공")
         void getBookByIsbn_존재하는ISBN_조회성공() throws Exception {
             // Given
-            given(bookService.getBookByIsbn("9780132350884")).willReturn(Optional.of(testBook));
+            given(bookService.getBookByIsbn("9780132350884")).willReturn(Optional.of(BookResponse.from(testBook)));
 
             // When & Then
             mockMvc.perform(get("/api/books/isbn/9780132350884"))
@@ -199,8 +200,8 @@ class BookControllerTest {
         @DisplayName("활성 도서 목록 조회 (페이징)")
         void getAllActiveBooks_페이징_조회성공() throws Exception {
             // Given
-            List<Book> books = List.of(testBook);
-            Page<Book> bookPage = new PageImpl<>(books, PageRequest.of(0, 10), 1);
+            List<BookResponse> books = List.of(BookResponse.from(testBook));
+            Page<BookResponse> bookPage = new PageImpl<>(books, PageRequest.of(0, 10), 1);
             given(bookService.getAllActiveBooks(any(Pageable.class))).willReturn(bookPage);
 
             // When & Then
@@ -278,8 +279,8 @@ class BookControllerTest {
         @DisplayName("제목으로 검색 성공")
         void searchByTitle_유효한제목_검색성공() throws Exception {
             // Given
-            List<Book> books = List.of(testBook);
-            given(bookService.searchByTitle("Clean")).willReturn(books);
+            List<BookResponse> books = List.of(BookResponse.from(testBook));
+            given(bookService.searchByTitle("Clean", 50)).willReturn(books);
 
             // When & Then
             mockMvc.perform(get("/api/books/search/title")
@@ -289,15 +290,15 @@ class BookControllerTest {
                     .andExpect(jsonPath("$").isArray())
                     .andExpect(jsonPath("$[0].title").value("Clean Code"));
 
-            verify(bookService).searchByTitle("Clean");
+            verify(bookService).searchByTitle("Clean", 50);
         }
 
         @Test
         @DisplayName("저자로 검색 성공")
         void searchByAuthor_유효한저자_검색성공() throws Exception {
             // Given
-            List<Book> books = List.of(testBook);
-            given(bookService.searchByAuthor("Martin")).willReturn(books);
+            List<BookResponse> books = List.of(BookResponse.from(testBook));
+            given(bookService.searchByAuthor("Martin", 50)).willReturn(books);
 
             // When & Then
             mockMvc.perform(get("/api/books/search/author")
@@ -307,15 +308,15 @@ class BookControllerTest {
                     .andExpect(jsonPath("$").isArray())
                     .andExpect(jsonPath("$[0].author").value("Robert C. Martin"));
 
-            verify(bookService).searchByAuthor("Martin");
+            verify(bookService).searchByAuthor("Martin", 50);
         }
 
         @Test
         @DisplayName("복합 조건 검색 (Stream 버전 - 페이징)")
         void searchBooksWithFilters_복합조건_검색성공() throws Exception {
             // Given
-            List<Book> books = List.of(testBook);
-            Page<Book> bookPage = new PageImpl<>(books, PageRequest.of(0, 10), 1);
+            List<BookResponse> books = List.of(BookResponse.from(testBook));
+            Page<BookResponse> bookPage = new PageImpl<>(books, PageRequest.of(0, 10), 1);
             given(bookService.searchBooksWithFilters(
                     eq("Clean"), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)
             )).willReturn(bookPage);
@@ -339,8 +340,8 @@ class BookControllerTest {
         @DisplayName("복합 조건 검색 (JPQL Query 버전 - 페이징)")
         void searchBooksWithQueryFilters_복합조건_검색성공() throws Exception {
             // Given
-            List<Book> books = List.of(testBook);
-            Page<Book> bookPage = new PageImpl<>(books, PageRequest.of(0, 10), 1);
+            List<BookResponse> books = List.of(BookResponse.from(testBook));
+            Page<BookResponse> bookPage = new PageImpl<>(books, PageRequest.of(0, 10), 1);
             given(bookService.searchBooksWithQueryFilters(
                     eq("Clean"), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)
             )).willReturn(bookPage);
@@ -396,7 +397,7 @@ class BookControllerTest {
         @DisplayName("재고 상태별 도서 조회")
         void getBooksByAvailability_재고상태_조회성공() throws Exception {
             // Given
-            List<Book> availableBooks = List.of(testBook);
+            List<BookResponse> availableBooks = List.of(BookResponse.from(testBook));
             given(bookService.getBooksByAvailability(true)).willReturn(availableBooks);
 
             // When & Then
@@ -418,8 +419,7 @@ class BookControllerTest {
         @DisplayName("도서 통계 조회")
         void getBookStatistics_통계조회_성공() throws Exception {
             // Given
-            given(bookService.getTotalBooksCount()).willReturn(10L);
-            given(bookService.getActiveBooksCount()).willReturn(8L);
+            given(bookService.getBookCounts()).willReturn(new BookCounts(10L, 8L, 5L));
 
             // When & Then
             mockMvc.perform(get("/api/books/statistics"))
@@ -427,10 +427,10 @@ class BookControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.totalBooks").value(10))
                     .andExpect(jsonPath("$.activeBooks").value(8))
-                    .andExpect(jsonPath("$.deletedBooks").value(2));
+                    .andExpect(jsonPath("$.deletedBooks").value(2))
+                    .andExpect(jsonPath("$.availableBooks").value(5));
 
-            verify(bookService).getTotalBooksCount();
-            verify(bookService).getActiveBooksCount();
+            verify(bookService).getBookCounts();
         }
 
         @Test
@@ -0,0 +1,117 @@
+package com.example.spring.exporter;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.entity.Book;
+import com.example.spring.repository.BookRepository;
+import com.example.spring.repository.impl.JpaBookRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(JpaBookRepository.class)
+@ActiveProfiles("test")
+@DisplayName("BookExportService 통합 테스트")
+class BookExportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private BookExportService bookExportService;
+
+    @BeforeEach
+    void setUp() {
+        BookstoreProperties properties = new BookstoreProperties();
+        properties.getCatalogExport().setFetchSize(2); // 여러 번 영속성 컨텍스트를 비우도록 작게 설정
+        bookExportService = new BookExportService(bookRepository, objectMapper, transactionManager, properties);
+
+        persist("Clean Code, 2nd Edition", "Robert \"Uncle Bob\" Martin", "9780132350884", false);
+        persist("Effective Java", "Joshua Bloch", "9780134685991", false);
+        persist("Deleted Book", "Nobody", "9781617294945", true);
+        persist("Refactoring", "Martin Fowler", "9780134757599", false);
+        persist("자바의 정석", "남궁성", "9788994492032", false);
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("CSV - 헤더와 활성 도서를 ID 순으로 출력, 특수문자 이스케이프")
+    void export_CSV_활성도서ID순출력() {
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count = bookExportService.export(BookExportFormat.CSV, output);
+
+        // Then
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(count).isEqualTo(4);
+        assertThat(lines).hasSize(5);
+        assertThat(lines.get(0)).startsWith("id,title,author,isbn,price,available");
+        assertThat(lines.get(1)).contains(",\"Clean Code, 2nd Edition\",\"Robert \"\"Uncle Bob\"\" Martin\",9780132350884,45.99,true,");
+        assertThat(lines.get(4)).contains(",자바의 정석,남궁성,9788994492032,");
+        assertThat(lines).noneMatch(line -> line.contains("Deleted Book"));
+    }
+
+    @Test
+    @DisplayName("NDJSON - 한 줄에 도서 하나씩 JSON 객체로 출력")
+    void export_NDJSON_한줄에하나씩출력() throws Exception {
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        bookExportService.export(BookExportFormat.NDJSON, output);
+
+        // Then
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(4);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("title").asText()).isEqualTo("Clean Code, 2nd Edition");
+        assertThat(first.get("isbn").asText()).isEqualTo("9780132350884");
+        assertThat(objectMapper.readTree(lines.get(3)).get("title").asText()).isEqualTo("자바의 정석");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식은 예외")
+    void from_지원하지않는형식_예외발생() {
+        assertThat(BookExportFormat.from("CSV")).isEqualTo(BookExportFormat.CSV);
+        assertThatThrownBy(() -> BookExportFormat.from("xml"))
+                .hasMessageContaining("xml");
+    }
+
+    private void persist(String title, String author, String isbn, boolean deleted) {
+        Book book = Book.builder()
+                .title(title)
+                .author(author)
+                .isbn(isbn)
+                .price(new BigDecimal("45.99"))
+                .available(true)
+                .createdDate(LocalDateTime.now())
+                .build();
+        if (deleted) {
+            book.markAsDeleted();
+        }
+        entityManager.persistAndFlush(book);
+    }
+}
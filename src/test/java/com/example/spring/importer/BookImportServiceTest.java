@@ -0,0 +1,156 @@
+package com.example.spring.importer;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.entity.Book;
+import com.example.spring.event.BookChangedEvent;
+import com.example.spring.repository.BookRepository;
+import com.example.spring.repository.impl.JpaBookRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import(JpaBookRepository.class)
+@ActiveProfiles("test")
+@DisplayName("BookImportService 통합 테스트")
+class BookImportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ApplicationEventPublisher eventPublisher;
+    private BookstoreProperties properties;
+    private BookImportService bookImportService;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        properties = new BookstoreProperties();
+        properties.getCatalogImport().setChunkSize(2);
+        bookImportService = new BookImportService(bookRepository, eventPublisher,
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionManager, properties);
+
+        entityManager.persistAndFlush(Book.builder()
+                .title("Clean Code")
+                .author("Robert C. Martin")
+                .isbn("9780132350884")
+                .price(new BigDecimal("45.99"))
+                .createdDate(LocalDateTime.now())
+                .build());
+        entityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("CSV 가져오기")
+    class CsvImportTest {
+
+        @Test
+        @DisplayName("유효한 행만 저장하고 실패 행은 줄 번호와 사유를 리포트")
+        void importBooks_일부오류_유효행저장및오류리포트() {
+            // Given - 청크 크기 2: 파일 내 중복은 다른 청크에 있어도 DB 조회로 걸러짐
+            String csv = """
+                    title,author,isbn,price,available
+                    Effective Java,Joshua Bloch,9780134685991,52.99,true
+                    Clean Code,Robert C. Martin,9780132350884,45.99,true
+                    ,No Title,9781617294945,39.99,
+                    Refactoring,Martin Fowler,9780134757599,47.99,false
+                    Effective Java 3rd,Joshua Bloch,9780134685991,55.00,true
+                    """;
+
+            // When
+            BookImportReport report = bookImportService.importBooks(stream(csv), BookImportFormat.CSV);
+
+            // Then
+            assertThat(report.getTotalRows()).isEqualTo(5);
+            assertThat(report.getImportedCount()).isEqualTo(2);
+            assertThat(report.getFailedCount()).isEqualTo(3);
+            assertThat(report.getErrors())
+                    .extracting(BookImportReport.RowError::lineNumber)
+                    .containsExactlyInAnyOrder(3L, 4L, 6L);
+            assertThat(report.getErrors())
+                    .filteredOn(error -> error.lineNumber() == 3)
+                    .extracting(BookImportReport.RowError::message)
+                    .containsExactly("이미 존재하는 ISBN입니다: 9780132350884");
+
+            assertThat(bookRepository.findByIsbn("9780134757599"))
+                    .hasValueSatisfying(book -> assertThat(book.getAvailable()).isFalse());
+            assertThat(bookRepository.findByIsbn("9780134685991"))
+                    .hasValueSatisfying(book -> assertThat(book.getTitle()).isEqualTo("Effective Java"));
+            verify(eventPublisher, times(2)).publishEvent(any(BookChangedEvent.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON 가져오기")
+    class NdjsonImportTest {
+
+        @Test
+        @DisplayName("JSON 오류와 ISBN 형식 오류 행은 건너뜀")
+        void importBooks_형식오류행_건너뛰고저장() {
+            // Given
+            String ndjson = """
+                    {"title":"Effective Java","author":"Joshua Bloch","isbn":"9780134685991","price":52.99,"publisher":"AW"}
+                    {"title":"Broken",
+                    {"title":"Bad ISBN","author":"Nobody","isbn":"not-an-isbn","price":10}
+                    """;
+
+            // When
+            BookImportReport report = bookImportService.importBooks(stream(ndjson), BookImportFormat.NDJSON);
+
+            // Then
+            assertThat(report.getImportedCount()).isEqualTo(1);
+            assertThat(report.getFailedCount()).isEqualTo(2);
+            assertThat(report.getErrors()).extracting(BookImportReport.RowError::message)
+                    .anySatisfy(message -> assertThat(message).startsWith("JSON 형식이 올바르지 않습니다"))
+                    .contains("올바른 ISBN 형식이 아닙니다");
+            assertThat(bookRepository.existsByIsbn("9780134685991")).isTrue();
+        }
+
+        @Test
+        @DisplayName("리포트 오류 개수 상한을 넘으면 잘림 표시")
+        void importBooks_오류상한초과_리포트잘림() {
+            // Given
+            properties.getCatalogImport().setMaxReportedErrors(1);
+            String ndjson = "{\n{\n{\n";
+
+            // When
+            BookImportReport report = bookImportService.importBooks(stream(ndjson), BookImportFormat.NDJSON);
+
+            // Then
+            assertThat(report.getFailedCount()).isEqualTo(3);
+            assertThat(report.getErrors()).hasSize(1);
+            assertThat(report.isErrorsTruncated()).isTrue();
+        }
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.spring.importer;
+
+import com.example.spring.exception.BookException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CsvBookImportReader 테스트")
+class CsvBookImportReaderTest {
+
+    @Test
+    @DisplayName("따옴표로 감싼 필드의 쉼표와 이스케이프된 따옴표 처리")
+    void split_따옴표필드_쉼표와따옴표보존() {
+        List<String> fields = CsvBookImportReader.split("\"Clean Code, 2nd\", \"Say \"\"Hi\"\"\" , 45.99");
+
+        assertThat(fields).containsExactly("Clean Code, 2nd", "Say \"Hi\"", "45.99");
+    }
+
+    @Test
+    @DisplayName("헤더 순서와 무관하게 컬럼 매핑, 청크 크기만큼만 읽음")
+    void nextChunk_헤더순서무관_청크단위읽기() {
+        CsvBookImportReader reader = reader("""
+                isbn,price,title,author
+                9780132350884,45.99,Clean Code,Robert C. Martin
+
+                9780134685991,52.99,Effective Java,Joshua Bloch
+                9781617294945,abc,Spring in Action,Craig Walls
+                """);
+
+        List<BookImportRow> first = reader.nextChunk(2);
+        List<BookImportRow> second = reader.nextChunk(2);
+
+        assertThat(first).hasSize(2);
+        assertThat(first.get(0).request().getTitle()).isEqualTo("Clean Code");
+        assertThat(first.get(0).request().getPrice()).isEqualByComparingTo(new BigDecimal("45.99"));
+        assertThat(first.get(0).request().getAvailable()).isTrue();
+        assertThat(first.get(1).lineNumber()).isEqualTo(4); // 빈 줄도 줄 번호에 포함
+        assertThat(second).hasSize(1);
+        assertThat(second.get(0).isFailed()).isTrue();
+        assertThat(second.get(0).error()).contains("가격 형식");
+        assertThat(reader.nextChunk(2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("필수 컬럼이 없는 헤더는 예외")
+    void nextChunk_필수컬럼누락_예외발생() {
+        CsvBookImportReader reader = reader("title,author,price\nClean Code,Robert C. Martin,45.99\n");
+
+        assertThatThrownBy(() -> reader.nextChunk(10))
+                .isInstanceOf(BookException.InvalidBookDataException.class)
+                .hasMessageContaining("isbn");
+    }
+
+    @Test
+    @DisplayName("중복된 컬럼이 있는 헤더는 예외")
+    void nextChunk_중복컬럼_예외발생() {
+        CsvBookImportReader reader = reader("title,title,author,isbn,price\nClean Code,Robert C. Martin,9780132350884,45.99\n");
+
+        assertThatThrownBy(() -> reader.nextChunk(10))
+                .isInstanceOf(BookException.InvalidBookDataException.class)
+                .hasMessageContaining("title");
+    }
+
+    @Test
+    @DisplayName("무시하는 컬럼 뒤의 필수 컬럼이 빠진 행은 해당 행만 실패")
+    void nextChunk_뒤쪽컬럼누락_행실패() {
+        CsvBookImportReader reader = reader("""
+                note,title,author,isbn,price
+                x,Clean Code,Robert C. Martin,9780132350884
+                """);
+
+        List<BookImportRow> rows = reader.nextChunk(10);
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).isFailed()).isTrue();
+        assertThat(rows.get(0).error()).contains("기대: 5");
+    }
+
+    @Test
+    @DisplayName("따옴표 안의 줄바꿈은 한 레코드로 읽고, 줄 번호는 레코드 시작 줄")
+    void nextChunk_따옴표안줄바꿈_한레코드() {
+        CsvBookImportReader reader = reader("title,author,isbn,price\n"
+                + "\"Clean Code\nA Handbook\",\"Robert\r\nMartin\",9780132350884,45.99\n"
+                + "Effective Java,Joshua Bloch,9780134685991,52.99\n");
+
+        List<BookImportRow> rows = reader.nextChunk(10);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).request().getTitle()).isEqualTo("Clean Code\nA Handbook");
+        assertThat(rows.get(0).request().getAuthor()).isEqualTo("Robert\nMartin");
+        assertThat(rows.get(0).lineNumber()).isEqualTo(2);
+        assertThat(rows.get(1).lineNumber()).isEqualTo(5);
+        assertThat(rows.get(1).request().getTitle()).isEqualTo("Effective Java");
+    }
+
+    private CsvBookImportReader reader(String csv) {
+        return new CsvBookImportReader(new BufferedReader(new StringReader(csv)));
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.spring.ingest;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.entity.Order;
+import com.example.spring.service.OrderCreationResult;
+import com.example.spring.service.OrderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@DisplayName("OrderGroupCommitter 테스트")
+class OrderGroupCommitterTest {
+
+    private OrderService orderService;
+    private BookstoreProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderGroupCommitter committer;
+
+    @BeforeEach
+    void setUp() {
+        orderService = mock(OrderService.class);
+        properties = new BookstoreProperties();
+        BookstoreProperties.Order.GroupCommit settings = properties.getOrder().getGroupCommit();
+        settings.setEnabled(true);
+        settings.setMaxBatchSize(3);
+        settings.setMaxDelay(Duration.ofSeconds(5));   // 배치 크기로만 닫히도록 충분히 길게
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (committer != null) {
+            committer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("요청을 배치로 모아 한 번에 생성하고 각 요청에 자기 결과를 전달")
+    void submit_배치로모아생성_요청별결과전달() {
+        // Given
+        Order order1 = Order.builder().id(1L).build();
+        Order order3 = Order.builder().id(3L).build();
+        IllegalArgumentException missing = new IllegalArgumentException("유효한 도서가 없습니다. 도서 ID: [999]");
+        given(orderService.createOrders(List.of(List.of(1L), List.of(999L), List.of(3L)))).willReturn(List.of(
+                OrderCreationResult.success(order1),
+                OrderCreationResult.failure(missing),
+                OrderCreationResult.success(order3)));
+        startCommitter();
+
+        // When
+        CompletableFuture<Order> first = committer.submit(List.of(1L));
+        CompletableFuture<Order> second = committer.submit(List.of(999L));
+        CompletableFuture<Order> third = committer.submit(List.of(3L));
+
+        // Then
+        assertThat(first.join()).isSameAs(order1);
+        assertThatThrownBy(second::join).hasCause(missing);
+        assertThat(third.join()).isSameAs(order3);
+        then(orderService).should(times(1)).createOrders(anyList());
+        assertThat(meterRegistry.summary("order.group.commit.batch.size").totalAmount()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("배치가 차지 않아도 최대 대기 시간이 지나면 커밋")
+    void submit_최대대기시간경과_커밋() {
+        // Given
+        properties.getOrder().getGroupCommit().setMaxDelay(Duration.ofMillis(10));
+        Order order = Order.builder().id(1L).build();
+        given(orderService.createOrders(List.of(List.of(1L)))).willReturn(List.of(OrderCreationResult.success(order)));
+        startCommitter();
+
+        // When
+        Order result = committer.createOrder(List.of(1L));
+
+        // Then
+        assertThat(result).isSameAs(order);
+    }
+
+    @Test
+    @DisplayName("배치 트랜잭션이 실패하면 주문별 트랜잭션으로 다시 처리")
+    void submit_배치실패_주문별재처리() {
+        // Given
+        Order order1 = Order.builder().id(1L).build();
+        IllegalStateException poisoned = new IllegalStateException("제약 조건 위반");
+        given(orderService.createOrders(anyList())).willThrow(new IllegalStateException("배치 커밋 실패"));
+        given(orderService.createOrder(List.of(1L))).willReturn(order1);
+        given(orderService.createOrder(List.of(2L))).willThrow(poisoned);
+        given(orderService.createOrder(List.of(3L))).willReturn(Order.builder().id(3L).build());
+        startCommitter();
+
+        // When
+        CompletableFuture<Order> first = committer.submit(List.of(1L));
+        CompletableFuture<Order> second = committer.submit(List.of(2L));
+        CompletableFuture<Order> third = committer.submit(List.of(3L));
+
+        // Then
+        assertThat(first.join()).isSameAs(order1);
+        assertThatThrownBy(second::join).hasCause(poisoned);
+        assertThat(third.join().getId()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("createOrder는 주문 예외를 그대로 전달")
+    void createOrder_주문실패_예외그대로전달() {
+        // Given
+        properties.getOrder().getGroupCommit().setMaxBatchSize(1);
+        IllegalArgumentException missing = new IllegalArgumentException("유효한 도서가 없습니다. 도서 ID: [999]");
+        given(orderService.createOrders(List.of(List.of(999L)))).willReturn(List.of(OrderCreationResult.failure(missing)));
+        startCommitter();
+
+        // When & Then
+        assertThatThrownBy(() -> committer.createOrder(List.of(999L))).isSameAs(missing);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 거부")
+    void submit_대기열초과_거부() throws Exception {
+        // Given - 첫 배치 커밋을 붙잡아 두고 대기열(1건)을 채움
+        properties.getOrder().getGroupCommit().setMaxBatchSize(1);
+        properties.getOrder().getGroupCommit().setQueueCapacity(1);
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(orderService.createOrders(anyList())).willAnswer(invocation -> {
+            committing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            List<List<Long>> requests = invocation.getArgument(0);
+            List<OrderCreationResult> results = new ArrayList<>();
+            requests.forEach(bookIds -> results.add(OrderCreationResult.success(Order.builder().id(bookIds.get(0)).build())));
+            return results;
+        });
+        startCommitter();
+        CompletableFuture<Order> inFlight = committer.submit(List.of(1L));
+        assertThat(committing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Order> queued = committer.submit(List.of(2L));
+
+        // When
+        CompletableFuture<Order> rejected = committer.submit(List.of(3L));
+
+        // Then
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        release.countDown();
+        assertThat(inFlight.join().getId()).isEqualTo(1L);
+        assertThat(queued.join().getId()).isEqualTo(2L);
+        assertThat(meterRegistry.counter("order.group.commit.rejected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 시작하지 않고 요청을 거부")
+    void submit_비활성화_거부() {
+        // Given
+        properties.getOrder().getGroupCommit().setEnabled(false);
+        startCommitter();
+
+        // When & Then
+        assertThat(committer.isRunning()).isFalse();
+        assertThatThrownBy(() -> committer.createOrder(List.of(1L))).isInstanceOf(IllegalStateException.class);
+    }
+
+    private void startCommitter() {
+        committer = new OrderGroupCommitter(orderService, properties, meterRegistry);
+        committer.start();
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.spring.outbox;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.entity.Order;
+import com.example.spring.entity.OutboxMessage;
+import com.example.spring.repository.OrderRepository;
+import com.example.spring.repository.OutboxRepository;
+import com.example.spring.service.EmailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    private BookstoreProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BookstoreProperties();
+        properties.getOutbox().setBatchSize(2);
+        properties.getOutbox().setMaxAttempts(3);
+        meterRegistry = new SimpleMeterRegistry();
+        // 호출 스레드에서 바로 실행하는 Executor로 발송 결과를 동기적으로 검증
+        outboxRelay = new OutboxRelay(outboxRepository, orderRepository, emailService,
+                Runnable::run, properties, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("배치 발송")
+    class RelayBatch {
+
+        @Test
+        @DisplayName("선점한 메시지의 주문을 도서와 함께 조회해 발송 후 완료 표시")
+        void relayBatch_발송성공_완료표시() {
+            // Given
+            OutboxMessage message = claimed(10L, 1L, 1);
+            Order order = Order.builder().id(1L).totalAmount(new BigDecimal("10000")).build();
+            given(outboxRepository.claimDue(any(LocalDateTime.class), any(Duration.class), eq(2)))
+                    .willReturn(List.of(message));
+            given(orderRepository.findByIdWithBooks(1L)).willReturn(Optional.of(order));
+
+            // When
+            int claimedCount = outboxRelay.relayBatch();
+
+            // Then
+            assertThat(claimedCount).isEqualTo(1);
+            then(emailService).should().sendOrderConfirmation(order);
+            then(outboxRepository).should().markDone(eq(10L), any(LocalDateTime.class));
+            assertThat(meterRegistry.counter("outbox.dispatch",
+                    "type", "ORDER_CONFIRMATION", "result", "done").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("선점한 메시지가 없으면 발송하지 않음")
+        void relayBatch_대기메시지없음_발송안함() {
+            // Given
+            given(outboxRepository.claimDue(any(LocalDateTime.class), any(Duration.class), anyInt()))
+                    .willReturn(List.of());
+
+            // When
+            int claimedCount = outboxRelay.relayBatch();
+
+            // Then
+            assertThat(claimedCount).isZero();
+            then(emailService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("발송 실패 시 백오프 후 재시도 예약")
+        void relayBatch_발송실패_재시도예약() {
+            // Given
+            OutboxMessage message = claimed(10L, 1L, 2);
+            Order order = Order.builder().id(1L).build();
+            given(outboxRepository.claimDue(any(LocalDateTime.class), any(Duration.class), anyInt()))
+                    .willReturn(List.of(message));
+            given(orderRepository.findByIdWithBooks(1L)).willReturn(Optional.of(order));
+            willThrow(new RuntimeException("SMTP 연결 실패")).given(emailService).sendOrderConfirmation(order);
+            LocalDateTime before = LocalDateTime.now();
+
+            // When
+            outboxRelay.relayBatch();
+
+            // Then - 두 번째 시도 실패: 10초 × 2
+            then(outboxRepository).should().markRetry(eq(10L),
+                    argThat(next -> !next.isBefore(before.plusSeconds(20))),
+                    eq("RuntimeException: SMTP 연결 실패"));
+            then(outboxRepository).should(never()).markDone(any(), any());
+            then(outboxRepository).should(never()).markFailed(any(), any(), anyString());
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수에 도달하면 실패 처리")
+        void relayBatch_최대시도초과_실패처리() {
+            // Given
+            OutboxMessage message = claimed(10L, 1L, 3);
+            given(outboxRepository.claimDue(any(LocalDateTime.class), any(Duration.class), anyInt()))
+                    .willReturn(List.of(message));
+            given(orderRepository.findByIdWithBooks(1L)).willReturn(Optional.empty());
+
+            // When
+            outboxRelay.relayBatch();
+
+            // Then
+            then(outboxRepository).should().markFailed(eq(10L), any(LocalDateTime.class),
+                    eq("IllegalStateException: 주문을 찾을 수 없습니다: 1"));
+            then(outboxRepository).should(never()).markRetry(any(), any(), anyString());
+            then(emailService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("한 메시지가 실패해도 같은 배치의 다른 메시지는 발송")
+        void relayBatch_일부실패_나머지발송() {
+            // Given
+            OutboxMessage failing = claimed(10L, 1L, 1);
+            OutboxMessage succeeding = claimed(11L, 2L, 1);
+            Order order = Order.builder().id(2L).build();
+            given(outboxRepository.claimDue(any(LocalDateTime.class), any(Duration.class), anyInt()))
+                    .willReturn(List.of(failing, succeeding));
+            given(orderRepository.findByIdWithBooks(1L)).willReturn(Optional.empty());
+            given(orderRepository.findByIdWithBooks(2L)).willReturn(Optional.of(order));
+
+            // When
+            outboxRelay.relayBatch();
+
+            // Then
+            then(outboxRepository).should().markRetry(eq(10L), any(LocalDateTime.class), anyString());
+            then(outboxRepository).should().markDone(eq(11L), any(LocalDateTime.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("폴링")
+    class Poll {
+
+        @Test
+        @DisplayName("배치가 가득 차면 이어서 다음 배치를 선점")
+        void poll_배치가득참_이어서선점() {
+            // Given
+            Order order = Order.builder().id(1L).build();
+            given(outboxRepository.claimDue(any(LocalDateTime.class), any(Duration.class), eq(2)))
+                    .willReturn(List.of(claimed(10L, 1L, 1), claimed(11L, 1L, 1)))
+                    .willReturn(List.of(claimed(12L, 1L, 1)));
+            given(orderRepository.findByIdWithBooks(1L)).willReturn(Optional.of(order));
+
+            // When
+            outboxRelay.poll();
+
+            // Then
+            then(outboxRepository).should(times(2))
+                    .claimDue(any(LocalDateTime.class), any(Duration.class), eq(2));
+            then(emailService).should(times(3)).sendOrderConfirmation(order);
+        }
+
+        @Test
+        @DisplayName("밀린 메시지가 계속 있어도 폴링 한 번에 선점하는 배치 수는 제한")
+        void poll_배치계속가득참_배치수제한() {
+            // Given
+            properties.getOutbox().setMaxBatchesPerPoll(3);
+            Order order = Order.builder().id(1L).build();
+            given(outboxRepository.claimDue(any(LocalDateTime.class), any(Duration.class), eq(2)))
+                    .willAnswer(invocation -> List.of(claimed(10L, 1L, 1), claimed(11L, 1L, 1)));
+            given(orderRepository.findByIdWithBooks(1L)).willReturn(Optional.of(order));
+
+            // When
+            outboxRelay.poll();
+
+            // Then
+            then(outboxRepository).should(times(3))
+                    .claimDue(any(LocalDateTime.class), any(Duration.class), eq(2));
+        }
+
+        @Test
+        @DisplayName("발송 완료를 기다리지 않고, 발송 중 메시지가 상한에 닿으면 선점을 멈춤")
+        void poll_발송지연_대기없이선점보류() {
+            // Given - 작업을 실행하지 않고 쌓아 두는 Executor (메일 서버가 응답하지 않는 상황)
+            List<Runnable> pending = new ArrayList<>();
+            properties.getOutbox().setMaxInFlight(3);
+            outboxRelay = new OutboxRelay(outboxRepository, orderRepository, emailService,
+                    pending::add, properties, meterRegistry);
+            given(outboxRepository.claimDue(any(LocalDateTime.class), any(Duration.class), eq(2)))
+                    .willReturn(List.of(claimed(10L, 1L, 1), claimed(11L, 1L, 1)));
+            given(outboxRepository.claimDue(any(LocalDateTime.class), any(Duration.class), eq(1)))
+                    .willReturn(List.of(claimed(12L, 1L, 1)));
+
+            // When
+            outboxRelay.poll();
+
+            // Then
+            assertThat(pending).hasSize(3);
+            then(outboxRepository).should().claimDue(any(LocalDateTime.class), any(Duration.class), eq(1));
+            then(emailService).shouldHaveNoInteractions();
+
+            // 발송이 끝나면 다시 선점
+            given(orderRepository.findByIdWithBooks(1L)).willReturn(Optional.of(Order.builder().id(1L).build()));
+            pending.forEach(Runnable::run);
+            outboxRelay.poll();
+            then(outboxRepository).should(times(2))
+                    .claimDue(any(LocalDateTime.class), any(Duration.class), eq(2));
+        }
+
+        @Test
+        @DisplayName("비활성화 시 선점하지 않음")
+        void poll_비활성화_선점안함() {
+            // Given
+            properties.getOutbox().setEnabled(false);
+
+            // When
+            outboxRelay.poll();
+
+            // Then
+            then(outboxRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 시도마다 2배, 상한 적용")
+    void backoff_지수증가_상한적용() {
+        assertThat(outboxRelay.backoff(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(outboxRelay.backoff(2)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(outboxRelay.backoff(4)).isEqualTo(Duration.ofSeconds(80));
+        assertThat(outboxRelay.backoff(20)).isEqualTo(Duration.ofMinutes(30));
+    }
+
+    // 선점 시점에 시도 횟수가 이미 증가된 상태
+    private OutboxMessage claimed(Long id, Long orderId, int attempts) {
+        OutboxMessage message = OutboxMessage.orderConfirmation(orderId);
+        message.setId(id);
+        message.setAttempts(attempts);
+        return message;
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.spring.repository;
 
+import com.example.spring.dto.response.BookResponse;
 import com.example.spring.entity.Book;
+import com.example.spring.statistics.BookCounts;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -9,6 +12,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
@@ -90,6 +97,24 @@ public class BookRepositoryTest {
             assertThat(foundBook).isEmpty();
         }
 
+        @Test
+        @DisplayName("여러 ID로 도서 일괄 조회 - 누락된 ID 보고")
+        void findAllByIdIn_일부존재하지않는ID_찾은도서와누락ID반환() {
+            // Given
+            Book persistedBook = entityManager.persistAndFlush(sampleBook);
+            entityManager.clear();
+            Long bookId = persistedBook.getId();
+
+            // When - 중복 ID 포함
+            BulkFetchResult<Book> result = bookRepository.findAllByIdIn(List.of(bookId, 999L, bookId));
+
+            // Then
+            assertThat(result.found()).containsOnlyKeys(bookId);
+            assertThat(result.found().get(bookId).getTitle()).isEqualTo("Clean Code");
+            assertThat(result.missingIds()).containsExactly(999L);
+            assertThat(result.hasMissing()).isTrue();
+        }
+
         @Test
         @DisplayName("모든 도서 조회")
         void findAll_모든도서조회() {
@@ -404,6 +429,304 @@ public class BookRepositoryTest {
             assertThat(deletedBooks).hasSize(1);
             assertThat(deletedBooks.get(0).getTitle()).isEqualTo("Deleted Book");
         }
+
+        @Test
+        @DisplayName("활성 도서 필터 - 삭제된 도서는 DB에서 걸러지고, 조회 후 필터는 해제")
+        void findActiveByTitleContaining_삭제된도서_DB에서제외() {
+            // Given
+            Book activeBook = Book.builder()
+                    .title("Spring Active")
+                    .author("Author A")
+                    .isbn("1111111111111")
+                    .price(new BigDecimal("30.00"))
+                    .createdDate(LocalDateTime.now())
+                    .build();
+
+            Book deletedBook = Book.builder()
+                    .title("Spring Deleted")
+                    .author("Author A")
+                    .isbn("2222222222222")
+                    .price(new BigDecimal("25.00"))
+                    .createdDate(LocalDateTime.now())
+                    .deletedDate(LocalDateTime.now())
+                    .build();
+
+            entityManager.persistAndFlush(activeBook);
+            entityManager.persistAndFlush(deletedBook);
+            entityManager.clear();
+
+            // When & Then
+            assertThat(bookRepository.findActiveByTitleContaining("Spring"))
+                    .extracting(Book::getTitle).containsExactly("Spring Active");
+            assertThat(bookRepository.findActiveByAuthorContaining("Author A")).hasSize(1);
+            assertThat(bookRepository.findActiveByTitleContainingOrAuthorContaining("Deleted", "Deleted")).isEmpty();
+            assertThat(bookRepository.findActiveById(deletedBook.getId())).isEmpty();
+            assertThat(bookRepository.findActiveById(activeBook.getId())).isPresent();
+            assertThat(bookRepository.findActiveByIsbn("2222222222222")).isEmpty();
+
+            // 필터가 해제되어 삭제된 도서를 포함하는 기존 조회는 그대로 동작
+            assertThat(bookRepository.findByTitleContaining("Spring")).hasSize(2);
+            assertThat(bookRepository.findByIsbn("2222222222222")).isPresent();
+        }
+
+        @Test
+        @DisplayName("활성 도서 LIKE 검색 상위 N건 - 제목, ID 순으로 DB에서 잘라서 조회")
+        void findActiveByTitleContaining_최대건수_제목순상위N건() {
+            // Given
+            String[] titles = {"Spring C", "Spring A", "Spring B", "Spring A"};
+            for (int i = 0; i < titles.length; i++) {
+                entityManager.persist(Book.builder()
+                        .title(titles[i])
+                        .author("Author " + i)
+                        .isbn("333333333333" + i)
+                        .price(new BigDecimal("30.00"))
+                        .createdDate(LocalDateTime.now())
+                        .build());
+            }
+            entityManager.flush();
+            entityManager.clear();
+
+            // When
+            List<Book> result = bookRepository.findActiveByTitleContaining("Spring", 3);
+
+            // Then
+            assertThat(result).extracting(Book::getTitle).containsExactly("Spring A", "Spring A", "Spring B");
+            assertThat(result.get(0).getId()).isLessThan(result.get(1).getId());
+            assertThat(bookRepository.findActiveByTitleContainingOrAuthorContaining("Spring", "Spring", 1))
+                    .extracting(Book::getTitle).containsExactly("Spring A");
+        }
+    }
+
+    @Nested
+    @DisplayName("복합 조건 검색 테스트 (DB 필터/정렬/페이징)")
+    class FilterSearchTest {
+
+        @BeforeEach
+        void setUpBooks() {
+            LocalDateTime now = LocalDateTime.now();
+            entityManager.persist(book("Clean Code", "Robert C. Martin", "9780132350884", "45.99", true, now.minusDays(3)));
+            entityManager.persist(book("Clean Architecture", "Robert C. Martin", "9780134494166", "48.99", true, now.minusDays(2)));
+            entityManager.persist(book("Clean Agile", "Robert C. Martin", "9780135781869", "38.99", false, now.minusDays(1)));
+            entityManager.persist(book("Effective Java", "Joshua Bloch", "9780134685991", "52.99", true, now));
+
+            Book deleted = book("Clean Craftsmanship", "Robert C. Martin", "9780136915713", "41.99", true, now);
+            deleted.markAsDeleted();
+            entityManager.persist(deleted);
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("필터 조건과 페이징을 DB에서 적용")
+        void findActiveBooksWithFilters_복합조건_페이지반환() {
+            // When - 대소문자 무시, 삭제 도서 제외
+            Page<Book> result = bookRepository.findActiveBooksWithFilters(
+                    "clean", "MARTIN", new BigDecimal("40.00"), null, true, PageRequest.of(0, 1));
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(2);
+            assertThat(result.getTotalPages()).isEqualTo(2);
+            assertThat(result.getContent()).extracting(Book::getTitle)
+                    .containsExactly("Clean Architecture");
+        }
+
+        @Test
+        @DisplayName("화이트리스트 정렬 속성으로 정렬")
+        void findActiveBooksWithFilters_가격오름차순_정렬반환() {
+            // When
+            Page<Book> result = bookRepository.findActiveBooksWithFilters(
+                    null, null, null, null, null, PageRequest.of(0, 10, Sort.by("price")));
+
+            // Then
+            assertThat(result.getContent()).extracting(Book::getTitle)
+                    .containsExactly("Clean Agile", "Clean Code", "Clean Architecture", "Effective Java");
+        }
+
+        @Test
+        @DisplayName("허용되지 않은 정렬 속성은 무시하고 최신 등록순 정렬")
+        void findActiveBooksWithFilters_허용되지않은정렬_기본정렬반환() {
+            // When
+            Page<Book> result = bookRepository.findActiveBooksWithFilters(
+                    null, null, null, null, null, PageRequest.of(0, 10, Sort.by("isbn; DROP TABLE book")));
+
+            // Then
+            assertThat(result.getContent()).extracting(Book::getTitle)
+                    .containsExactly("Effective Java", "Clean Agile", "Clean Architecture", "Clean Code");
+        }
+
+        @Test
+        @DisplayName("활성 도서 전체를 가격 내림차순 페이지로 조회")
+        void findActiveBooks_가격내림차순_두번째페이지반환() {
+            // When
+            Page<Book> result = bookRepository.findActiveBooks(
+                    PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "price")));
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(4);
+            assertThat(result.getContent()).extracting(Book::getTitle)
+                    .containsExactly("Clean Code", "Clean Agile");
+        }
+
+        @Test
+        @DisplayName("윈도우 COUNT로 페이지 내용과 전체 건수를 함께 조회")
+        void searchBookResponsesCounted_복합조건_전체건수포함() {
+            // When
+            Page<BookResponse> result = bookRepository.searchBookResponsesCounted(
+                    "clean", "martin", null, null, null, PageRequest.of(0, 2));
+
+            // Then - 최신 등록순, 삭제 도서 제외
+            assertThat(result.getTotalElements()).isEqualTo(3);
+            assertThat(result.getContent()).extracting(BookResponse::getTitle)
+                    .containsExactly("Clean Agile", "Clean Architecture");
+        }
+
+        @Test
+        @DisplayName("마지막 페이지를 넘어선 요청도 전체 건수 반환")
+        void searchBookResponsesCounted_범위초과페이지_전체건수반환() {
+            // When
+            Page<BookResponse> result = bookRepository.searchBookResponsesCounted(
+                    null, null, new BigDecimal("40.00"), null, true, PageRequest.of(5, 2));
+
+            // Then
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.getTotalElements()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("범위를 넘어선 페이지의 전체 건수도 와일드카드 문자를 일반 문자로 집계")
+        void searchBookResponsesCounted_범위초과페이지와일드카드_윈도우COUNT와동일() {
+            // When
+            Page<BookResponse> percent = bookRepository.searchBookResponsesCounted(
+                    "%", null, null, null, null, PageRequest.of(5, 2));
+            Page<BookResponse> responses = bookRepository.searchBookResponsesCounted(
+                    "_", null, null, null, null, PageRequest.of(5, 2));
+
+            // Then
+            assertThat(percent.getContent()).isEmpty();
+            assertThat(percent.getTotalElements()).isZero();
+            assertThat(responses.getContent()).isEmpty();
+            assertThat(responses.getTotalElements()).isZero();
+        }
+
+        @Test
+        @DisplayName("전체/활성/재고 보유 도서 수를 한 번에 집계")
+        void countBooks_집계_삭제및재고반영() {
+            // When
+            BookCounts counts = bookRepository.countBooks();
+
+            // Then
+            assertThat(counts).isEqualTo(new BookCounts(5L, 4L, 3L));
+            assertThat(counts.deleted()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("BookResponse 프로젝션 - 엔티티를 영속성 컨텍스트에 올리지 않음")
+        void findActiveBookResponses_복합조건_DTO페이지반환() {
+            // When
+            Page<BookResponse> result = bookRepository.findActiveBookResponses(
+                    "clean", "MARTIN", new BigDecimal("40.00"), null, true, PageRequest.of(0, 1));
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(2);
+            assertThat(result.getContent()).extracting(BookResponse::getTitle)
+                    .containsExactly("Clean Architecture");
+            assertThat(result.getContent().get(0).getIsbn()).isEqualTo("9780134494166");
+            assertThat(entityManager.getEntityManager().unwrap(Session.class)
+                    .getStatistics().getEntityCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("BookResponse 프로젝션 - unpaged는 정렬만 적용하여 전체 반환")
+        void findActiveBookResponses_unpaged_정렬된전체반환() {
+            // When
+            Page<BookResponse> result = bookRepository.findActiveBookResponses(
+                    null, null, null, null, true, Pageable.unpaged(Sort.by("price")));
+
+            // Then
+            assertThat(result.getContent()).extracting(BookResponse::getTitle)
+                    .containsExactly("Clean Code", "Clean Architecture", "Effective Java");
+        }
+
+        @Test
+        @DisplayName("BookResponse 프로젝션 - 윈도우 COUNT로 페이지와 전체 건수 조회")
+        void searchBookResponsesCounted_복합조건_DTO페이지와전체건수() {
+            // When
+            Page<BookResponse> result = bookRepository.searchBookResponsesCounted(
+                    "clean", null, null, null, null, PageRequest.of(0, 2));
+
+            // Then - 최신 등록순
+            assertThat(result.getTotalElements()).isEqualTo(3);
+            assertThat(result.getContent()).extracting(BookResponse::getTitle)
+                    .containsExactly("Clean Agile", "Clean Architecture");
+        }
+
+        @Test
+        @DisplayName("LIKE 와일드카드 문자는 일반 문자로 검색")
+        void findActiveBooksWithFilters_와일드카드문자_이스케이프() {
+            // When
+            Page<Book> result = bookRepository.findActiveBooksWithFilters(
+                    "%", null, null, null, null, PageRequest.of(0, 10));
+
+            // Then
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.getTotalElements()).isZero();
+        }
+
+        private Book book(String title, String author, String isbn, String price,
+                          boolean available, LocalDateTime createdDate) {
+            return Book.builder()
+                    .title(title)
+                    .author(author)
+                    .isbn(isbn)
+                    .price(new BigDecimal(price))
+                    .available(available)
+                    .createdDate(createdDate)
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("키셋(커서) 페이지네이션 테스트")
+    class KeysetPaginationTest {
+
+        @Test
+        @DisplayName("커서 이후 도서를 최신 등록순으로 중복/누락 없이 조회")
+        void findActiveBooksAfter_커서순회_전체도서반환() {
+            // Given - 같은 등록 시각의 도서는 ID로 순서 결정
+            LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+            Book oldest = persistBook("9780000000001", base.minusDays(2));
+            Book tiedFirst = persistBook("9780000000002", base);
+            Book tiedSecond = persistBook("9780000000003", base);
+            Book newest = persistBook("9780000000004", base.plusDays(1));
+            Book deleted = persistBook("9780000000005", base.plusDays(2));
+            deleted.markAsDeleted();
+            entityManager.flush();
+            entityManager.clear();
+
+            // When
+            List<Book> firstPage = bookRepository.findActiveBooksAfter(null, 2);
+            Book last = firstPage.get(firstPage.size() - 1);
+            List<Book> secondPage = bookRepository.findActiveBooksAfter(
+                    KeysetCursor.of(last.getCreatedDate(), last.getId()), 2);
+
+            // Then
+            assertThat(firstPage).extracting(Book::getId)
+                    .containsExactly(newest.getId(), tiedSecond.getId());
+            assertThat(secondPage).extracting(Book::getId)
+                    .containsExactly(tiedFirst.getId(), oldest.getId());
+        }
+
+        private Book persistBook(String isbn, LocalDateTime createdDate) {
+            return entityManager.persist(Book.builder()
+                    .title("Book " + isbn)
+                    .author("Author")
+                    .isbn(isbn)
+                    .price(new BigDecimal("10.00"))
+                    .available(true)
+                    .createdDate(createdDate)
+                    .build());
+        }
     }
 
     @Nested
@@ -4,11 +4,14 @@ import com.example.spring.entity.Book;
 import com.example.spring.entity.Loan;
 import com.example.spring.entity.Member;
 import com.example.spring.entity.MembershipType;
+import com.example.spring.event.LoanChangedEvent;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -19,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
 @Import(com.example.spring.repository.impl.JpaLoanRepository.class)
+@RecordApplicationEvents
 public class LoanRepositoryTest {
 
     @Autowired
@@ -27,6 +31,9 @@ public class LoanRepositoryTest {
     @Autowired
     private LoanRepository loanRepository;
 
+    @Autowired
+    private ApplicationEvents events;
+
     private Member createAndSaveMember(String name, String email) {
         Member member = Member.builder()
                 .name(name)
@@ -196,6 +203,38 @@ public class LoanRepositoryTest {
         assertThat(unreturnedLoans.get(0).getReturnDate()).isNull();
     }
 
+    @Test
+    public void countByMemberIdAndReturnDateIsNull_미반납건수_대여변경이벤트발행() {
+        // Given
+        Member member = createAndSaveMember("대출회원", "borrower@example.com");
+        Book book1 = createAndSaveBook("미반납도서1", "저자1");
+        Book book2 = createAndSaveBook("미반납도서2", "저자2");
+
+        Loan first = entityManager.persistAndFlush(Loan.builder()
+                .member(member)
+                .book(book1)
+                .loanDate(LocalDateTime.now())
+                .dueDate(LocalDateTime.now().plusWeeks(2))
+                .build());
+        entityManager.persistAndFlush(Loan.builder()
+                .member(member)
+                .book(book2)
+                .loanDate(LocalDateTime.now())
+                .dueDate(LocalDateTime.now().plusWeeks(2))
+                .build());
+
+        // When - 더티 체킹으로 반납 처리
+        first.setReturnDate(LocalDateTime.now());
+        entityManager.flush();
+
+        // Then
+        assertThat(loanRepository.countByMemberIdAndReturnDateIsNull(member.getId())).isEqualTo(1);
+        assertThat(events.stream(LoanChangedEvent.class))
+                .extracting(LoanChangedEvent::getMemberId)
+                .containsOnly(member.getId())
+                .hasSize(3);
+    }
+
     @Test
     public void findOverdueLoans_연체도서조회() {
         // Given
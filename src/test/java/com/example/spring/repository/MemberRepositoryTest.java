@@ -1,5 +1,6 @@
 package com.example.spring.repository;
 
+import com.example.spring.dto.response.MemberResponse;
 import com.example.spring.entity.Member;
 import com.example.spring.entity.MembershipType;
 import org.junit.jupiter.api.Test;
@@ -7,6 +8,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -254,4 +257,80 @@ public class MemberRepositoryTest {
         // Then
         assertThat(foundMember).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void findAllAfter_커서이후_최신가입순반환() {
+        // Given
+        Member first = entityManager.persist(member("first@example.com"));
+        Member second = entityManager.persist(member("second@example.com"));
+        Member third = entityManager.persist(member("third@example.com"));
+        entityManager.flush();
+
+        // When
+        List<Member> firstPage = memberRepository.findAllAfter(null, 2);
+        List<Member> secondPage = memberRepository.findAllAfter(KeysetCursor.ofId(second.getId()), 2);
+
+        // Then
+        assertThat(firstPage).extracting(Member::getId).containsExactly(third.getId(), second.getId());
+        assertThat(secondPage).extracting(Member::getId).containsExactly(first.getId());
+    }
+
+    @Test
+    public void findMemberResponses_페이지요청_해당페이지만DTO로반환() {
+        // Given
+        Member first = entityManager.persist(member("first@example.com"));
+        Member second = entityManager.persist(member("second@example.com"));
+        Member third = entityManager.persist(member("third@example.com"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<MemberResponse> firstPage = memberRepository.findMemberResponses(
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id")));
+        List<MemberResponse> byEmail = memberRepository.findMemberResponses(
+                PageRequest.of(0, 10, Sort.by("email", "unknownProperty")));
+
+        // Then
+        assertThat(firstPage).extracting(MemberResponse::getId).containsExactly(third.getId(), second.getId());
+        assertThat(firstPage.get(0).getEmail()).isEqualTo("third@example.com");
+        assertThat(byEmail).extracting(MemberResponse::getId)
+                .containsExactly(first.getId(), second.getId(), third.getId());
+    }
+
+    @Test
+    public void findMemberResponsesAfter_커서이후_최신가입순DTO반환() {
+        // Given
+        Member first = entityManager.persist(member("first@example.com"));
+        Member second = entityManager.persist(member("second@example.com"));
+        entityManager.persist(member("third@example.com"));
+        entityManager.flush();
+
+        // When
+        List<MemberResponse> page = memberRepository.findMemberResponsesAfter(KeysetCursor.ofId(second.getId()), 2);
+
+        // Then
+        assertThat(page).extracting(MemberResponse::getId).containsExactly(first.getId());
+    }
+
+    @Test
+    public void countUpTo_상한미만_전체건수_상한이상_상한반환() {
+        // Given
+        entityManager.persist(member("first@example.com"));
+        entityManager.persist(member("second@example.com"));
+        entityManager.persist(member("third@example.com"));
+        entityManager.flush();
+
+        // When & Then
+        assertThat(memberRepository.countUpTo(10)).isEqualTo(3);
+        assertThat(memberRepository.countUpTo(2)).isEqualTo(2);
+    }
+
+    private Member member(String email) {
+        return Member.builder()
+                .name("회원")
+                .email(email)
+                .membershipType(MembershipType.REGULAR)
+                .joinDate(LocalDateTime.now())
+                .build();
+    }
+}
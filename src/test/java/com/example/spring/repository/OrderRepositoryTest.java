@@ -1,5 +1,7 @@
 package com.example.spring.repository;
 
+import com.example.spring.dto.response.OrderItemResponse;
+import com.example.spring.dto.response.OrderResponse;
 import com.example.spring.entity.Book;
 import com.example.spring.entity.Order;
 import com.example.spring.entity.OrderItem;
@@ -7,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -14,6 +17,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 public class OrderRepositoryTest {
@@ -29,7 +33,7 @@ public class OrderRepositoryTest {
                 .title(title)
                 .author(author)
                 .price(price)
-                .isbn("ISBN" + System.currentTimeMillis())
+                .isbn("ISBN" + System.nanoTime())
                 .available(true)
                 .createdDate(LocalDateTime.now())
                 .build();
@@ -164,4 +168,84 @@ public class OrderRepositoryTest {
         assertThat(foundOrder).isNull();
     }
 
+    @Test
+    public void findByIdWithBooks_주문아이템과도서함께조회() {
+        // Given
+        Book book = createAndSaveBook("Clean Code", "Robert C. Martin", new BigDecimal("38000"));
+        Order order = Order.builder()
+                .totalAmount(new BigDecimal("38000"))
+                .orderDate(LocalDateTime.now())
+                .build();
+        order.addOrderItem(OrderItem.builder().book(book).quantity(1).price(book.getPrice()).build());
+        Long orderId = entityManager.persistAndFlush(order).getId();
+        entityManager.clear();
+
+        // When
+        Order foundOrder = orderRepository.findByIdWithBooks(orderId).orElseThrow();
+        entityManager.clear();   // 영속성 컨텍스트 밖에서도 도서 목록 접근 가능
+
+        // Then
+        assertThat(foundOrder.getBooks())
+                .extracting(Book::getTitle)
+                .containsExactly("Clean Code");
+    }
+
+    @Test
+    public void findOrderResponses_최신주문순_아이템과도서포함() {
+        // Given
+        Book cleanCode = createAndSaveBook("Clean Code", "Robert C. Martin", new BigDecimal("38000"));
+        Book refactoring = createAndSaveBook("Refactoring", "Martin Fowler", new BigDecimal("42000"));
+        Long olderId = persistOrder(cleanCode).getId();
+        Long newerId = persistOrder(refactoring, cleanCode).getId();
+        entityManager.clear();
+
+        // When
+        List<OrderResponse> responses = orderRepository.findOrderResponses(PageRequest.of(0, 10));
+
+        // Then
+        assertThat(responses).extracting(OrderResponse::getId).containsExactly(newerId, olderId);
+        assertThat(responses.get(0).getItems())
+                .extracting(OrderItemResponse::getTitle)
+                .containsExactly("Refactoring", "Clean Code");
+        assertThat(responses.get(1).getItems())
+                .extracting(OrderItemResponse::getBookId, OrderItemResponse::getPrice)
+                .containsExactly(tuple(cleanCode.getId(), new BigDecimal("38000.00")));
+    }
+
+    @Test
+    public void findOrderResponsesAfter_커서이후주문만반환() {
+        // Given - 다른 인스턴스의 ID 블록처럼 ID 순서와 주문 시각 순서가 어긋난 주문
+        Book book = createAndSaveBook("Clean Code", "Robert C. Martin", new BigDecimal("38000"));
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        Long thirdId = persistOrderAt(now, book).getId();
+        Long firstId = persistOrderAt(now.minusMinutes(2), book).getId();
+        Order second = persistOrderAt(now.minusMinutes(1), book);
+        Long secondId = second.getId();
+        entityManager.clear();
+
+        // When
+        List<OrderResponse> firstPage = orderRepository.findOrderResponsesAfter(null, 2);
+        List<OrderResponse> nextPage = orderRepository.findOrderResponsesAfter(
+                KeysetCursor.of(second.getOrderDate(), secondId), 2);
+
+        // Then
+        assertThat(firstPage).extracting(OrderResponse::getId).containsExactly(thirdId, secondId);
+        assertThat(nextPage).extracting(OrderResponse::getId).containsExactly(firstId);
+        assertThat(nextPage.get(0).getItems()).hasSize(1);
+    }
+
+    private Order persistOrder(Book... books) {
+        return persistOrderAt(LocalDateTime.now(), books);
+    }
+
+    private Order persistOrderAt(LocalDateTime orderDate, Book... books) {
+        Order order = Order.builder()
+                .totalAmount(BigDecimal.ZERO)
+                .orderDate(orderDate)
+                .build();
+        for (Book book : books) {
+            order.addOrderItem(OrderItem.builder().book(book).quantity(1).price(book.getPrice()).build());
+        }
+        return entityManager.persistAndFlush(order);
+    }
 }
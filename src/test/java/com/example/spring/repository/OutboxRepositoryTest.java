@@ -0,0 +1,136 @@
+package com.example.spring.repository;
+
+import com.example.spring.entity.OutboxMessage;
+import com.example.spring.repository.impl.JpaOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(JpaOutboxRepository.class)
+public class OutboxRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    private OutboxMessage persistMessage(Long orderId, LocalDateTime nextAttemptAt) {
+        OutboxMessage message = OutboxMessage.orderConfirmation(orderId);
+        message.setNextAttemptAt(nextAttemptAt);
+        return entityManager.persistAndFlush(message);
+    }
+
+    @Test
+    public void orderConfirmation_대기상태로생성() {
+        // When
+        OutboxMessage saved = outboxRepository.save(OutboxMessage.orderConfirmation(1L));
+        entityManager.flush();
+
+        // Then
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getType()).isEqualTo(OutboxMessage.Type.ORDER_CONFIRMATION);
+        assertThat(saved.getStatus()).isEqualTo(OutboxMessage.Status.PENDING);
+        assertThat(saved.getAttempts()).isZero();
+        assertThat(saved.getNextAttemptAt()).isNotNull();
+    }
+
+    @Test
+    public void claimDue_발송시각이된대기메시지만_id순으로선점() {
+        // Given
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        OutboxMessage first = persistMessage(1L, now.minusMinutes(2));
+        OutboxMessage second = persistMessage(2L, now.minusMinutes(1));
+        persistMessage(3L, now.plusMinutes(1));                          // 재시도 대기 중
+        OutboxMessage done = persistMessage(4L, now.minusMinutes(3));
+        done.setStatus(OutboxMessage.Status.DONE);
+        entityManager.flush();
+
+        // When
+        List<OutboxMessage> claimed = outboxRepository.claimDue(now, Duration.ofMinutes(5), 10);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(claimed).extracting(OutboxMessage::getId).containsExactly(first.getId(), second.getId());
+        OutboxMessage reloaded = outboxRepository.findById(first.getId()).orElseThrow();
+        assertThat(reloaded.getAttempts()).isEqualTo(1);
+        assertThat(reloaded.getNextAttemptAt()).isEqualTo(now.plusMinutes(5));   // lease 동안 다시 선점되지 않음
+        assertThat(outboxRepository.claimDue(now, Duration.ofMinutes(5), 10)).isEmpty();
+    }
+
+    @Test
+    public void claimDue_limit건까지만선점() {
+        // Given
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        for (long i = 1; i <= 5; i++) {
+            persistMessage(i, now.minusSeconds(i));
+        }
+
+        // When
+        List<OutboxMessage> claimed = outboxRepository.claimDue(now, Duration.ofMinutes(5), 3);
+
+        // Then
+        assertThat(claimed).hasSize(3);
+    }
+
+    @Test
+    public void markDone_완료상태로변경() {
+        // Given
+        OutboxMessage message = persistMessage(1L, LocalDateTime.now());
+        LocalDateTime processedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        // When
+        outboxRepository.markDone(message.getId(), processedAt);
+        entityManager.clear();
+
+        // Then
+        OutboxMessage reloaded = outboxRepository.findById(message.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(OutboxMessage.Status.DONE);
+        assertThat(reloaded.getProcessedAt()).isEqualTo(processedAt);
+        assertThat(outboxRepository.countByStatus(OutboxMessage.Status.PENDING)).isZero();
+    }
+
+    @Test
+    public void markRetry_대기상태유지하고다음시도시각과오류기록() {
+        // Given
+        OutboxMessage message = persistMessage(1L, LocalDateTime.now());
+        LocalDateTime nextAttemptAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(10);
+
+        // When
+        outboxRepository.markRetry(message.getId(), nextAttemptAt, "x".repeat(1000));
+        entityManager.clear();
+
+        // Then
+        OutboxMessage reloaded = outboxRepository.findById(message.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(OutboxMessage.Status.PENDING);
+        assertThat(reloaded.getNextAttemptAt()).isEqualTo(nextAttemptAt);
+        assertThat(reloaded.getLastError()).hasSize(500);
+    }
+
+    @Test
+    public void markFailed_실패상태로변경() {
+        // Given
+        OutboxMessage message = persistMessage(1L, LocalDateTime.now());
+
+        // When
+        outboxRepository.markFailed(message.getId(), LocalDateTime.now(), "SMTP 연결 실패");
+        entityManager.clear();
+
+        // Then
+        OutboxMessage reloaded = outboxRepository.findById(message.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(OutboxMessage.Status.FAILED);
+        assertThat(reloaded.getLastError()).isEqualTo("SMTP 연결 실패");
+        assertThat(outboxRepository.countByStatus(OutboxMessage.Status.FAILED)).isEqualTo(1);
+    }
+}
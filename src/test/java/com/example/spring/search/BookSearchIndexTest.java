@@ -0,0 +1,176 @@
+package com.example.spring.search;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.entity.Book;
+import com.example.spring.event.BookChangedEvent;
+import com.example.spring.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookSearchIndex 테스트")
+class BookSearchIndexTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    private BookstoreProperties properties;
+    private BookSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BookstoreProperties();
+        properties.getSearch().setRebuildBatchSize(2);
+        index = new BookSearchIndex(bookRepository, properties);
+    }
+
+    @Nested
+    @DisplayName("색인 재구축")
+    class RebuildTest {
+
+        @Test
+        @DisplayName("ID 순 배치 조회로 전체 활성 도서를 색인")
+        void rebuild_배치조회_전체색인() {
+            // Given
+            given(bookRepository.findSearchDocuments(0L, 2)).willReturn(List.of(
+                    new BookSearchDocument(1L, "Clean Code", "Robert C. Martin"),
+                    new BookSearchDocument(2L, "Effective Java", "Joshua Bloch")));
+            given(bookRepository.findSearchDocuments(2L, 2)).willReturn(List.of(
+                    new BookSearchDocument(3L, "Clean Architecture", "Robert C. Martin")));
+
+            // When
+            index.rebuild();
+
+            // Then
+            assertThat(index.isReady()).isTrue();
+            assertThat(index.size()).isEqualTo(3);
+            assertThat(index.searchByTitle("clean")).containsExactly(1L, 3L);
+        }
+
+        @Test
+        @DisplayName("재구축 전에는 검색에 사용할 수 없음")
+        void isReady_재구축전_false() {
+            assertThat(index.isReady()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("검색")
+    class SearchTest {
+
+        @BeforeEach
+        void setUpDocuments() {
+            index.index(new BookSearchDocument(1L, "Clean Code", "Robert C. Martin"));
+            index.index(new BookSearchDocument(2L, "Effective Java", "Joshua Bloch"));
+            index.index(new BookSearchDocument(3L, "Java Concurrency in Practice", "Brian Goetz"));
+        }
+
+        @Test
+        @DisplayName("대소문자 무시, 단어 접두어 일치")
+        void searchByTitle_접두어_매칭() {
+            assertThat(index.searchByTitle("JAV")).containsExactly(2L, 3L);
+            assertThat(index.searchByTitle("clea")).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("여러 단어는 모두 포함된 도서만 반환")
+        void searchByTitle_여러단어_교집합() {
+            assertThat(index.searchByTitle("java prac")).containsExactly(3L);
+            assertThat(index.searchByTitle("java clean")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("키워드 검색은 제목 또는 저자 일치")
+        void searchByKeyword_제목또는저자() {
+            index.index(new BookSearchDocument(4L, "Martin Fowler on Refactoring", "Kent Beck"));
+
+            assertThat(index.searchByKeyword("martin")).containsExactly(1L, 4L);
+            assertThat(index.searchByAuthor("martin")).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("검색 결과를 색인 문서 기준으로 정렬해 앞에서부터 limit개만 반환")
+        void top_정렬후_limit개반환() {
+            index.index(new BookSearchDocument(4L, "Java Puzzlers", "Joshua Bloch"));
+            index.index(new BookSearchDocument(5L, "Effective Java", "Joshua Bloch"));
+            long[] ids = index.searchByTitle("java");
+
+            // 제목 동률(Effective Java)은 ID 순
+            assertThat(index.top(ids, Comparator.comparing(BookSearchDocument::title), 3))
+                    .containsExactly(2L, 5L, 3L);
+            assertThat(index.top(ids, Comparator.comparing(BookSearchDocument::title), 10))
+                    .containsExactly(2L, 5L, 3L, 4L);
+            // 색인에서 제거된 ID는 제외
+            assertThat(index.top(new long[]{1L, 99L}, Comparator.comparing(BookSearchDocument::title), 10))
+                    .containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("검색어가 비어 있으면 빈 결과")
+        void searchByTitle_빈검색어_빈결과() {
+            assertThat(index.searchByTitle("  ")).isEmpty();
+            assertThat(index.searchByTitle("!!")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 갱신")
+    class IncrementalUpdateTest {
+
+        @Test
+        @DisplayName("도서 수정 시 이전 제목의 용어는 제거")
+        void onBookChanged_수정_이전용어제거() {
+            // Given
+            Book book = book(1L, "Clean Code");
+            index.onBookChanged(new BookChangedEvent(book, BookChangedEvent.ChangeType.CREATED));
+
+            // When
+            book.setTitle("Refactoring");
+            index.onBookChanged(new BookChangedEvent(book, BookChangedEvent.ChangeType.UPDATED));
+
+            // Then
+            assertThat(index.searchByTitle("clean")).isEmpty();
+            assertThat(index.searchByTitle("refactoring")).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("삭제된 도서는 색인에서 제거되고 복원 시 다시 색인")
+        void onBookChanged_삭제후복원() {
+            // Given
+            Book book = book(1L, "Clean Code");
+            index.onBookChanged(new BookChangedEvent(book, BookChangedEvent.ChangeType.CREATED));
+
+            // When & Then
+            book.markAsDeleted();
+            index.onBookChanged(new BookChangedEvent(book, BookChangedEvent.ChangeType.DELETED));
+            assertThat(index.searchByTitle("clean")).isEmpty();
+            assertThat(index.size()).isZero();
+
+            book.restore();
+            index.onBookChanged(new BookChangedEvent(book, BookChangedEvent.ChangeType.RESTORED));
+            assertThat(index.searchByTitle("clean")).containsExactly(1L);
+        }
+
+        private Book book(Long id, String title) {
+            return Book.builder()
+                    .id(id)
+                    .title(title)
+                    .author("Robert C. Martin")
+                    .isbn("9780132350884")
+                    .price(new BigDecimal("45.99"))
+                    .build();
+        }
+    }
+}
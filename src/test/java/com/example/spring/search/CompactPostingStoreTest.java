@@ -0,0 +1,61 @@
+package com.example.spring.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CompactPostingStore 테스트")
+class CompactPostingStoreTest {
+
+    @Test
+    @DisplayName("델타-가변길이 인코딩 후 디코딩하면 원래 ID 복원")
+    void encode_decode_원본복원() {
+        long[] ids = {1L, 2L, 130L, 20_000L, 5_000_000_000L};
+
+        byte[] encoded = CompactPostingStore.encode(ids);
+
+        assertThat(encoded.length).isLessThan(ids.length * Long.BYTES);
+        assertThat(CompactPostingStore.decode(encoded, ids.length)).containsExactly(ids);
+    }
+
+    @Test
+    @DisplayName("압축 전후 추가/삭제가 조회 결과에 반영")
+    void addRemove_압축전후_조회반영() {
+        CompactPostingStore store = new CompactPostingStore();
+        store.add("자바", 3L);
+        store.add("자바", 1L);
+        store.compactAll();
+        store.add("자바", 2L);
+        store.remove("자바", 3L);
+        store.add("자료", 5L);
+
+        assertThat(store.get("자바")).containsExactly(1L, 2L);
+        assertThat(store.getByPrefix("자")).containsExactly(1L, 2L, 5L);
+
+        store.compactAll();
+        assertThat(store.get("자바")).containsExactly(1L, 2L);
+        assertThat(store.get("없음")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("압축된 ID를 재색인(삭제 후 추가)한 뒤 삭제하면 포스팅이 남지 않음")
+    void reindexThenRemove_압축후_포스팅제거() {
+        CompactPostingStore store = new CompactPostingStore();
+        store.add("자바", 1L);
+        store.add("자바", 2L);
+        store.compactAll();
+
+        // 도서 수정 - BookSearchIndex.index()는 remove 후 add
+        store.remove("자바", 1L);
+        store.add("자바", 1L);
+        assertThat(store.get("자바")).containsExactly(1L, 2L);
+
+        // 도서 삭제
+        store.remove("자바", 1L);
+        store.remove("자바", 2L);
+
+        assertThat(store.get("자바")).isEmpty();
+        assertThat(store.termCount()).isZero();
+    }
+}
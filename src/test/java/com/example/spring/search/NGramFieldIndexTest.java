@@ -0,0 +1,110 @@
+package com.example.spring.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("NGramFieldIndex 테스트")
+class NGramFieldIndexTest {
+
+    private NGramFieldIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NGramFieldIndex(2);
+        index.add(1L, "자바의 정석");
+        index.add(2L, "이펙티브 자바");
+        index.add(3L, "자료구조와 알고리즘");
+        index.add(4L, "Clean Code");
+        index.compact();
+    }
+
+    @Nested
+    @DisplayName("부분 문자열 검색")
+    class SubstringTest {
+
+        @Test
+        @DisplayName("단어 중간의 부분 문자열로 검색")
+        void search_부분문자열_매칭() {
+            assertThat(index.search("바의")).containsExactly(1L);
+            assertThat(index.search("자바")).containsExactly(1L, 2L);
+            assertThat(index.search("lean co")).containsExactly(4L);
+        }
+
+        @Test
+        @DisplayName("대소문자와 공백 차이는 무시")
+        void search_정규화_매칭() {
+            assertThat(index.search("  CLEAN   code ")).containsExactly(4L);
+        }
+
+        @Test
+        @DisplayName("포함되지 않은 검색어는 빈 결과")
+        void search_매칭없음_빈결과() {
+            assertThat(index.search("파이썬")).isEmpty();
+            assertThat(index.search("   ")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("초성 및 입력 중인 음절 검색")
+    class HangulTest {
+
+        @Test
+        @DisplayName("초성만으로 검색")
+        void search_초성_매칭() {
+            assertThat(index.search("ㅈㅂ")).containsExactly(1L, 2L);
+            assertThat(index.search("ㅇㄱㄹㅈ")).containsExactly(3L);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"자ㅂ", "잡", "자바ㅇ", "자바의 저"})
+        @DisplayName("마지막 글자가 입력 중인 경우에도 매칭")
+        void search_입력중음절_매칭(String query) {
+            assertThat(index.search(query)).contains(1L);
+        }
+
+        @Test
+        @DisplayName("받침이 다음 글자의 초성으로 이어지지 않으면 매칭되지 않음")
+        void search_받침불일치_매칭없음() {
+            assertThat(index.search("잡ㄱ")).isEmpty();
+            assertThat(index.search("잗")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 갱신")
+    class UpdateTest {
+
+        @Test
+        @DisplayName("삭제된 도서는 검색되지 않음")
+        void remove_삭제후_검색제외() {
+            index.remove(1L, "자바의 정석");
+
+            assertThat(index.search("자바")).containsExactly(2L);
+            assertThat(index.search("ㅈㅅ")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("변경된 텍스트로 다시 색인하면 새 텍스트로 검색")
+        void add_재색인_새텍스트검색() {
+            index.remove(4L, "Clean Code");
+            index.add(4L, "클린 코드");
+
+            assertThat(index.search("clean")).isEmpty();
+            assertThat(index.search("ㅋㄹ")).containsExactly(4L);
+        }
+    }
+
+    @Test
+    @DisplayName("n-gram 크기는 2 또는 3만 허용")
+    void constructor_잘못된크기_예외발생() {
+        assertThatThrownBy(() -> new NGramFieldIndex(4))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
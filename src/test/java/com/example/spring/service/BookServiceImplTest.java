@@ -1,13 +1,25 @@
 package com.example.spring.service;
 
+import com.example.spring.cache.BookDetailCache;
+import com.example.spring.cache.IsbnFilter;
+import com.example.spring.cache.SingleFlight;
+import com.example.spring.config.BookstoreProperties;
 import com.example.spring.dto.request.CreateBookRequest;
 import com.example.spring.dto.request.UpdateBookRequest;
 import com.example.spring.dto.response.BookResponse;
+import com.example.spring.dto.response.CursorPage;
 import com.example.spring.entity.Book;
+import com.example.spring.event.BookChangedEvent;
 import com.example.spring.exception.BookException;
 import com.example.spring.exception.EntityNotFoundException;
+import com.example.spring.exception.InvalidCursorException;
 import com.example.spring.repository.BookRepository;
+import com.example.spring.repository.KeysetCursor;
+import com.example.spring.search.BookSearchIndex;
 import com.example.spring.service.impl.BookServiceImpl;
+import com.example.spring.statistics.BookCounts;
+import com.example.spring.statistics.BookStatisticsCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,15 +27,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -36,6 +55,23 @@ class BookServiceImplTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BookStatisticsCounter bookStatisticsCounter;
+
+    @Spy
+    private BookDetailCache bookDetailCache = new BookDetailCache(
+            new ConcurrentMapCacheManager(), new SingleFlight(new SimpleMeterRegistry()));
+
+    // 구축 전 필터 - 항상 DB로 확인
+    @Spy
+    private IsbnFilter isbnFilter = new IsbnFilter(null, new BookstoreProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private BookServiceImpl bookService;
 
@@ -104,6 +140,7 @@ class BookServiceImplTest {
 
             verify(bookRepository).existsByIsbn(createBookRequest.getIsbn());
             verify(bookRepository).save(any(Book.class));
+            verify(eventPublisher).publishEvent(any(BookChangedEvent.class));
         }
 
         @Test
@@ -202,7 +239,7 @@ class BookServiceImplTest {
         @DisplayName("ID로 활성 도서 조회 성공")
         void getBookById_활성도서_조회성공() {
             // Given
-            given(bookRepository.findById(1L)).willReturn(Optional.of(savedBook));
+            given(bookRepository.findActiveById(1L)).willReturn(Optional.of(savedBook));
 
             // When
             Optional<BookResponse> result = bookService.getBookById(1L);
@@ -214,34 +251,24 @@ class BookServiceImplTest {
         }
 
         @Test
-        @DisplayName("ID로 삭제된 도서 조회 시 빈 Optional 반환")
+        @DisplayName("ID로 삭제된 도서 조회 시 빈 Optional 반환 (삭제 여부는 DB에서 필터링)")
         void getBookById_삭제된도서_빈Optional반환() {
-            // Given
-            Book deletedBook = Book.builder()
-                    .id(1L)
-                    .title("Clean Code")
-                    .author("Robert C. Martin")
-                    .isbn("9780132350884")
-                    .price(new BigDecimal("45.99"))
-                    .available(true)
-                    .createdDate(LocalDateTime.now())
-                    .deletedDate(LocalDateTime.now())
-                    .build();
-
-            given(bookRepository.findById(1L)).willReturn(Optional.of(deletedBook));
+            // Given - 활성 도서 필터로 삭제된 도서는 조회되지 않음
+            given(bookRepository.findActiveById(1L)).willReturn(Optional.empty());
 
             // When
             Optional<BookResponse> result = bookService.getBookById(1L);
 
             // Then
             assertThat(result).isEmpty();
+            verify(bookRepository, never()).findById(anyLong());
         }
 
         @Test
         @DisplayName("존재하지 않는 ID로 도서 조회 시 빈 Optional 반환")
         void getBookById_존재하지않는ID_빈Optional반환() {
             // Given
-            given(bookRepository.findById(999L)).willReturn(Optional.empty());
+            given(bookRepository.findActiveById(999L)).willReturn(Optional.empty());
 
             // When
             Optional<BookResponse> result = bookService.getBookById(999L);
@@ -254,10 +281,10 @@ class BookServiceImplTest {
         @DisplayName("ISBN으로 도서 조회 성공")
         void getBookByIsbn_존재하는ISBN_조회성공() {
             // Given
-            given(bookRepository.findByIsbn("9780132350884")).willReturn(Optional.of(savedBook));
+            given(bookRepository.findActiveByIsbn("9780132350884")).willReturn(Optional.of(savedBook));
 
             // When
-            Optional<Book> result = bookService.getBookByIsbn("9780132350884");
+            Optional<BookResponse> result = bookService.getBookByIsbn("9780132350884");
 
             // Then
             assertThat(result).isPresent();
@@ -265,60 +292,119 @@ class BookServiceImplTest {
         }
 
         @Test
-        @DisplayName("모든 활성 도서 페이징 조회")
-        void getAllActiveBooks_페이징_활성도서페이지반환() {
+        @DisplayName("반복 조회는 캐시에서 반환 (ID/ISBN 공유)")
+        void getBookById_반복조회_캐시적중() {
             // Given
-            List<Book> activeBooks = List.of(savedBook, 
-                    Book.builder()
-                            .id(2L)
-                            .title("Effective Java")
-                            .author("Joshua Bloch")
-                            .isbn("9780134685991")
-                            .price(new BigDecimal("52.99"))
-                            .available(true)
-                            .createdDate(LocalDateTime.now())
-                            .build(),
-                    Book.builder()
-                            .id(3L)
-                            .title("Spring in Action")
-                            .author("Craig Walls")
-                            .isbn("9781617294945")
-                            .price(new BigDecimal("39.99"))
-                            .available(true)
-                            .createdDate(LocalDateTime.now())
-                            .build());
+            given(bookRepository.findActiveById(1L)).willReturn(Optional.of(savedBook));
 
-            given(bookRepository.findByDeletedDateIsNull()).willReturn(activeBooks);
-            Pageable pageable = PageRequest.of(0, 2);
+            // When
+            bookService.getBookById(1L);
+            Optional<BookResponse> byId = bookService.getBookById(1L);
+            Optional<BookResponse> byIsbn = bookService.getBookByIsbn("9780132350884");
+
+            // Then
+            assertThat(byId).isPresent();
+            assertThat(byIsbn).containsSame(byId.get());
+            verify(bookRepository, times(1)).findActiveById(1L);
+            verify(bookRepository, never()).findActiveByIsbn(anyString());
+        }
+
+        @Test
+        @DisplayName("도서 변경 이벤트 후에는 DB에서 다시 조회")
+        void getBookById_변경이벤트후_재조회() {
+            // Given
+            given(bookRepository.findActiveById(1L)).willReturn(Optional.of(savedBook));
+            bookService.getBookById(1L);
+
+            // When
+            bookDetailCache.onBookChanged(new BookChangedEvent(savedBook, BookChangedEvent.ChangeType.UPDATED));
+            bookService.getBookById(1L);
+
+            // Then
+            verify(bookRepository, times(2)).findActiveById(1L);
+        }
+
+        @Test
+        @DisplayName("모든 활성 도서 페이징 조회 - 정렬/페이징은 저장소에 위임")
+        void getAllActiveBooks_페이징_활성도서페이지반환() {
+            // Given
+            Book effectiveJava = Book.builder()
+                    .id(2L)
+                    .title("Effective Java")
+                    .author("Joshua Bloch")
+                    .isbn("9780134685991")
+                    .price(new BigDecimal("52.99"))
+                    .available(true)
+                    .createdDate(LocalDateTime.now())
+                    .build();
+            Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "price"));
+            given(bookRepository.findActiveBookResponses(null, null, null, null, null, pageable))
+                    .willReturn(new PageImpl<>(responses(effectiveJava, savedBook), pageable, 3));
 
             // When
-            Page<Book> result = bookService.getAllActiveBooks(pageable);
+            Page<BookResponse> result = bookService.getAllActiveBooks(pageable);
 
             // Then
             assertThat(result.getContent()).hasSize(2);
             assertThat(result.getTotalElements()).isEqualTo(3);
             assertThat(result.getTotalPages()).isEqualTo(2);
-            assertThat(result.getNumber()).isEqualTo(0);
-            assertThat(result.getContent()).extracting(Book::getTitle)
-                    .containsExactly("Clean Code", "Effective Java");
+            assertThat(result.getContent()).extracting(BookResponse::getTitle)
+                    .containsExactly("Effective Java", "Clean Code");
+            verify(bookRepository, never()).findByDeletedDateIsNull();
         }
 
         @Test
-        @DisplayName("빈 페이지 조회 - 범위 초과")
-        void getAllActiveBooks_페이지범위초과_빈페이지반환() {
+        @DisplayName("커서 기반 조회 - 다음 페이지가 있으면 마지막 도서 위치를 커서로 반환")
+        void getActiveBooksAfter_다음페이지존재_커서반환() {
             // Given
-            List<Book> activeBooks = List.of(savedBook);
-            given(bookRepository.findByDeletedDateIsNull()).willReturn(activeBooks);
-            Pageable pageable = PageRequest.of(1, 10); // 두 번째 페이지, 사이즈 10
+            LocalDateTime createdDate = LocalDateTime.of(2024, 1, 1, 12, 0);
+            KeysetCursor cursor = KeysetCursor.of(createdDate.plusDays(1), 10L);
+            Book first = Book.builder().id(9L).title("A").author("가").isbn("9780000000009")
+                    .price(BigDecimal.TEN).createdDate(createdDate).build();
+            Book second = Book.builder().id(8L).title("B").author("나").isbn("9780000000008")
+                    .price(BigDecimal.TEN).createdDate(createdDate).build();
+            given(bookRepository.findActiveBooksAfter(cursor, 2)).willReturn(List.of(first, second));
 
             // When
-            Page<Book> result = bookService.getAllActiveBooks(pageable);
+            CursorPage<BookResponse> result = bookService.getActiveBooksAfter(cursor.encode(), 1);
 
             // Then
-            assertThat(result.getContent()).isEmpty();
-            assertThat(result.getTotalElements()).isEqualTo(1);
-            assertThat(result.getTotalPages()).isEqualTo(1);
-            assertThat(result.getNumber()).isEqualTo(1);
+            assertThat(result.getContent()).extracting(BookResponse::getId).containsExactly(9L);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(KeysetCursor.decode(result.getNextCursor()))
+                    .isEqualTo(KeysetCursor.of(createdDate, 9L));
+        }
+
+        @Test
+        @DisplayName("커서 기반 조회 - 마지막 페이지는 다음 커서 없음")
+        void getActiveBooksAfter_마지막페이지_커서없음() {
+            // Given
+            given(bookRepository.findActiveBooksAfter(null, 11)).willReturn(List.of(savedBook));
+
+            // When
+            CursorPage<BookResponse> result = bookService.getActiveBooksAfter("", 10);
+
+            // Then
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("커서 기반 조회 - 잘못된 커서는 예외 발생")
+        void getActiveBooksAfter_잘못된커서_예외발생() {
+            // When & Then
+            assertThatThrownBy(() -> bookService.getActiveBooksAfter("not-a-cursor", 10))
+                    .isInstanceOf(InvalidCursorException.class);
+        }
+
+        @Test
+        @DisplayName("커서 기반 조회 - 정렬 시각이 없는 커서(회원 목록 커서 등)는 예외 발생")
+        void getActiveBooksAfter_시각없는커서_예외발생() {
+            // When & Then
+            assertThatThrownBy(() -> bookService.getActiveBooksAfter(KeysetCursor.ofId(123L).encode(), 10))
+                    .isInstanceOf(InvalidCursorException.class);
+            verify(bookRepository, never()).findActiveBooksAfter(any(), anyInt());
         }
     }
 
@@ -407,6 +493,9 @@ class BookServiceImplTest {
             // Then
             verify(bookRepository).findById(1L);
             verify(bookRepository).save(savedBook);
+            verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof BookChangedEvent changed
+                    && changed.getChangeType() == BookChangedEvent.ChangeType.DELETED
+                    && Boolean.TRUE.equals(changed.getPreviousAvailable())));
         }
 
         @Test
@@ -497,10 +586,10 @@ class BookServiceImplTest {
         void searchByTitle_유효한제목_검색성공() {
             // Given
             List<Book> books = List.of(savedBook);
-            given(bookRepository.findByTitleContaining("Clean")).willReturn(books);
+            given(bookRepository.findActiveByTitleContaining("Clean", 20)).willReturn(books);
 
             // When
-            List<Book> result = bookService.searchByTitle("Clean");
+            List<BookResponse> result = bookService.searchByTitle("Clean", 20);
 
             // Then
             assertThat(result).hasSize(1);
@@ -512,10 +601,10 @@ class BookServiceImplTest {
         void searchByAuthor_유효한저자_검색성공() {
             // Given
             List<Book> books = List.of(savedBook);
-            given(bookRepository.findByAuthorContaining("Martin")).willReturn(books);
+            given(bookRepository.findActiveByAuthorContaining("Martin", 20)).willReturn(books);
 
             // When
-            List<Book> result = bookService.searchByAuthor("Martin");
+            List<BookResponse> result = bookService.searchByAuthor("Martin", 20);
 
             // Then
             assertThat(result).hasSize(1);
@@ -527,27 +616,88 @@ class BookServiceImplTest {
         void searchByKeyword_유효한키워드_검색성공() {
             // Given
             List<Book> books = List.of(savedBook);
-            given(bookRepository.findByTitleContainingOrAuthorContaining("Clean", "Clean")).willReturn(books);
+            given(bookRepository.findActiveByTitleContainingOrAuthorContaining("Clean", "Clean", 20)).willReturn(books);
 
             // When
-            List<Book> result = bookService.searchByKeyword("Clean");
+            List<BookResponse> result = bookService.searchByKeyword("Clean", 20);
 
             // Then
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getTitle()).contains("Clean");
         }
 
+        @Test
+        @DisplayName("검색 색인이 준비된 경우 색인 결과로 제목 검색")
+        void searchByTitle_색인준비됨_색인결과반환() {
+            // Given
+            Book cleanArchitecture = Book.builder()
+                    .id(3L)
+                    .title("Clean Architecture")
+                    .author("Robert C. Martin")
+                    .isbn("9780134494166")
+                    .price(new BigDecimal("48.99"))
+                    .build();
+            given(bookSearchIndex.isReady()).willReturn(true);
+            given(bookSearchIndex.searchByTitle("clean")).willReturn(new long[]{1L, 3L});
+            given(bookSearchIndex.top(any(long[].class), any(), eq(20))).willReturn(new long[]{3L, 1L});
+            given(bookRepository.findActiveResponsesByIdIn(List.of(3L, 1L)))
+                    .willReturn(responses(savedBook, cleanArchitecture));
+
+            // When
+            List<BookResponse> result = bookService.searchByTitle("clean", 20);
+
+            // Then - 제목순 정렬
+            assertThat(result).extracting(BookResponse::getTitle)
+                    .containsExactly("Clean Architecture", "Clean Code");
+            verify(bookRepository, never()).findActiveByTitleContaining(anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("색인 결과가 많으면 최대 결과 수만큼 잘라낸 ID만 DB에서 조회")
+        void searchByKeyword_색인결과많음_잘라낸ID만조회() {
+            // Given
+            long[] ids = LongStream.rangeClosed(1, 1_000).toArray();
+            given(bookSearchIndex.isReady()).willReturn(true);
+            given(bookSearchIndex.searchByKeyword("java")).willReturn(ids);
+            given(bookSearchIndex.top(any(long[].class), any(), eq(BookService.MAX_SEARCH_RESULTS)))
+                    .willReturn(new long[]{1L});
+            given(bookRepository.findActiveResponsesByIdIn(List.of(1L))).willReturn(responses(savedBook));
+
+            // When - 상한을 넘는 요청은 상한으로 보정
+            List<BookResponse> result = bookService.searchByKeyword("java", 10_000);
+
+            // Then
+            assertThat(result).hasSize(1);
+            verify(bookSearchIndex).top(eq(ids), any(), eq(BookService.MAX_SEARCH_RESULTS));
+        }
+
+        @Test
+        @DisplayName("검색 색인 결과가 없으면 DB 조회 없이 빈 목록 반환")
+        void searchByKeyword_색인결과없음_빈목록반환() {
+            // Given
+            given(bookSearchIndex.isReady()).willReturn(true);
+            given(bookSearchIndex.searchByKeyword("Kotlin")).willReturn(new long[0]);
+
+            // When
+            List<BookResponse> result = bookService.searchByKeyword("Kotlin", 20);
+
+            // Then
+            assertThat(result).isEmpty();
+            verifyNoMoreInteractions(bookRepository);
+        }
+
         @Test
         @DisplayName("가격 범위로 검색 성공")
         void searchByPriceRange_유효한범위_검색성공() {
             // Given
             BigDecimal minPrice = new BigDecimal("40.00");
             BigDecimal maxPrice = new BigDecimal("50.00");
-            List<Book> books = List.of(savedBook);
-            given(bookRepository.findByPriceBetween(minPrice, maxPrice)).willReturn(books);
+            given(bookRepository.findActiveBookResponses(null, null, minPrice, maxPrice, null,
+                    Pageable.unpaged(Sort.by(Sort.Direction.ASC, "price"))))
+                    .willReturn(new PageImpl<>(responses(savedBook)));
 
             // When
-            List<Book> result = bookService.searchByPriceRange(minPrice, maxPrice);
+            List<BookResponse> result = bookService.searchByPriceRange(minPrice, maxPrice);
 
             // Then
             assertThat(result).hasSize(1);
@@ -571,17 +721,8 @@ class BookServiceImplTest {
         @DisplayName("복합 조건으로 도서 검색 - 페이징")
         void searchBooksWithFilters_복합조건_페이징검색성공() {
             // Given
-            List<Book> allActiveBooks = List.of(
+            List<BookResponse> filteredBooks = responses(
                     savedBook, // Clean Code, Robert C. Martin, 45.99
-                    Book.builder()
-                            .id(2L)
-                            .title("Effective Java")
-                            .author("Joshua Bloch")
-                            .isbn("9780134685991")
-                            .price(new BigDecimal("52.99"))
-                            .available(true)
-                            .createdDate(LocalDateTime.now())
-                            .build(),
                     Book.builder()
                             .id(3L)
                             .title("Clean Architecture")
@@ -590,34 +731,39 @@ class BookServiceImplTest {
                             .price(new BigDecimal("48.99"))
                             .available(true)
                             .createdDate(LocalDateTime.now())
-                            .build()
-            );
-
-            given(bookRepository.findByDeletedDateIsNull()).willReturn(allActiveBooks);
+                            .build());
             Pageable pageable = PageRequest.of(0, 2);
 
+            given(bookRepository.findActiveBookResponses(
+                    "Clean", "Martin", new BigDecimal("40.00"), new BigDecimal("50.00"), true, pageable))
+                    .willReturn(new PageImpl<>(filteredBooks, pageable, 2));
+
             // When - "Clean"이 포함된 제목, Martin 저자, 40-50 가격 범위
-            Page<Book> result = bookService.searchBooksWithFilters(
+            Page<BookResponse> result = bookService.searchBooksWithFilters(
                     "Clean", "Martin", new BigDecimal("40.00"), new BigDecimal("50.00"), true, pageable);
 
             // Then
             assertThat(result.getContent()).hasSize(2);  // Clean Code, Clean Architecture
             assertThat(result.getTotalElements()).isEqualTo(2);
             assertThat(result.getTotalPages()).isEqualTo(1);
-            assertThat(result.getContent()).extracting(Book::getTitle)
+            assertThat(result.getContent()).extracting(BookResponse::getTitle)
                     .containsExactly("Clean Code", "Clean Architecture");
+
+            // 전체 활성 도서를 메모리로 읽어오지 않음
+            verify(bookRepository, never()).findByDeletedDateIsNull();
         }
 
         @Test
         @DisplayName("복합 조건 검색 - 조건에 맞는 결과 없음")
         void searchBooksWithFilters_조건불일치_빈페이지반환() {
             // Given
-            List<Book> allActiveBooks = List.of(savedBook);
-            given(bookRepository.findByDeletedDateIsNull()).willReturn(allActiveBooks);
             Pageable pageable = PageRequest.of(0, 10);
+            given(bookRepository.findActiveBookResponses(
+                    null, "NonExistentAuthor", null, null, null, pageable))
+                    .willReturn(Page.empty(pageable));
 
             // When - 존재하지 않는 저자로 검색
-            Page<Book> result = bookService.searchBooksWithFilters(
+            Page<BookResponse> result = bookService.searchBooksWithFilters(
                     null, "NonExistentAuthor", null, null, null, pageable);
 
             // Then
@@ -630,7 +776,7 @@ class BookServiceImplTest {
         @DisplayName("복합 조건으로 도서 검색 (JPQL Query 버전) - 페이징")
         void searchBooksWithQueryFilters_복합조건_JPQL검색성공() {
             // Given
-            List<Book> filteredBooks = List.of(
+            List<BookResponse> filteredBooks = responses(
                     savedBook, // Clean Code, Robert C. Martin, 45.99
                     Book.builder()
                             .id(3L)
@@ -640,71 +786,50 @@ class BookServiceImplTest {
                             .price(new BigDecimal("48.99"))
                             .available(true)
                             .createdDate(LocalDateTime.now())
-                            .build()
-            );
-
-            given(bookRepository.searchBooksWithQueryFilters(
-                    eq("Clean"), eq("Martin"),
-                    eq(new BigDecimal("40.00")), eq(new BigDecimal("50.00")),
-                    eq(true), eq(0), eq(2)
-            )).willReturn(filteredBooks);
+                            .build());
 
-            given(bookRepository.countBooksWithQueryFilters(
+            Pageable pageable = PageRequest.of(0, 2);
+            given(bookRepository.searchBookResponsesCounted(
                     eq("Clean"), eq("Martin"),
                     eq(new BigDecimal("40.00")), eq(new BigDecimal("50.00")),
-                    eq(true)
-            )).willReturn(2L);
-
-            Pageable pageable = PageRequest.of(0, 2);
+                    eq(true), eq(pageable)
+            )).willReturn(new PageImpl<>(filteredBooks, pageable, 2));
 
             // When - "Clean"이 포함된 제목, Martin 저자, 40-50 가격 범위
-            Page<Book> result = bookService.searchBooksWithQueryFilters(
+            Page<BookResponse> result = bookService.searchBooksWithQueryFilters(
                     "Clean", "Martin", new BigDecimal("40.00"), new BigDecimal("50.00"), true, pageable);
 
             // Then
             assertThat(result.getContent()).hasSize(2);  // Clean Code, Clean Architecture
             assertThat(result.getTotalElements()).isEqualTo(2);
             assertThat(result.getTotalPages()).isEqualTo(1);
-            assertThat(result.getContent()).extracting(Book::getTitle)
+            assertThat(result.getContent()).extracting(BookResponse::getTitle)
                     .containsExactly("Clean Code", "Clean Architecture");
 
-            verify(bookRepository).searchBooksWithQueryFilters(
-                    eq("Clean"), eq("Martin"),
-                    eq(new BigDecimal("40.00")), eq(new BigDecimal("50.00")),
-                    eq(true), eq(0), eq(2));
-            verify(bookRepository).countBooksWithQueryFilters(
-                    eq("Clean"), eq("Martin"),
-                    eq(new BigDecimal("40.00")), eq(new BigDecimal("50.00")),
-                    eq(true));
+            // 페이지 내용과 전체 건수를 한 번에 조회 (별도 COUNT 쿼리 없음)
+            verify(bookRepository, never()).findActiveBookResponses(
+                    any(), any(), any(), any(), any(), any());
         }
 
         @Test
         @DisplayName("복합 조건 검색 (JPQL Query 버전) - 조건 없이 전체 조회")
         void searchBooksWithQueryFilters_조건없음_전체조회() {
             // Given
-            List<Book> allBooks = List.of(savedBook);
-            given(bookRepository.searchBooksWithQueryFilters(
-                    isNull(), isNull(), isNull(), isNull(), isNull(), eq(0), eq(10)
-            )).willReturn(allBooks);
-
-            given(bookRepository.countBooksWithQueryFilters(
-                    isNull(), isNull(), isNull(), isNull(), isNull()
-            )).willReturn(1L);
-
             Pageable pageable = PageRequest.of(0, 10);
+            given(bookRepository.searchBookResponsesCounted(
+                    isNull(), isNull(), isNull(), isNull(), isNull(), eq(pageable)
+            )).willReturn(new PageImpl<>(responses(savedBook), pageable, 1));
 
             // When
-            Page<Book> result = bookService.searchBooksWithQueryFilters(
+            Page<BookResponse> result = bookService.searchBooksWithQueryFilters(
                     null, null, null, null, null, pageable);
 
             // Then
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getTotalElements()).isEqualTo(1);
 
-            verify(bookRepository).searchBooksWithQueryFilters(
-                    isNull(), isNull(), isNull(), isNull(), isNull(), eq(0), eq(10));
-            verify(bookRepository).countBooksWithQueryFilters(
-                    isNull(), isNull(), isNull(), isNull(), isNull());
+            verify(bookRepository).searchBookResponsesCounted(
+                    isNull(), isNull(), isNull(), isNull(), isNull(), eq(pageable));
         }
     }
 
@@ -716,11 +841,12 @@ class BookServiceImplTest {
         @DisplayName("재고 상태별 도서 조회")
         void getBooksByAvailability_재고상태_조회성공() {
             // Given
-            List<Book> availableBooks = List.of(savedBook);
-            given(bookRepository.findByAvailable(true)).willReturn(availableBooks);
+            given(bookRepository.findActiveBookResponses(null, null, null, null, true,
+                    Pageable.unpaged(Sort.by(Sort.Direction.DESC, "createdDate"))))
+                    .willReturn(new PageImpl<>(responses(savedBook)));
 
             // When
-            List<Book> result = bookService.getBooksByAvailability(true);
+            List<BookResponse> result = bookService.getBooksByAvailability(true);
 
             // Then
             assertThat(result).hasSize(1);
@@ -740,6 +866,7 @@ class BookServiceImplTest {
             // Then
             assertThat(result).isNotNull();
             verify(bookRepository).save(savedBook);
+            verify(eventPublisher).publishEvent(any(BookChangedEvent.class));
         }
     }
 
@@ -748,32 +875,31 @@ class BookServiceImplTest {
     class StatisticsTest {
 
         @Test
-        @DisplayName("전체 도서 수 조회")
+        @DisplayName("전체 도서 수 조회 - 전체 목록을 조회하지 않고 카운터 사용")
         void getTotalBooksCount_전체도서수_반환() {
             // Given
-            List<Book> allBooks = List.of(savedBook, 
-                    Book.builder().id(2L).title("Test").author("Test").isbn("123").price(BigDecimal.TEN).build());
-            given(bookRepository.findAll()).willReturn(allBooks);
+            given(bookStatisticsCounter.snapshot()).willReturn(new BookCounts(2L, 1L, 1L));
 
             // When
             long count = bookService.getTotalBooksCount();
 
             // Then
             assertThat(count).isEqualTo(2L);
+            verify(bookRepository, never()).findAll();
         }
 
         @Test
         @DisplayName("활성 도서 수 조회")
         void getActiveBooksCount_활성도서수_반환() {
             // Given
-            List<Book> activeBooks = List.of(savedBook);
-            given(bookRepository.findByDeletedDateIsNull()).willReturn(activeBooks);
+            given(bookStatisticsCounter.snapshot()).willReturn(new BookCounts(2L, 1L, 1L));
 
             // When
             long count = bookService.getActiveBooksCount();
 
             // Then
             assertThat(count).isEqualTo(1L);
+            verify(bookRepository, never()).findByDeletedDateIsNull();
         }
 
         @Test
@@ -788,5 +914,23 @@ class BookServiceImplTest {
             // Then
             assertThat(exists).isTrue();
         }
+
+        @Test
+        @DisplayName("블룸 필터 음성이면 DB 조회 없이 false")
+        void isIsbnExists_필터음성_DB조회생략() {
+            // Given
+            given(isbnFilter.mightContain("9780132350884")).willReturn(false);
+
+            // When
+            boolean exists = bookService.isIsbnExists("9780132350884");
+
+            // Then
+            assertThat(exists).isFalse();
+            verify(bookRepository, never()).existsByIsbn(anyString());
+        }
+    }
+
+    private static List<BookResponse> responses(Book... books) {
+        return Arrays.stream(books).map(BookResponse::from).toList();
     }
-}
\ No newline at end of file
+}
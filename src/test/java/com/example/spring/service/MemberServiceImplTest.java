@@ -1,19 +1,30 @@
 package com.example.spring.service;
 
+import com.example.spring.cache.EmailFilter;
+import com.example.spring.cache.MemberLoanLimitCache;
+import com.example.spring.cache.SingleFlight;
+import com.example.spring.config.BookstoreProperties;
 import com.example.spring.dto.request.CreateMemberRequest;
 import com.example.spring.dto.request.UpdateMemberRequest;
+import com.example.spring.dto.response.CursorPage;
+import com.example.spring.dto.response.LoanResponse;
 import com.example.spring.dto.response.MemberLoanLimitInfo;
 import com.example.spring.dto.response.MemberResponse;
+import com.example.spring.entity.Book;
+import com.example.spring.entity.Loan;
 import com.example.spring.entity.Member;
 import com.example.spring.entity.MembershipType;
+import com.example.spring.event.LoanChangedEvent;
 import com.example.spring.event.MemberRegisteredEvent;
 import com.example.spring.event.MembershipUpgradedEvent;
 import com.example.spring.exception.DuplicateEmailException;
 import com.example.spring.exception.EntityNotFoundException;
 import com.example.spring.exception.MembershipUpgradeException;
+import com.example.spring.repository.KeysetCursor;
 import com.example.spring.repository.LoanRepository;
 import com.example.spring.repository.MemberRepository;
 import com.example.spring.service.impl.MemberServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,13 +32,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,6 +62,19 @@ class MemberServiceImplTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
+    @Spy
+    private BookstoreProperties properties = new BookstoreProperties();
+
+    // 구축 전 필터 - 항상 DB로 확인
+    @Spy
+    private EmailFilter emailFilter = new EmailFilter(null, new BookstoreProperties(), new SimpleMeterRegistry());
+
+    @Spy
+    private MemberLoanLimitCache memberLoanLimitCache = new MemberLoanLimitCache(new ConcurrentMapCacheManager());
+
     @InjectMocks
     private MemberServiceImpl memberService;
 
@@ -396,6 +423,20 @@ class MemberServiceImplTest {
             assertThat(result).isFalse();
             verify(memberRepository).existsByEmail("existing@example.com");
         }
+
+        @Test
+        @DisplayName("블룸 필터 음성이면 DB 조회 없이 사용 가능")
+        void validateEmailDuplicate_필터음성_DB조회생략() {
+            // given
+            given(emailFilter.mightContain("new@example.com")).willReturn(false);
+
+            // when
+            boolean result = memberService.validateEmailDuplicate("new@example.com");
+
+            // then
+            assertThat(result).isTrue();
+            verify(memberRepository, never()).existsByEmail(anyString());
+        }
     }
 
     @Nested
@@ -407,7 +448,7 @@ class MemberServiceImplTest {
         void getMemberLoanLimitInfo_RegularMember_Success() {
             // given
             given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(1L)).willReturn(List.of());
+            given(loanRepository.countByMemberIdAndReturnDateIsNull(1L)).willReturn(0L);
 
             // when
             MemberLoanLimitInfo info = memberService.getMemberLoanLimitInfo(1L);
@@ -423,7 +464,7 @@ class MemberServiceImplTest {
             assertThat(info.isCanLoan()).isTrue();
 
             verify(memberRepository).findById(1L);
-            verify(loanRepository).findByMemberIdAndReturnDateIsNull(1L);
+            verify(loanRepository).countByMemberIdAndReturnDateIsNull(1L);
         }
 
         @Test
@@ -439,7 +480,7 @@ class MemberServiceImplTest {
                     .build();
 
             given(memberRepository.findById(2L)).willReturn(Optional.of(premiumMember));
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(2L)).willReturn(List.of());
+            given(loanRepository.countByMemberIdAndReturnDateIsNull(2L)).willReturn(0L);
 
             // when
             MemberLoanLimitInfo info = memberService.getMemberLoanLimitInfo(2L);
@@ -464,7 +505,7 @@ class MemberServiceImplTest {
                     .build();
 
             given(memberRepository.findById(3L)).willReturn(Optional.of(suspendedMember));
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(3L)).willReturn(List.of());
+            given(loanRepository.countByMemberIdAndReturnDateIsNull(3L)).willReturn(0L);
 
             // when
             MemberLoanLimitInfo info = memberService.getMemberLoanLimitInfo(3L);
@@ -473,6 +514,45 @@ class MemberServiceImplTest {
             assertThat(info.getMaxLoanCount()).isEqualTo(0);
             assertThat(info.isCanLoan()).isFalse();
         }
+
+        @Test
+        @DisplayName("반복 조회는 캐시에서 반환하고, 대여 변경 이벤트 후에는 다시 집계")
+        void getMemberLoanLimitInfo_반복조회_캐시적중_대여변경시무효화() {
+            // given
+            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
+            given(loanRepository.countByMemberIdAndReturnDateIsNull(1L)).willReturn(0L, 1L);
+
+            // when
+            memberService.getMemberLoanLimitInfo(1L);
+            MemberLoanLimitInfo cached = memberService.getMemberLoanLimitInfo(1L);
+            memberLoanLimitCache.onLoanChanged(new LoanChangedEvent(100L, 1L));
+            MemberLoanLimitInfo reloaded = memberService.getMemberLoanLimitInfo(1L);
+
+            // then
+            assertThat(cached.getCurrentLoanCount()).isEqualTo(0);
+            assertThat(reloaded.getCurrentLoanCount()).isEqualTo(1);
+            assertThat(reloaded.getRemainingLoanCount()).isEqualTo(4);
+            verify(loanRepository, times(2)).countByMemberIdAndReturnDateIsNull(1L);
+            verify(loanRepository, never()).findByMemberIdAndReturnDateIsNull(anyLong());
+        }
+
+        @Test
+        @DisplayName("멤버십 변경 이벤트 후에는 변경된 최대 권수로 다시 계산")
+        void getMemberLoanLimitInfo_멤버십변경이벤트_무효화() {
+            // given
+            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
+            given(loanRepository.countByMemberIdAndReturnDateIsNull(1L)).willReturn(0L);
+            memberService.getMemberLoanLimitInfo(1L);
+
+            // when
+            testMember.setMembershipType(MembershipType.PREMIUM);
+            memberLoanLimitCache.onMembershipUpgraded(
+                    new MembershipUpgradedEvent(testMember, MembershipType.REGULAR, MembershipType.PREMIUM));
+            MemberLoanLimitInfo info = memberService.getMemberLoanLimitInfo(1L);
+
+            // then
+            assertThat(info.getMaxLoanCount()).isEqualTo(10);
+        }
     }
 
     @Nested
@@ -480,21 +560,88 @@ class MemberServiceImplTest {
     class FindAllMembersTest {
 
         @Test
-        @DisplayName("페이지네이션을 통한 전체 회원 조회")
+        @DisplayName("페이지네이션을 통한 전체 회원 조회 - DB에서 한 페이지만 조회")
         void findAllMembers_WithPagination_Success() {
             // given
-            List<Member> members = List.of(testMember);
             Pageable pageable = PageRequest.of(0, 20);
-            given(memberRepository.findAll()).willReturn(members);
+            given(memberRepository.findMemberResponses(pageable)).willReturn(List.of(MemberResponse.from(testMember)));
 
             // when
             Page<MemberResponse> responses = memberService.findAllMembers(pageable);
 
-            // then
+            // then - 첫 페이지가 가득 차지 않았으므로 COUNT 생략
             assertThat(responses.getContent()).hasSize(1);
             assertThat(responses.getContent().get(0).getId()).isEqualTo(testMember.getId());
+            assertThat(responses.getTotalElements()).isEqualTo(1);
+
+            verify(memberRepository, never()).findAll();
+            verify(memberRepository, never()).countUpTo(anyLong());
+        }
+
+        @Test
+        @DisplayName("전체 건수는 상한까지만 집계하되 다음 페이지 존재 여부는 유지")
+        void findAllMembers_건수상한_다음페이지유지() {
+            // given - 상한(10,000)보다 깊은 페이지
+            Pageable pageable = PageRequest.of(600, 20);
+            List<MemberResponse> page = Collections.nCopies(20, MemberResponse.from(testMember));
+            given(memberRepository.findMemberResponses(pageable)).willReturn(page);
+            given(memberRepository.countUpTo(12_021L)).willReturn(12_021L);
+
+            // when
+            Page<MemberResponse> responses = memberService.findAllMembers(pageable);
+
+            // then
+            assertThat(responses.hasNext()).isTrue();
+            verify(memberRepository).countUpTo(12_021L);
+        }
+
+        @Test
+        @DisplayName("커서 기반 회원 조회")
+        void findMembersAfter_커서전달_다음페이지반환() {
+            // given
+            KeysetCursor cursor = KeysetCursor.ofId(5L);
+            given(memberRepository.findMemberResponsesAfter(cursor, 21)).willReturn(List.of(MemberResponse.from(testMember)));
+
+            // when
+            CursorPage<MemberResponse> responses = memberService.findMembersAfter(cursor.encode(), 20);
+
+            // then
+            assertThat(responses.getContent()).extracting(MemberResponse::getId).containsExactly(1L);
+            assertThat(responses.isHasNext()).isFalse();
+            assertThat(responses.getNextCursor()).isNull();
+        }
 
-            verify(memberRepository).findAll();
+        @Test
+        @DisplayName("회원 대여 이력 커서 조회 - size + 1 건으로 다음 페이지 판단")
+        void findMemberLoansAfter_다음페이지존재_커서반환() {
+            // given
+            Book book = Book.builder().id(7L).title("Clean Code").build();
+            List<Loan> loans = List.of(
+                    Loan.builder().id(30L).member(testMember).book(book).loanDate(LocalDateTime.now()).build(),
+                    Loan.builder().id(20L).member(testMember).book(book).loanDate(LocalDateTime.now()).build());
+            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
+            given(loanRepository.findByMemberIdAfter(1L, null, 2)).willReturn(loans);
+
+            // when
+            CursorPage<LoanResponse> responses = memberService.findMemberLoansAfter(1L, "", 1);
+
+            // then
+            assertThat(responses.getContent()).extracting(LoanResponse::getId, LoanResponse::getTitle)
+                    .containsExactly(tuple(30L, "Clean Code"));
+            assertThat(responses.isHasNext()).isTrue();
+            assertThat(KeysetCursor.decode(responses.getNextCursor())).isEqualTo(KeysetCursor.ofId(30L));
+        }
+
+        @Test
+        @DisplayName("회원 대여 이력 커서 조회 - 없는 회원은 예외 발생")
+        void findMemberLoansAfter_없는회원_예외발생() {
+            // given
+            given(memberRepository.findById(999L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> memberService.findMemberLoansAfter(999L, "", 20))
+                    .isInstanceOf(EntityNotFoundException.class);
+            verify(loanRepository, never()).findByMemberIdAfter(anyLong(), any(), anyInt());
         }
     }
-}
\ No newline at end of file
+}
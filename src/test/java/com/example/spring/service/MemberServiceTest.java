@@ -1,5 +1,9 @@
 package com.example.spring.service;
 
+import com.example.spring.cache.EmailFilter;
+import com.example.spring.cache.MemberLoanLimitCache;
+import com.example.spring.cache.SingleFlight;
+import com.example.spring.config.BookstoreProperties;
 import com.example.spring.dto.request.CreateMemberRequest;
 import com.example.spring.dto.request.UpdateMemberRequest;
 import com.example.spring.dto.response.MemberLoanLimitInfo;
@@ -14,13 +18,16 @@ import com.example.spring.exception.MembershipUpgradeException;
 import com.example.spring.repository.LoanRepository;
 import com.example.spring.repository.MemberRepository;
 import com.example.spring.service.impl.MemberServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
@@ -47,6 +54,16 @@ class MemberServiceTest {
     
     @Mock
     private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
+    // 구축 전 필터 - 항상 DB로 확인
+    @Spy
+    private EmailFilter emailFilter = new EmailFilter(null, new BookstoreProperties(), new SimpleMeterRegistry());
+
+    @Spy
+    private MemberLoanLimitCache memberLoanLimitCache = new MemberLoanLimitCache(new ConcurrentMapCacheManager());
     
     @InjectMocks
     private MemberServiceImpl memberService;
@@ -269,7 +286,7 @@ class MemberServiceTest {
                 .build();
 
         given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
-        given(loanRepository.findByMemberIdAndReturnDateIsNull(memberId)).willReturn(List.of()); // 대여 중인 도서 없음
+        given(loanRepository.countByMemberIdAndReturnDateIsNull(memberId)).willReturn(0L); // 대여 중인 도서 없음
 
         // When
         MemberLoanLimitInfo info = memberService.getMemberLoanLimitInfo(memberId);
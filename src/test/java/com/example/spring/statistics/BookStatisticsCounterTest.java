@@ -0,0 +1,174 @@
+package com.example.spring.statistics;
+
+import com.example.spring.entity.Book;
+import com.example.spring.event.BookChangedEvent;
+import com.example.spring.event.BookChangedEvent.ChangeType;
+import com.example.spring.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookStatisticsCounter 테스트")
+class BookStatisticsCounterTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @InjectMocks
+    private BookStatisticsCounter counter;
+
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        book = Book.builder()
+                .id(1L)
+                .title("Clean Code")
+                .author("Robert C. Martin")
+                .isbn("9780132350884")
+                .price(new BigDecimal("45.99"))
+                .available(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("최초 조회 시 COUNT 쿼리로 초기화하고 이후에는 캐시된 카운터 반환")
+    void snapshot_최초조회_COUNT초기화() {
+        // Given
+        given(bookRepository.countBooks()).willReturn(new BookCounts(10L, 8L, 5L));
+
+        // When
+        counter.snapshot();
+        BookCounts counts = counter.snapshot();
+
+        // Then
+        assertThat(counts).isEqualTo(new BookCounts(10L, 8L, 5L));
+        assertThat(counts.deleted()).isEqualTo(2L);
+        verify(bookRepository, times(1)).countBooks();
+    }
+
+    @Test
+    @DisplayName("생성/삭제/복원/재고 변경 이벤트로 카운터 증분 갱신")
+    void onBookChanged_변경이벤트_카운터갱신() {
+        // Given
+        given(bookRepository.countBooks()).willReturn(new BookCounts(10L, 8L, 5L));
+        counter.reconcile();
+
+        // When & Then
+        counter.onBookChanged(new BookChangedEvent(book, ChangeType.CREATED));
+        assertThat(counter.snapshot()).isEqualTo(new BookCounts(11L, 9L, 6L));
+
+        book.setAvailable(false);
+        counter.onBookChanged(new BookChangedEvent(book, ChangeType.AVAILABILITY_CHANGED, true));
+        assertThat(counter.snapshot()).isEqualTo(new BookCounts(11L, 9L, 5L));
+
+        // 재고 상태가 바뀌지 않은 수정은 영향 없음
+        counter.onBookChanged(new BookChangedEvent(book, ChangeType.UPDATED, false));
+        assertThat(counter.snapshot()).isEqualTo(new BookCounts(11L, 9L, 5L));
+
+        // markAsDeleted가 재고 상태도 false로 바꾸므로 삭제 전 재고 상태로 차감
+        book.setAvailable(true);
+        counter.onBookChanged(new BookChangedEvent(book, ChangeType.AVAILABILITY_CHANGED, false));
+        assertThat(counter.snapshot()).isEqualTo(new BookCounts(11L, 9L, 6L));
+
+        Boolean previousAvailable = book.getAvailable();
+        book.markAsDeleted();
+        counter.onBookChanged(new BookChangedEvent(book, ChangeType.DELETED, previousAvailable));
+        assertThat(counter.snapshot()).isEqualTo(new BookCounts(11L, 8L, 5L));
+
+        book.restore();
+        counter.onBookChanged(new BookChangedEvent(book, ChangeType.RESTORED));
+        assertThat(counter.snapshot()).isEqualTo(new BookCounts(11L, 9L, 6L));
+    }
+
+    @Test
+    @DisplayName("삭제/복원을 반복해도 재고 보유 수가 늘어나지 않음")
+    void onBookChanged_삭제복원반복_재고수유지() {
+        // Given
+        given(bookRepository.countBooks()).willReturn(new BookCounts(10L, 8L, 5L));
+        counter.reconcile();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            Boolean previousAvailable = book.getAvailable();
+            book.markAsDeleted();
+            counter.onBookChanged(new BookChangedEvent(book, ChangeType.DELETED, previousAvailable));
+            book.restore();
+            counter.onBookChanged(new BookChangedEvent(book, ChangeType.RESTORED));
+        }
+
+        // Then
+        assertThat(counter.snapshot()).isEqualTo(new BookCounts(10L, 8L, 5L));
+    }
+
+    @Test
+    @DisplayName("주기 보정 시 COUNT 결과로 카운터 덮어쓰기")
+    void reconcile_오차발생_DB값으로보정() {
+        // Given
+        given(bookRepository.countBooks())
+                .willReturn(new BookCounts(10L, 8L, 5L))
+                .willReturn(new BookCounts(12L, 9L, 7L));
+        counter.reconcile();
+        counter.onBookChanged(new BookChangedEvent(book, ChangeType.CREATED));
+
+        // When
+        counter.reconcile();
+
+        // Then
+        assertThat(counter.snapshot()).isEqualTo(new BookCounts(12L, 9L, 7L));
+    }
+
+    @Test
+    @DisplayName("COUNT 쿼리 시작 전 커밋이 쿼리 중에 반영되면 다시 세어 중복 반영하지 않음")
+    void reconcile_쿼리중변경_다시세어보정() {
+        // Given
+        given(bookRepository.countBooks())
+                .willReturn(new BookCounts(10L, 8L, 5L))
+                .willAnswer(invocation -> {
+                    // 쿼리 시작 전에 커밋되어 COUNT에 포함됐지만 이벤트는 쿼리 중에 도착
+                    counter.onBookChanged(new BookChangedEvent(book, ChangeType.CREATED));
+                    return new BookCounts(11L, 9L, 6L);
+                })
+                .willReturn(new BookCounts(11L, 9L, 6L));
+        counter.reconcile();
+
+        // When
+        counter.reconcile();
+
+        // Then
+        assertThat(counter.snapshot()).isEqualTo(new BookCounts(11L, 9L, 6L));
+        verify(bookRepository, times(3)).countBooks();
+    }
+
+    @Test
+    @DisplayName("COUNT 구간마다 변경이 겹치면 보정을 건너뛰고 증분 카운터 유지")
+    void reconcile_계속변경_증분카운터유지() {
+        // Given
+        given(bookRepository.countBooks())
+                .willReturn(new BookCounts(10L, 8L, 5L))
+                .willAnswer(invocation -> {
+                    counter.onBookChanged(new BookChangedEvent(book, ChangeType.CREATED));
+                    return new BookCounts(100L, 100L, 100L);
+                });
+        counter.reconcile();
+
+        // When
+        counter.reconcile();
+
+        // Then - 시도마다 반영된 생성 3건만 더해짐
+        assertThat(counter.snapshot()).isEqualTo(new BookCounts(13L, 11L, 8L));
+        verify(bookRepository, times(4)).countBooks();
+    }
+}